@@ -78,12 +78,18 @@ public class Config {
     // ANOMALY EFFECTS CONFIG VALUES
     // ========================================
     
+    private static final ForgeConfigSpec.IntValue ANOMALY_LOD_REDUCED_INTERVAL;
+    private static final ForgeConfigSpec.IntValue ANOMALY_HEAVY_PASS_BUDGET;
+    private static final ForgeConfigSpec.IntValue ANOMALY_PARTICLE_BUDGET;
+    
     // Gravity Anomaly
     private static final ForgeConfigSpec.BooleanValue ENABLE_GRAVITY_EFFECTS;
     private static final ForgeConfigSpec.BooleanValue ENABLE_GRAVITY_LEVITATION;
     private static final ForgeConfigSpec.DoubleValue GRAVITY_LEVITATION_RADIUS;
     private static final ForgeConfigSpec.DoubleValue GRAVITY_LEVITATION_FORCE;
     private static final ForgeConfigSpec.IntValue GRAVITY_RESEARCH_POINTS;
+    private static final ForgeConfigSpec.IntValue GRAVITY_LOD_FULL_DISTANCE;
+    private static final ForgeConfigSpec.IntValue GRAVITY_LOD_SUSPEND_DISTANCE;
     
     // Temporal Bloom
     private static final ForgeConfigSpec.BooleanValue ENABLE_TEMPORAL_EFFECTS;
@@ -94,6 +100,8 @@ public class Config {
     private static final ForgeConfigSpec.IntValue TEMPORAL_CROP_COOLDOWN;
     private static final ForgeConfigSpec.IntValue TEMPORAL_MOB_COOLDOWN;
     private static final ForgeConfigSpec.IntValue TEMPORAL_RESEARCH_POINTS;
+    private static final ForgeConfigSpec.IntValue TEMPORAL_LOD_FULL_DISTANCE;
+    private static final ForgeConfigSpec.IntValue TEMPORAL_LOD_SUSPEND_DISTANCE;
     
     // Energetic Rift
     private static final ForgeConfigSpec.BooleanValue ENABLE_ENERGETIC_EFFECTS;
@@ -105,6 +113,8 @@ public class Config {
     private static final ForgeConfigSpec.IntValue ENERGETIC_ZAP_COOLDOWN;
     private static final ForgeConfigSpec.IntValue ENERGETIC_LIGHTNING_COOLDOWN;
     private static final ForgeConfigSpec.IntValue ENERGETIC_RESEARCH_POINTS;
+    private static final ForgeConfigSpec.IntValue ENERGETIC_LOD_FULL_DISTANCE;
+    private static final ForgeConfigSpec.IntValue ENERGETIC_LOD_SUSPEND_DISTANCE;
     
     // Warp Gate
     private static final ForgeConfigSpec.BooleanValue ENABLE_WARP_EFFECTS;
@@ -112,6 +122,8 @@ public class Config {
     private static final ForgeConfigSpec.DoubleValue WARP_TELEPORT_RADIUS;
     private static final ForgeConfigSpec.IntValue WARP_TELEPORT_COOLDOWN;
     private static final ForgeConfigSpec.IntValue WARP_RESEARCH_POINTS;
+    private static final ForgeConfigSpec.IntValue WARP_LOD_FULL_DISTANCE;
+    private static final ForgeConfigSpec.IntValue WARP_LOD_SUSPEND_DISTANCE;
     
     // Echoing Shadow
     private static final ForgeConfigSpec.BooleanValue ENABLE_SHADOW_EFFECTS;
@@ -121,6 +133,8 @@ public class Config {
     private static final ForgeConfigSpec.DoubleValue SHADOW_LIGHT_ABSORPTION;
     private static final ForgeConfigSpec.DoubleValue SHADOW_MOB_SPAWN_BOOST;
     private static final ForgeConfigSpec.IntValue SHADOW_RESEARCH_POINTS;
+    private static final ForgeConfigSpec.IntValue SHADOW_LOD_FULL_DISTANCE;
+    private static final ForgeConfigSpec.IntValue SHADOW_LOD_SUSPEND_DISTANCE;
     
     // Thoughtwell
     private static final ForgeConfigSpec.BooleanValue ENABLE_THOUGHTWELL_EFFECTS;
@@ -129,6 +143,8 @@ public class Config {
     private static final ForgeConfigSpec.DoubleValue THOUGHTWELL_EFFECT_RADIUS;
     private static final ForgeConfigSpec.IntValue THOUGHTWELL_CONFUSION_DURATION;
     private static final ForgeConfigSpec.IntValue THOUGHTWELL_RESEARCH_POINTS;
+    private static final ForgeConfigSpec.IntValue THOUGHTWELL_LOD_FULL_DISTANCE;
+    private static final ForgeConfigSpec.IntValue THOUGHTWELL_LOD_SUSPEND_DISTANCE;
 
     // ========================================
     // ENERGY SYSTEM CONFIG VALUES
@@ -162,6 +178,10 @@ public class Config {
     private static final ForgeConfigSpec.IntValue RESONANT_CONDUIT_NETWORK_UPDATE_INTERVAL;
     private static final ForgeConfigSpec.IntValue RESONANT_CONDUIT_MAX_NETWORK_SIZE;
     private static final ForgeConfigSpec.DoubleValue RESONANT_CONDUIT_DISTANCE_PENALTY;
+    
+    // Machine client sync
+    private static final ForgeConfigSpec.IntValue MACHINE_SYNC_INTERVAL;
+    private static final ForgeConfigSpec.DoubleValue MACHINE_SYNC_ENERGY_THRESHOLD;
 
     // Energy display (localization)
     private static final ForgeConfigSpec.ConfigValue<String> ENERGY_UNIT_DISPLAY;
@@ -440,6 +460,17 @@ public class Config {
         BUILDER.comment("Anomaly Effects Configuration",
                 "Control the behavior and strength of anomaly effects")
                 .push("anomaly_effects");
+        ANOMALY_LOD_REDUCED_INTERVAL = BUILDER
+                .comment("Ticks between anomaly updates when the nearest player is between an anomaly's lodFullDistance and lodSuspendDistance",
+                        "Skipped ticks are caught up on the next update, so cooldowns keep their real-time length")
+                .defineInRange("lodReducedInterval", 4, 1, 20);
+        ANOMALY_HEAVY_PASS_BUDGET = BUILDER
+                .comment("Maximum heavy anomaly passes (entity queries, crop and lightning rod scans) per level per tick",
+                        "Passes over the budget are retried on the next tick, spreading the work of anomalies loaded together")
+                .defineInRange("heavyPassBudget", 8, 1, 256);
+        ANOMALY_PARTICLE_BUDGET = BUILDER
+                .comment("Maximum particles from anomaly effect bursts (zaps, teleports, crop and mob effects) sent to each player per tick")
+                .defineInRange("particleBudget", 64, 0, 1024);
         
         // Gravity Anomaly
         BUILDER.comment("Gravity Anomaly Effect Settings").push("gravity_anomaly");
@@ -458,6 +489,12 @@ public class Config {
         GRAVITY_RESEARCH_POINTS = BUILDER
                 .comment("Research points granted when scanned")
                 .defineInRange("researchPoints", 10, 1, 1000);
+        GRAVITY_LOD_FULL_DISTANCE = BUILDER
+                .comment("Players within this many blocks get full-rate updates from this anomaly")
+                .defineInRange("lodFullDistance", 48, 8, 512);
+        GRAVITY_LOD_SUSPEND_DISTANCE = BUILDER
+                .comment("With no player within this many blocks the anomaly's effects are suspended")
+                .defineInRange("lodSuspendDistance", 128, 16, 1024);
         BUILDER.pop();
         
         // Temporal Bloom
@@ -486,6 +523,12 @@ public class Config {
         TEMPORAL_RESEARCH_POINTS = BUILDER
                 .comment("Research points granted when scanned")
                 .defineInRange("researchPoints", 10, 1, 1000);
+        TEMPORAL_LOD_FULL_DISTANCE = BUILDER
+                .comment("Players within this many blocks get full-rate updates from this anomaly")
+                .defineInRange("lodFullDistance", 48, 8, 512);
+        TEMPORAL_LOD_SUSPEND_DISTANCE = BUILDER
+                .comment("With no player within this many blocks the anomaly's effects are suspended")
+                .defineInRange("lodSuspendDistance", 128, 16, 1024);
         BUILDER.pop();
         
         // Energetic Rift
@@ -517,6 +560,12 @@ public class Config {
         ENERGETIC_RESEARCH_POINTS = BUILDER
                 .comment("Research points granted when scanned")
                 .defineInRange("researchPoints", 10, 1, 1000);
+        ENERGETIC_LOD_FULL_DISTANCE = BUILDER
+                .comment("Players within this many blocks get full-rate updates from this anomaly")
+                .defineInRange("lodFullDistance", 48, 8, 512);
+        ENERGETIC_LOD_SUSPEND_DISTANCE = BUILDER
+                .comment("With no player within this many blocks the anomaly's effects are suspended")
+                .defineInRange("lodSuspendDistance", 128, 16, 1024);
         BUILDER.pop();
         
         // Warp Gate
@@ -536,6 +585,12 @@ public class Config {
         WARP_RESEARCH_POINTS = BUILDER
                 .comment("Research points granted when scanned")
                 .defineInRange("researchPoints", 10, 1, 1000);
+        WARP_LOD_FULL_DISTANCE = BUILDER
+                .comment("Players within this many blocks get full-rate updates from this anomaly")
+                .defineInRange("lodFullDistance", 48, 8, 512);
+        WARP_LOD_SUSPEND_DISTANCE = BUILDER
+                .comment("With no player within this many blocks the anomaly's effects are suspended")
+                .defineInRange("lodSuspendDistance", 128, 16, 1024);
         BUILDER.pop();
         
         // Echoing Shadow
@@ -561,6 +616,12 @@ public class Config {
         SHADOW_RESEARCH_POINTS = BUILDER
                 .comment("Research points granted when scanned")
                 .defineInRange("researchPoints", 10, 1, 1000);
+        SHADOW_LOD_FULL_DISTANCE = BUILDER
+                .comment("Players within this many blocks get full-rate updates from this anomaly")
+                .defineInRange("lodFullDistance", 48, 8, 512);
+        SHADOW_LOD_SUSPEND_DISTANCE = BUILDER
+                .comment("With no player within this many blocks the anomaly's effects are suspended")
+                .defineInRange("lodSuspendDistance", 128, 16, 1024);
         BUILDER.pop();
         
         // Thoughtwell
@@ -583,6 +644,12 @@ public class Config {
         THOUGHTWELL_RESEARCH_POINTS = BUILDER
                 .comment("Research points granted when scanned")
                 .defineInRange("researchPoints", 10, 1, 1000);
+        THOUGHTWELL_LOD_FULL_DISTANCE = BUILDER
+                .comment("Players within this many blocks get full-rate updates from this anomaly")
+                .defineInRange("lodFullDistance", 48, 8, 512);
+        THOUGHTWELL_LOD_SUSPEND_DISTANCE = BUILDER
+                .comment("With no player within this many blocks the anomaly's effects are suspended")
+                .defineInRange("lodSuspendDistance", 128, 16, 1024);
         BUILDER.pop();
         
         BUILDER.pop(); // anomaly_effects
@@ -670,6 +737,18 @@ public class Config {
                 .defineInRange("distancePenalty", 0.05, 0.0, 1.0);
         BUILDER.pop();
         
+        // Machine client sync
+        BUILDER.comment("Machine Client Sync Settings",
+                "Limits how often machines send block entity updates to nearby clients. GUI values are synced separately while the menu is open.")
+                .push("machine_sync");
+        MACHINE_SYNC_INTERVAL = BUILDER
+                .comment("Minimum ticks between client updates for a single machine (20 ticks = 1 second)")
+                .defineInRange("syncInterval", 10, 1, 200);
+        MACHINE_SYNC_ENERGY_THRESHOLD = BUILDER
+                .comment("Fraction of capacity stored energy must change by before it is re-sent (0.0 = any change, 0.01 = 1%). Empty and full are always sent.")
+                .defineInRange("energyThreshold", 0.01, 0.0, 1.0);
+        BUILDER.pop();
+        
         // Energy unit display (for tooltips and GUI)
         ENERGY_UNIT_DISPLAY = BUILDER
                 .comment("Display name for energy unit in tooltips and GUIs. RE = Resonite Energy (default), FE = Forge Energy, RF = Redstone Flux")
@@ -965,12 +1044,18 @@ public class Config {
     public static int anomalyScientistHouseWeight;
     
     // Anomaly effects
+    public static int anomalyLodReducedInterval;
+    public static int anomalyHeavyPassBudget;
+    public static int anomalyParticleBudget;
+    
     // Gravity Anomaly
     public static boolean enableGravityEffects;
     public static boolean enableGravityLevitation;
     public static double gravityLevitationRadius;
     public static double gravityLevitationForce;
     public static int gravityResearchPoints;
+    public static int gravityLodFullDistance;
+    public static int gravityLodSuspendDistance;
     
     // Temporal Bloom
     public static boolean enableTemporalEffects;
@@ -981,6 +1066,8 @@ public class Config {
     public static int temporalCropCooldown;
     public static int temporalMobCooldown;
     public static int temporalResearchPoints;
+    public static int temporalLodFullDistance;
+    public static int temporalLodSuspendDistance;
     
     // Energetic Rift
     public static boolean enableEnergeticEffects;
@@ -992,6 +1079,8 @@ public class Config {
     public static int energeticZapCooldown;
     public static int energeticLightningCooldown;
     public static int energeticResearchPoints;
+    public static int energeticLodFullDistance;
+    public static int energeticLodSuspendDistance;
     
     // Warp Gate
     public static boolean enableWarpEffects;
@@ -999,6 +1088,8 @@ public class Config {
     public static double warpTeleportRadius;
     public static int warpTeleportCooldown;
     public static int warpResearchPoints;
+    public static int warpLodFullDistance;
+    public static int warpLodSuspendDistance;
     
     // Echoing Shadow
     public static boolean enableShadowEffects;
@@ -1008,6 +1099,8 @@ public class Config {
     public static double shadowLightAbsorption;
     public static double shadowMobSpawnBoost;
     public static int shadowResearchPoints;
+    public static int shadowLodFullDistance;
+    public static int shadowLodSuspendDistance;
     
     // Thoughtwell
     public static boolean enableThoughtwellEffects;
@@ -1016,6 +1109,8 @@ public class Config {
     public static double thoughtwellEffectRadius;
     public static int thoughtwellConfusionDuration;
     public static int thoughtwellResearchPoints;
+    public static int thoughtwellLodFullDistance;
+    public static int thoughtwellLodSuspendDistance;
     
     // Energy system
     // Resonant Burner
@@ -1046,6 +1141,8 @@ public class Config {
     public static int resonantConduitNetworkUpdateInterval;
     public static int resonantConduitMaxNetworkSize;
     public static double resonantConduitDistancePenalty;
+    public static int machineSyncInterval;
+    public static double machineSyncEnergyThreshold;
     /** Display label for energy in tooltips/GUI: "RE", "FE", or "RF". */
     public static String energyUnitDisplay;
 
@@ -1168,12 +1265,18 @@ public class Config {
         anomalyScientistHouseWeight = ANOMALY_SCIENTIST_HOUSE_WEIGHT.get();
         
         // Anomaly effects
+        anomalyLodReducedInterval = ANOMALY_LOD_REDUCED_INTERVAL.get();
+        anomalyHeavyPassBudget = ANOMALY_HEAVY_PASS_BUDGET.get();
+        anomalyParticleBudget = ANOMALY_PARTICLE_BUDGET.get();
+        
         // Gravity Anomaly
         enableGravityEffects = ENABLE_GRAVITY_EFFECTS.get();
         enableGravityLevitation = ENABLE_GRAVITY_LEVITATION.get();
         gravityLevitationRadius = GRAVITY_LEVITATION_RADIUS.get();
         gravityLevitationForce = GRAVITY_LEVITATION_FORCE.get();
         gravityResearchPoints = GRAVITY_RESEARCH_POINTS.get();
+        gravityLodFullDistance = GRAVITY_LOD_FULL_DISTANCE.get();
+        gravityLodSuspendDistance = GRAVITY_LOD_SUSPEND_DISTANCE.get();
         
         // Temporal Bloom
         enableTemporalEffects = ENABLE_TEMPORAL_EFFECTS.get();
@@ -1184,6 +1287,8 @@ public class Config {
         temporalCropCooldown = TEMPORAL_CROP_COOLDOWN.get();
         temporalMobCooldown = TEMPORAL_MOB_COOLDOWN.get();
         temporalResearchPoints = TEMPORAL_RESEARCH_POINTS.get();
+        temporalLodFullDistance = TEMPORAL_LOD_FULL_DISTANCE.get();
+        temporalLodSuspendDistance = TEMPORAL_LOD_SUSPEND_DISTANCE.get();
         
         // Energetic Rift
         enableEnergeticEffects = ENABLE_ENERGETIC_EFFECTS.get();
@@ -1195,6 +1300,8 @@ public class Config {
         energeticZapCooldown = ENERGETIC_ZAP_COOLDOWN.get();
         energeticLightningCooldown = ENERGETIC_LIGHTNING_COOLDOWN.get();
         energeticResearchPoints = ENERGETIC_RESEARCH_POINTS.get();
+        energeticLodFullDistance = ENERGETIC_LOD_FULL_DISTANCE.get();
+        energeticLodSuspendDistance = ENERGETIC_LOD_SUSPEND_DISTANCE.get();
         
         // Warp Gate
         enableWarpEffects = ENABLE_WARP_EFFECTS.get();
@@ -1202,6 +1309,8 @@ public class Config {
         warpTeleportRadius = WARP_TELEPORT_RADIUS.get();
         warpTeleportCooldown = WARP_TELEPORT_COOLDOWN.get();
         warpResearchPoints = WARP_RESEARCH_POINTS.get();
+        warpLodFullDistance = WARP_LOD_FULL_DISTANCE.get();
+        warpLodSuspendDistance = WARP_LOD_SUSPEND_DISTANCE.get();
         
         // Echoing Shadow
         enableShadowEffects = ENABLE_SHADOW_EFFECTS.get();
@@ -1211,6 +1320,8 @@ public class Config {
         shadowLightAbsorption = SHADOW_LIGHT_ABSORPTION.get();
         shadowMobSpawnBoost = SHADOW_MOB_SPAWN_BOOST.get();
         shadowResearchPoints = SHADOW_RESEARCH_POINTS.get();
+        shadowLodFullDistance = SHADOW_LOD_FULL_DISTANCE.get();
+        shadowLodSuspendDistance = SHADOW_LOD_SUSPEND_DISTANCE.get();
         
         // Thoughtwell
         enableThoughtwellEffects = ENABLE_THOUGHTWELL_EFFECTS.get();
@@ -1219,6 +1330,8 @@ public class Config {
         thoughtwellEffectRadius = THOUGHTWELL_EFFECT_RADIUS.get();
         thoughtwellConfusionDuration = THOUGHTWELL_CONFUSION_DURATION.get();
         thoughtwellResearchPoints = THOUGHTWELL_RESEARCH_POINTS.get();
+        thoughtwellLodFullDistance = THOUGHTWELL_LOD_FULL_DISTANCE.get();
+        thoughtwellLodSuspendDistance = THOUGHTWELL_LOD_SUSPEND_DISTANCE.get();
         
         // Energy system
         // Resonant Burner
@@ -1249,6 +1362,8 @@ public class Config {
         resonantConduitNetworkUpdateInterval = RESONANT_CONDUIT_NETWORK_UPDATE_INTERVAL.get();
         resonantConduitMaxNetworkSize = RESONANT_CONDUIT_MAX_NETWORK_SIZE.get();
         resonantConduitDistancePenalty = RESONANT_CONDUIT_DISTANCE_PENALTY.get();
+        machineSyncInterval = MACHINE_SYNC_INTERVAL.get();
+        machineSyncEnergyThreshold = MACHINE_SYNC_ENERGY_THRESHOLD.get();
         String rawUnit = ENERGY_UNIT_DISPLAY.get();
         energyUnitDisplay = (rawUnit != null && (rawUnit.equals("FE") || rawUnit.equals("RF"))) ? rawUnit : "RE";
         
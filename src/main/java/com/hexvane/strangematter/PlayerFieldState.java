@@ -0,0 +1,192 @@
+package com.hexvane.strangematter;
+
+import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
+import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
+import net.minecraft.core.Direction;
+import net.minecraft.world.entity.player.Player;
+import net.minecraftforge.common.capabilities.AutoRegisterCapability;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.CapabilityManager;
+import net.minecraftforge.common.capabilities.CapabilityToken;
+import net.minecraftforge.common.capabilities.ICapabilityProvider;
+import net.minecraftforge.common.util.LazyOptional;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Field effects currently acting on a player: gravity force (levitation, positive up / negative down),
+ * time dilation slowdown and hoverboard dismount tracking.
+ * Every effect source (a gravity anomaly, levitation pad or time dilation block) sets its own contribution
+ * under its own key, so overlapping sources don't clear each other and always combine the same way:
+ * the strongest gravity force wins (upward on ties) and the strongest slowdown wins.
+ * The state lives on the player object, so the client and integrated server players each have their own
+ * copy and are only touched from their own thread. Server changes are sent to the client (see
+ * PlayerFieldStateEventHandler) when a field starts or stops acting on the player or a value drifts more than
+ * {@link #SYNC_EPSILON} from what the client last received; the client eases its gravity towards each update.
+ */
+@AutoRegisterCapability
+public class PlayerFieldState {
+
+    public static final Capability<PlayerFieldState> CAPABILITY = CapabilityManager.get(new CapabilityToken<>(){});
+
+    // Gravity anomaly force follows the player's distance, so it changes a little almost every tick
+    public static final double SYNC_EPSILON = 0.05;
+    // Fraction of the remaining gap the client closes each tick
+    private static final double CLIENT_EASE = 0.5;
+
+    private final Object2DoubleOpenHashMap<Object> gravitySources = new Object2DoubleOpenHashMap<>();
+    private final Object2DoubleOpenHashMap<Object> slowdownSources = new Object2DoubleOpenHashMap<>();
+
+    private double gravityForce = 0.0;
+    private double slowdownFactor = 1.0;
+    private boolean syncPending = false;
+    private double syncedGravityForce = 0.0;
+    private double syncedSlowdownFactor = 1.0;
+    private double targetGravityForce = 0.0;
+
+    private boolean wasRidingHoverboard = false;
+
+    public static LazyOptional<PlayerFieldState> get(Player player) {
+        return player.getCapability(CAPABILITY);
+    }
+
+    public void setGravity(Object source, double force) {
+        gravitySources.put(source, force);
+        updateGravity();
+    }
+
+    public void clearGravity(Object source) {
+        if (gravitySources.containsKey(source)) {
+            gravitySources.removeDouble(source);
+            updateGravity();
+        }
+    }
+
+    public void setSlowdown(Object source, double factor) {
+        slowdownSources.put(source, factor);
+        updateSlowdown();
+    }
+
+    public void clearSlowdown(Object source) {
+        if (slowdownSources.containsKey(source)) {
+            slowdownSources.removeDouble(source);
+            updateSlowdown();
+        }
+    }
+
+    /**
+     * Drop every source, e.g. when the player changes dimension
+     */
+    public void clearAll() {
+        gravitySources.clear();
+        slowdownSources.clear();
+        updateGravity();
+        updateSlowdown();
+    }
+
+    private void updateGravity() {
+        double combined = 0.0;
+        for (Object2DoubleMap.Entry<Object> entry : gravitySources.object2DoubleEntrySet()) {
+            double force = entry.getDoubleValue();
+            if (Math.abs(force) > Math.abs(combined) || (Math.abs(force) == Math.abs(combined) && force > combined)) {
+                combined = force;
+            }
+        }
+        gravityForce = combined;
+        if (needsSync(syncedGravityForce, combined, 0.0)) {
+            syncPending = true;
+        }
+    }
+
+    private void updateSlowdown() {
+        double combined = 1.0;
+        for (Object2DoubleMap.Entry<Object> entry : slowdownSources.object2DoubleEntrySet()) {
+            combined = Math.min(combined, entry.getDoubleValue());
+        }
+        slowdownFactor = combined;
+        if (needsSync(syncedSlowdownFactor, combined, 1.0)) {
+            syncPending = true;
+        }
+    }
+
+    /**
+     * Entering or leaving a field, flipping direction or drifting past the epsilon
+     */
+    private static boolean needsSync(double synced, double current, double neutral) {
+        if ((synced == neutral) != (current == neutral)) return true;
+        if (Math.signum(synced - neutral) != Math.signum(current - neutral)) return true;
+        return Math.abs(current - synced) > SYNC_EPSILON;
+    }
+
+    public double getGravityForce() {
+        return gravityForce;
+    }
+
+    public boolean hasGravity() {
+        return gravityForce != 0.0;
+    }
+
+    public double getSlowdownFactor() {
+        return slowdownFactor;
+    }
+
+    public boolean isSlowed() {
+        return slowdownFactor < 1.0;
+    }
+
+    /**
+     * Client side: take the combined values sent by the server. Entering, leaving or reversing a field
+     * applies straight away; smaller changes are eased in by {@link #tickClient()}.
+     */
+    public void applySync(double gravityForce, double slowdownFactor) {
+        this.targetGravityForce = gravityForce;
+        if (gravityForce == 0.0 || this.gravityForce == 0.0 || Math.signum(gravityForce) != Math.signum(this.gravityForce)) {
+            this.gravityForce = gravityForce;
+        }
+        this.slowdownFactor = slowdownFactor;
+    }
+
+    /**
+     * Client side: move the gravity force a step towards the last synced value
+     */
+    public void tickClient() {
+        double gap = targetGravityForce - gravityForce;
+        gravityForce = Math.abs(gap) < 1.0E-3 ? targetGravityForce : gravityForce + gap * CLIENT_EASE;
+    }
+
+    /**
+     * Whether the client needs an update; if so the current values count as sent
+     */
+    public boolean consumeSyncPending() {
+        if (!syncPending) return false;
+        syncPending = false;
+        syncedGravityForce = gravityForce;
+        syncedSlowdownFactor = slowdownFactor;
+        return true;
+    }
+
+    public boolean wasRidingHoverboard() {
+        return wasRidingHoverboard;
+    }
+
+    public void setWasRidingHoverboard(boolean wasRidingHoverboard) {
+        this.wasRidingHoverboard = wasRidingHoverboard;
+    }
+
+    /**
+     * Attaches a fresh, unsaved state to each player. Field effects are re-applied by their sources every
+     * tick, so there is nothing worth persisting.
+     */
+    public static class Provider implements ICapabilityProvider {
+        private final LazyOptional<PlayerFieldState> optional = LazyOptional.of(PlayerFieldState::new);
+
+        @Override
+        public @NotNull <T> LazyOptional<T> getCapability(@NotNull Capability<T> cap, @Nullable Direction side) {
+            return CAPABILITY.orEmpty(cap, optional);
+        }
+
+        public void invalidate() {
+            optional.invalidate();
+        }
+    }
+}
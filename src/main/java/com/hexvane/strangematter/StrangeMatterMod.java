@@ -748,6 +748,7 @@ public class StrangeMatterMod
         }
         ResearchCommand.register(event.getDispatcher());
         com.hexvane.strangematter.command.ResearchPointsCommand.register(event.getDispatcher());
+        com.hexvane.strangematter.command.EnergyCommand.register(event.getDispatcher());
         
         // Register test command for gravity anomaly feature
         event.getDispatcher().register(Commands.literal("test_gravity_anomaly")
@@ -7,6 +7,7 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.phys.AABB;
+import com.hexvane.strangematter.entity.AnomalyIndex;
 import com.hexvane.strangematter.entity.BaseAnomalyEntity;
 import com.hexvane.strangematter.research.ResearchType;
 import com.hexvane.strangematter.research.ScannableObjectRegistry;
@@ -57,22 +58,17 @@ public abstract class AnomalyMachineBlockEntity extends BaseMachineBlockEntity {
     protected void checkForNearbyAnomalies() {
         if (level == null) return;
         
-        BlockPos pos = this.getBlockPos();
         boolean foundAnomaly = false;
         ResearchType anomalyType = null;
         
-        for (Entity entity : level.getEntitiesOfClass(Entity.class,
-            AABB.ofSize(pos.getCenter(), detectionRadius * 2, detectionRadius * 2, detectionRadius * 2))) {
+        BaseAnomalyEntity anomaly = findNearestAnomaly();
+        if (anomaly != null) {
+            foundAnomaly = true;
             
-            if (entity instanceof BaseAnomalyEntity) {
-                foundAnomaly = true;
-                
-                // Get the research type of the anomaly
-                var scannableOpt = ScannableObjectRegistry.getScannableForEntity(entity);
-                if (scannableOpt.isPresent()) {
-                    anomalyType = scannableOpt.get().getResearchType();
-                }
-                break;
+            // Get the research type of the anomaly
+            var scannableOpt = ScannableObjectRegistry.getScannableForEntity(anomaly);
+            if (scannableOpt.isPresent()) {
+                anomalyType = scannableOpt.get().getResearchType();
             }
         }
         
@@ -101,15 +97,14 @@ public abstract class AnomalyMachineBlockEntity extends BaseMachineBlockEntity {
     protected net.minecraft.world.phys.Vec3 getNearestAnomalyPosition() {
         if (level == null || !hasNearbyAnomaly) return null;
         
-        BlockPos pos = this.getBlockPos();
-        for (Entity entity : level.getEntitiesOfClass(Entity.class,
-            AABB.ofSize(pos.getCenter(), detectionRadius * 2, detectionRadius * 2, detectionRadius * 2))) {
-            
-            if (entity instanceof BaseAnomalyEntity) {
-                return entity.position();
-            }
-        }
-        return null;
+        BaseAnomalyEntity anomaly = findNearestAnomaly();
+        return anomaly != null ? anomaly.position() : null;
+    }
+    
+    private BaseAnomalyEntity findNearestAnomaly() {
+        net.minecraft.world.phys.Vec3 center = this.getBlockPos().getCenter();
+        AABB detectionArea = AABB.ofSize(center, detectionRadius * 2, detectionRadius * 2, detectionRadius * 2);
+        return AnomalyIndex.get(level).findNearest(BaseAnomalyEntity.class, center, detectionArea, anomaly -> true).orElse(null);
     }
     
     @Override
@@ -133,6 +128,23 @@ public abstract class AnomalyMachineBlockEntity extends BaseMachineBlockEntity {
         particleSpawnRate = tag.getInt("particle_spawn_rate");
     }
     
+    @Override
+    protected void writeAdditionalStateData(net.minecraft.network.FriendlyByteBuf buffer) {
+        buffer.writeVarInt(detectionRadius);
+        buffer.writeBoolean(hasNearbyAnomaly);
+        buffer.writeVarInt(detectedAnomalyType != null ? detectedAnomalyType.ordinal() + 1 : 0);
+        buffer.writeBoolean(spawnParticles);
+    }
+    
+    @Override
+    protected void readAdditionalStateData(net.minecraft.network.FriendlyByteBuf buffer) {
+        detectionRadius = buffer.readVarInt();
+        hasNearbyAnomaly = buffer.readBoolean();
+        int anomalyType = buffer.readVarInt();
+        detectedAnomalyType = anomalyType > 0 ? ResearchType.values()[anomalyType - 1] : null;
+        spawnParticles = buffer.readBoolean();
+    }
+    
     // Getters for GUI access
     public boolean hasNearbyAnomaly() {
         return hasNearbyAnomaly;
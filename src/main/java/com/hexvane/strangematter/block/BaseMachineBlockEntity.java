@@ -15,14 +15,21 @@ import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.core.NonNullList;
 import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.inventory.ContainerData;
 import com.hexvane.strangematter.api.block.entity.IPacketHandlerTile;
+import com.hexvane.strangematter.Config;
 import com.hexvane.strangematter.StrangeMatterMod;
 import net.minecraft.network.FriendlyByteBuf;
+import com.hexvane.strangematter.network.MachineStatePacket;
+import io.netty.buffer.Unpooled;
+import java.util.Arrays;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.ForgeCapabilities;
 import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.energy.IEnergyStorage;
+import com.hexvane.strangematter.energy.CachedEnergyNeighbor;
+import com.hexvane.strangematter.energy.ConduitNetworkManager;
 import com.hexvane.strangematter.energy.ResonanceEnergyStorage;
 
 /**
@@ -39,6 +46,7 @@ public abstract class BaseMachineBlockEntity extends BlockEntity implements Cont
     // Energy system
     protected final ResonanceEnergyStorage energyStorage;
     protected final LazyOptional<IEnergyStorage> energyOptional;
+    protected final CachedEnergyNeighbor[] energyNeighbors;
     protected int energyPerTick = 1;
     protected int maxEnergyStorage = 1000;
     protected boolean[] energyInputSides = {true, true, true, true, true, true}; // All sides by default
@@ -52,6 +60,37 @@ public abstract class BaseMachineBlockEntity extends BlockEntity implements Cont
     protected final NonNullList<ItemStack> items;
     protected final int inventorySize;
     
+    // Idle sleep (opt-in through getIdleSleepTicks): the server tick returns immediately until this game time
+    protected static final int STAY_AWAKE = 0;
+    protected static final int SLEEP_UNTIL_WOKEN = -1;
+    private long sleepUntilTick = 0;
+    // Set when the role-based transfer moved energy this tick, so idle checks don't put a busy machine to sleep
+    protected boolean energyTransferredThisTick = false;
+    
+    // Coalesced client sync - flushed once per tick by the level's MachineSyncScheduler
+    private boolean clientSyncQueued = false;
+    // Active flag, progress and other state packet fields changed; sent as a MachineStatePacket delta
+    private boolean stateSyncPending = false;
+    // Items changed; only these need the full block entity update packet
+    private boolean inventorySyncPending = false;
+    private long lastClientSyncTick = Long.MIN_VALUE;
+    private int lastSyncedEnergy = -1;
+    
+    // MachineStatePacket field bits - a packet carries only the fields set in its mask
+    private static final int STATE_ENERGY = 1;
+    private static final int STATE_CAPACITY = 1 << 1;
+    private static final int STATE_ACTIVE = 1 << 2;
+    private static final int STATE_ADDITIONAL = 1 << 3;
+    private static final int STATE_ALL = STATE_ENERGY | STATE_CAPACITY | STATE_ACTIVE | STATE_ADDITIONAL;
+    // Not a field: carries the active flag's value when STATE_ACTIVE is set
+    private static final int STATE_ACTIVE_VALUE = 1 << 4;
+    
+    // Last state sent to tracking players; deltas are computed against these
+    private int sentEnergy = -1;
+    private int sentCapacity = -1;
+    private boolean sentActive = false;
+    private byte[] sentAdditionalState = null;
+    
     // Container data for GUI synchronization
     protected final ContainerData dataAccess = new ContainerData() {
         @Override
@@ -93,6 +132,8 @@ public abstract class BaseMachineBlockEntity extends BlockEntity implements Cont
         this.items = NonNullList.withSize(inventorySize, ItemStack.EMPTY);
         this.energyStorage = new ResonanceEnergyStorage(maxEnergyStorage, 1000, 1000);
         this.energyOptional = LazyOptional.of(() -> this.energyStorage);
+        this.energyNeighbors = CachedEnergyNeighbor.forAllSides(pos);
+        this.energyStorage.setStateChangeListener(this::onEnergyStateChanged);
     }
     
     /**
@@ -101,11 +142,16 @@ public abstract class BaseMachineBlockEntity extends BlockEntity implements Cont
     public static void tick(Level level, BlockPos pos, BlockState state, BaseMachineBlockEntity blockEntity) {
         // Only process energy and machine logic on server side
         if (!level.isClientSide) {
+            // Idle machines skip the whole tick until something wakes them
+            if (blockEntity.isSleeping()) return;
+            
             // Role-based energy transfer - only call appropriate methods
             blockEntity.performRoleBasedEnergyTransfer();
             
             // Process machine logic every tick
             blockEntity.processMachine();
+            
+            blockEntity.updateSleep();
         }
         
         // Handle client-side effects
@@ -124,6 +170,7 @@ public abstract class BaseMachineBlockEntity extends BlockEntity implements Cont
      * This prevents bidirectional energy flow that causes jumping energy bars.
      */
     protected void performRoleBasedEnergyTransfer() {
+        energyTransferredThisTick = false;
         MachineEnergyRole role = getEnergyRole();
         
         switch (role) {
@@ -251,8 +298,7 @@ public abstract class BaseMachineBlockEntity extends BlockEntity implements Cont
     protected boolean consumeEnergy(int amount) {
         if (energyStorage.getEnergyStored() >= amount) {
             energyStorage.extractEnergy(amount, false);
-            setChanged();
-            syncToClient();
+            syncEnergyToClient();
             return true;
         }
         return false;
@@ -263,8 +309,7 @@ public abstract class BaseMachineBlockEntity extends BlockEntity implements Cont
      */
     protected void addEnergy(int amount) {
         energyStorage.receiveEnergy(amount, false);
-        setChanged();
-        syncToClient();
+        syncEnergyToClient();
     }
     
     /**
@@ -280,40 +325,34 @@ public abstract class BaseMachineBlockEntity extends BlockEntity implements Cont
     protected void tryReceiveEnergy() {
         if (level == null || level.isClientSide) return;
         
-        final boolean[] energyChanged = {false};
-        int initialEnergy = energyStorage.getEnergyStored();
+        boolean energyChanged = false;
         
         for (Direction direction : Direction.values()) {
-            if (energyInputSides[direction.ordinal()]) {
-                BlockPos adjacentPos = worldPosition.relative(direction);
-                BlockEntity adjacentEntity = level.getBlockEntity(adjacentPos);
-                
-                if (adjacentEntity != null) {
-                    adjacentEntity.getCapability(ForgeCapabilities.ENERGY, direction.getOpposite()).ifPresent(adjacentStorage -> {
-                        if (adjacentStorage.canExtract() && energyStorage.canReceive()) {
-                            // Check if the adjacent entity should be able to send energy to us
-                            if (canReceiveEnergyFrom(adjacentEntity)) {
-                                int transferRate = getEnergyTransferRate();
-                                int energyToReceive = Math.min(energyStorage.getMaxEnergyStored() - energyStorage.getEnergyStored(), transferRate);
-                                if (energyToReceive > 0) {
-                                    int energyReceived = adjacentStorage.extractEnergy(energyToReceive, false);
-                                    if (energyReceived > 0) {
-                                        energyStorage.receiveEnergy(energyReceived, false);
-                                        setChanged();
-                                        energyChanged[0] = true;
-                                        
-                                    }
-                                }
-                            }
-                        }
-                    });
+            if (!energyInputSides[direction.ordinal()]) continue;
+            
+            CachedEnergyNeighbor neighbor = energyNeighbors[direction.ordinal()];
+            IEnergyStorage adjacentStorage = neighbor.get(level);
+            if (adjacentStorage == null || !adjacentStorage.canExtract() || !energyStorage.canReceive()) continue;
+            
+            // Check if the adjacent entity should be able to send energy to us
+            if (canReceiveEnergyFrom(neighbor.getBlockEntity())) {
+                int transferRate = getEnergyTransferRate();
+                int energyToReceive = Math.min(energyStorage.getMaxEnergyStored() - energyStorage.getEnergyStored(), transferRate);
+                if (energyToReceive > 0) {
+                    int energyReceived = adjacentStorage.extractEnergy(energyToReceive, false);
+                    if (energyReceived > 0) {
+                        energyStorage.receiveEnergy(energyReceived, false);
+                        setChanged();
+                        energyChanged = true;
+                    }
                 }
             }
         }
         
         // Only sync once at the end if energy changed
-        if (energyChanged[0]) {
-            syncToClient();
+        if (energyChanged) {
+            energyTransferredThisTick = true;
+            syncEnergyToClient();
         }
     }
     
@@ -323,40 +362,113 @@ public abstract class BaseMachineBlockEntity extends BlockEntity implements Cont
     protected void trySendEnergy() {
         if (level == null || level.isClientSide) return;
         
-        final boolean[] energyChanged = {false};
-        int initialEnergy = energyStorage.getEnergyStored();
+        boolean energyChanged = false;
         
         for (Direction direction : Direction.values()) {
-            if (energyOutputSides[direction.ordinal()]) {
-                BlockPos adjacentPos = worldPosition.relative(direction);
-                BlockEntity adjacentEntity = level.getBlockEntity(adjacentPos);
-                
-                if (adjacentEntity != null) {
-                    adjacentEntity.getCapability(ForgeCapabilities.ENERGY, direction.getOpposite()).ifPresent(adjacentStorage -> {
-                        if (adjacentStorage.canReceive() && energyStorage.canExtract()) {
-                            // Check if the adjacent entity should be able to receive energy from us
-                            if (canSendEnergyTo(adjacentEntity)) {
-                                int transferRate = getEnergyTransferRate();
-                                int energyToSend = Math.min(energyStorage.getEnergyStored(), transferRate);
-                                if (energyToSend > 0) {
-                                    int energySent = adjacentStorage.receiveEnergy(energyToSend, false);
-                                    if (energySent > 0) {
-                                        energyStorage.extractEnergy(energySent, false);
-                                        setChanged();
-                                        energyChanged[0] = true;
-                                        
-                                    }
-                                }
-                            }
-                        }
-                    });
+            if (!energyOutputSides[direction.ordinal()]) continue;
+            
+            CachedEnergyNeighbor neighbor = energyNeighbors[direction.ordinal()];
+            IEnergyStorage adjacentStorage = neighbor.get(level);
+            if (adjacentStorage == null || !adjacentStorage.canReceive() || !energyStorage.canExtract()) continue;
+            
+            // Check if the adjacent entity should be able to receive energy from us
+            if (canSendEnergyTo(neighbor.getBlockEntity())) {
+                int transferRate = getEnergyTransferRate();
+                int energyToSend = Math.min(energyStorage.getEnergyStored(), transferRate);
+                if (energyToSend > 0) {
+                    int energySent = adjacentStorage.receiveEnergy(energyToSend, false);
+                    if (energySent > 0) {
+                        energyStorage.extractEnergy(energySent, false);
+                        setChanged();
+                        energyChanged = true;
+                    }
                 }
             }
         }
         
         // Only sync once at the end if energy changed
-        if (energyChanged[0]) {
-            syncToClient();
+        if (energyChanged) {
+            energyTransferredThisTick = true;
+            syncEnergyToClient();
+        }
+    }
+    
+    /**
+     * Called by the machine block when a neighbouring block changes - drop cached neighbour capabilities
+     */
+    public void onNeighborChanged() {
+        CachedEnergyNeighbor.invalidateAll(energyNeighbors);
+        wakeUp();
+        wakeEnergyNetworks();
+    }
+    
+    /**
+     * How long to sleep after this tick's work. Machines opt in by overriding this:
+     * return {@link #STAY_AWAKE} to keep ticking, a tick count to nap (for work that polls),
+     * or {@link #SLEEP_UNTIL_WOKEN} to sleep until an inventory, energy, neighbour or menu event.
+     */
+    protected int getIdleSleepTicks() {
+        return STAY_AWAKE;
+    }
+    
+    /**
+     * Put the machine to sleep if it reports nothing to do (call at the end of a server tick)
+     */
+    protected void updateSleep() {
+        if (level == null) return;
+        
+        int ticks = getIdleSleepTicks();
+        if (ticks == SLEEP_UNTIL_WOKEN) {
+            sleepUntilTick = Long.MAX_VALUE;
+            onEnterSleep(ticks);
+        } else if (ticks > 0) {
+            sleepUntilTick = level.getGameTime() + ticks;
+            onEnterSleep(ticks);
+        }
+    }
+    
+    /**
+     * Called once the machine has been put to sleep for {@code ticks} (or {@link #SLEEP_UNTIL_WOKEN}).
+     * Override to line up polling counters with the wake-up; {@link #getIdleSleepTicks()} should stay side-effect free.
+     */
+    protected void onEnterSleep(int ticks) {
+    }
+    
+    protected boolean isSleeping() {
+        return level != null && level.getGameTime() < sleepUntilTick;
+    }
+    
+    /**
+     * Resume ticking on the next tick
+     */
+    public void wakeUp() {
+        sleepUntilTick = 0;
+    }
+    
+    /**
+     * Called when the inventory changes - wakes this machine and any dormant conduit networks next to it
+     */
+    protected void onContentsChanged() {
+        wakeUp();
+        wakeEnergyNetworks();
+        syncInventoryToClient();
+    }
+    
+    /**
+     * Called when the energy storage becomes empty/full or stops being so
+     */
+    protected void onEnergyStateChanged() {
+        wakeUp();
+        wakeEnergyNetworks();
+    }
+    
+    /**
+     * Wake any dormant conduit networks touching this machine so they re-check for energy to move.
+     * Called when the energy storage becomes empty/full (or stops being so) and when the inventory changes.
+     */
+    protected void wakeEnergyNetworks() {
+        if (level != null && !level.isClientSide) {
+            ConduitNetworkManager.getIfPresent(level).ifPresent(manager -> manager.wakeAround(worldPosition));
         }
     }
     
@@ -400,15 +512,83 @@ public abstract class BaseMachineBlockEntity extends BlockEntity implements Cont
     }
     
     /**
-     * Sync data to client for GUI updates
+     * Queue a client update for a state change (active flag, progress or other state packet fields).
+     * Changes within a tick are coalesced and sent at most once per {@code machineSyncInterval} ticks.
      */
     protected void syncToClient() {
         if (level != null && !level.isClientSide) {
             setChanged();
-            level.sendBlockUpdated(getBlockPos(), getBlockState(), getBlockState(), 2);
+            stateSyncPending = true;
+            queueClientSync();
         }
     }
     
+    /**
+     * Queue a full block entity update for an inventory change the client renders or displays.
+     * Items changed through the Container methods are queued automatically.
+     */
+    protected void syncInventoryToClient() {
+        if (level != null && !level.isClientSide) {
+            setChanged();
+            inventorySyncPending = true;
+            queueClientSync();
+        }
+    }
+    
+    private void queueClientSync() {
+        if (!clientSyncQueued && level instanceof ServerLevel serverLevel) {
+            clientSyncQueued = true;
+            MachineSyncScheduler.get(serverLevel).queue(this);
+        }
+    }
+    
+    /**
+     * Send the coalesced update if it is due.
+     *
+     * @return true if nothing is left pending, false to stay queued until the rate limit allows sending
+     */
+    boolean flushClientSync(long gameTime) {
+        if (level == null || isRemoved()) {
+            clientSyncQueued = false;
+            return true;
+        }
+        
+        if (!stateSyncPending && !inventorySyncPending && !hasSignificantEnergyChange()) {
+            clientSyncQueued = false;
+            return true;
+        }
+        
+        if (gameTime - lastClientSyncTick < Config.machineSyncInterval) {
+            return false;
+        }
+        
+        sendStatePacket();
+        // Items don't fit the state packet and still ride on the block entity update packet
+        if (inventorySyncPending) {
+            level.sendBlockUpdated(worldPosition, getBlockState(), getBlockState(), 2);
+        }
+        lastClientSyncTick = gameTime;
+        lastSyncedEnergy = energyStorage.getEnergyStored();
+        stateSyncPending = false;
+        inventorySyncPending = false;
+        clientSyncQueued = false;
+        return true;
+    }
+    
+    /**
+     * Whether stored energy moved far enough from the last synced value to be worth an update
+     */
+    private boolean hasSignificantEnergyChange() {
+        int stored = energyStorage.getEnergyStored();
+        if (stored == lastSyncedEnergy) return false;
+        
+        int capacity = energyStorage.getMaxEnergyStored();
+        if (lastSyncedEnergy < 0 || stored == 0 || stored == capacity) return true;
+        
+        int threshold = Math.max(1, (int) (capacity * Config.machineSyncEnergyThreshold));
+        return Math.abs(stored - lastSyncedEnergy) >= threshold;
+    }
+    
     // Container interface implementation
     @Override
     public int getContainerSize() {
@@ -432,11 +612,13 @@ public abstract class BaseMachineBlockEntity extends BlockEntity implements Cont
     
     @Override
     public ItemStack removeItem(int index, int count) {
+        onContentsChanged();
         return ContainerHelper.removeItem(this.items, index, count);
     }
     
     @Override
     public ItemStack removeItemNoUpdate(int index) {
+        onContentsChanged();
         return ContainerHelper.takeItem(this.items, index);
     }
     
@@ -446,6 +628,7 @@ public abstract class BaseMachineBlockEntity extends BlockEntity implements Cont
         if (stack.getCount() > this.getMaxStackSize()) {
             stack.setCount(this.getMaxStackSize());
         }
+        onContentsChanged();
     }
     
     @Override
@@ -477,6 +660,8 @@ public abstract class BaseMachineBlockEntity extends BlockEntity implements Cont
     
     @Override
     public AbstractContainerMenu createMenu(int id, net.minecraft.world.entity.player.Inventory playerInventory, Player player) {
+        // Opening the menu counts as interaction - make sure a sleeping machine is live while it's watched
+        wakeUp();
         return createMenu(id, playerInventory);
     }
     
@@ -551,28 +736,60 @@ public abstract class BaseMachineBlockEntity extends BlockEntity implements Cont
     // IPacketHandlerTile implementation
     @Override
     public FriendlyByteBuf getStatePacket(FriendlyByteBuf buffer) {
-        buffer.writeInt(energyStorage.getEnergyStored());
-        buffer.writeInt(energyStorage.getMaxEnergyStored());
-        buffer.writeBoolean(isActive);
-        writeAdditionalStateData(buffer);
+        writeState(buffer, STATE_ALL, encodeAdditionalStateData());
         return buffer;
     }
     
+    /**
+     * Apply a full or delta state packet: a varint field mask followed by only the fields it names
+     */
     @Override
     public void handleStatePacket(FriendlyByteBuf buffer) {
-        int storedEnergy = buffer.readInt();
-        int maxEnergy = buffer.readInt();
-        isActive = buffer.readBoolean();
+        int mask = buffer.readVarInt();
         
-        // Update the actual energy storage
-        energyStorage.setEnergy(storedEnergy);
-        energyStorage.setCapacity(maxEnergy);
+        if ((mask & STATE_CAPACITY) != 0) {
+            energyStorage.setCapacity(buffer.readVarInt());
+        }
+        if ((mask & STATE_ENERGY) != 0) {
+            energyStorage.setEnergy(buffer.readVarInt());
+        }
+        if ((mask & STATE_ACTIVE) != 0) {
+            isActive = (mask & STATE_ACTIVE_VALUE) != 0;
+        }
+        if ((mask & STATE_ADDITIONAL) != 0) {
+            FriendlyByteBuf additional = new FriendlyByteBuf(Unpooled.wrappedBuffer(buffer.readByteArray()));
+            readAdditionalStateData(additional);
+        }
+    }
+    
+    private void writeState(FriendlyByteBuf buffer, int mask, byte[] additional) {
+        if ((mask & STATE_ACTIVE) != 0 && isActive) {
+            mask |= STATE_ACTIVE_VALUE;
+        }
+        buffer.writeVarInt(mask);
         
-        readAdditionalStateData(buffer);
+        if ((mask & STATE_CAPACITY) != 0) {
+            buffer.writeVarInt(energyStorage.getMaxEnergyStored());
+        }
+        if ((mask & STATE_ENERGY) != 0) {
+            buffer.writeVarInt(energyStorage.getEnergyStored());
+        }
+        if ((mask & STATE_ADDITIONAL) != 0) {
+            buffer.writeByteArray(additional);
+        }
+    }
+    
+    private byte[] encodeAdditionalStateData() {
+        FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        writeAdditionalStateData(buffer);
+        byte[] bytes = new byte[buffer.readableBytes()];
+        buffer.readBytes(bytes);
+        return bytes;
     }
     
     /**
      * Override this method in subclasses to add additional data to state packets.
+     * The block is only re-sent when its bytes differ from the last packet, so prefer varints and stable ordering.
      */
     protected void writeAdditionalStateData(FriendlyByteBuf buffer) {
         // Override in subclasses
@@ -596,22 +813,47 @@ public abstract class BaseMachineBlockEntity extends BlockEntity implements Cont
     }
     
     /**
-     * Send state packet to client. Override in subclasses for additional data.
+     * Send the fields that changed since the last state packet to players tracking this chunk.
+     * Does nothing if nothing changed. Sent from the MachineSyncScheduler flush so the sync interval and energy
+     * threshold apply; open menus get exact values through ContainerData instead.
      */
     public void sendStatePacket() {
-        if (level != null && !level.isClientSide) {
-            // TODO: Implement packet sending through network system
-        }
+        if (level == null || level.isClientSide) return;
+        
+        byte[] additional = encodeAdditionalStateData();
+        int mask = 0;
+        if (energyStorage.getEnergyStored() != sentEnergy) mask |= STATE_ENERGY;
+        if (energyStorage.getMaxEnergyStored() != sentCapacity) mask |= STATE_CAPACITY;
+        if (isActive != sentActive || sentEnergy < 0) mask |= STATE_ACTIVE;
+        if (additional.length > 0 && !Arrays.equals(additional, sentAdditionalState)) mask |= STATE_ADDITIONAL;
+        if (mask == 0) return;
+        
+        FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        writeState(buffer, mask, additional);
+        MachineStatePacket.sendToTracking(this, buffer);
+        
+        sentEnergy = energyStorage.getEnergyStored();
+        sentCapacity = energyStorage.getMaxEnergyStored();
+        sentActive = isActive;
+        sentAdditionalState = additional;
     }
     
     /**
-     * Sync energy state to client - call this when energy changes
+     * Full state for players that start tracking the chunk; later changes arrive as state packet deltas
+     */
+    @Override
+    public CompoundTag getUpdateTag() {
+        return saveWithoutMetadata();
+    }
+    
+    /**
+     * Sync energy state to client - call this when energy changes.
+     * Only sent once the change passes {@code machineSyncEnergyThreshold}; the GUI reads exact values from ContainerData.
      */
     protected void syncEnergyToClient() {
         if (level != null && !level.isClientSide) {
             setChanged();
-            // Trigger block entity data sync to client
-            level.sendBlockUpdated(worldPosition, getBlockState(), getBlockState(), 2);
+            queueClientSync();
         }
     }
     
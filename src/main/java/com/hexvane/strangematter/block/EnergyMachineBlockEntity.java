@@ -122,6 +122,18 @@ public abstract class EnergyMachineBlockEntity extends BaseMachineBlockEntity {
         tag.putInt("max_energy_storage", maxEnergyStorage);
     }
     
+    @Override
+    protected void writeAdditionalStateData(net.minecraft.network.FriendlyByteBuf buffer) {
+        buffer.writeVarInt(burnTime);
+        buffer.writeVarInt(maxBurnTime);
+    }
+    
+    @Override
+    protected void readAdditionalStateData(net.minecraft.network.FriendlyByteBuf buffer) {
+        burnTime = buffer.readVarInt();
+        maxBurnTime = buffer.readVarInt();
+    }
+    
     @Override
     public void load(CompoundTag tag) {
         super.load(tag);
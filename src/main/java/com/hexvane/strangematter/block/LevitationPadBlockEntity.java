@@ -2,9 +2,7 @@ package com.hexvane.strangematter.block;
 
 import com.hexvane.strangematter.StrangeMatterMod;
 import com.hexvane.strangematter.Config;
-import com.hexvane.strangematter.GravityData;
-import com.hexvane.strangematter.network.NetworkHandler;
-import com.hexvane.strangematter.network.GravitySyncPacket;
+import com.hexvane.strangematter.PlayerFieldState;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import net.minecraft.core.BlockPos;
@@ -17,6 +15,7 @@ import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.item.FallingBlockEntity;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
 import java.util.HashSet;
@@ -42,6 +41,10 @@ public class LevitationPadBlockEntity extends BlockEntity {
     // Track affected players to clean up gravity data when they leave
     private Set<Player> affectedPlayers = new HashSet<>();
     
+    // Beam height above the pad, -1 until walked; reset when a block in the column changes (see LevitationPadColumns)
+    private int cachedMaxHeight = -1;
+    private int cachedMaxRange = -1;
+    
     public LevitationPadBlockEntity(BlockPos pos, BlockState state) {
         super(StrangeMatterMod.LEVITATION_PAD_BLOCK_ENTITY.get(), pos, state);
     }
@@ -57,9 +60,9 @@ public class LevitationPadBlockEntity extends BlockEntity {
         if (tickCounter < TICK_INTERVAL) return;
         tickCounter = 0;
         
-        if (level.getBlockState(worldPosition).getBlock() instanceof LevitationPadBlock) {
-            LevitationPadBlock block = (LevitationPadBlock) level.getBlockState(worldPosition).getBlock();
-            boolean levitateUp = level.getBlockState(worldPosition).getValue(LevitationPadBlock.LEVITATE_UP);
+        BlockState state = getBlockState();
+        if (state.getBlock() instanceof LevitationPadBlock) {
+            boolean levitateUp = state.getValue(LevitationPadBlock.LEVITATE_UP);
             
             if (levitateUp) {
                 processLevitationUp();
@@ -82,20 +85,18 @@ public class LevitationPadBlockEntity extends BlockEntity {
         );
         
         // Get all entities in the detection area
-        var entities = level.getEntitiesOfClass(Entity.class, detectionBox);
+        var entities = level.getEntitiesOfClass(Entity.class, detectionBox, LevitationPadBlockEntity::shouldAffectEntity);
         
         // Track which items and players are currently being affected
         Set<ItemEntity> currentAffectedItems = new HashSet<>();
         Set<Player> currentAffectedPlayers = new HashSet<>();
         
         for (Entity entity : entities) {
-            if (shouldAffectEntity(entity)) {
-                levitateEntityUp(entity, maxHeight);
-                if (entity instanceof ItemEntity itemEntity) {
-                    currentAffectedItems.add(itemEntity);
-                } else if (entity instanceof Player player) {
-                    currentAffectedPlayers.add(player);
-                }
+            levitateEntityUp(entity, maxHeight);
+            if (entity instanceof ItemEntity itemEntity) {
+                currentAffectedItems.add(itemEntity);
+            } else if (entity instanceof Player player) {
+                currentAffectedPlayers.add(player);
             }
         }
         
@@ -109,20 +110,7 @@ public class LevitationPadBlockEntity extends BlockEntity {
         
         // Clean up gravity data for players that are no longer being affected
         affectedPlayers.removeAll(currentAffectedPlayers);
-        for (Player player : affectedPlayers) {
-            if (player.isAlive()) {
-                GravityData.removePlayerGravityForce(player.getUUID());
-                player.getPersistentData().remove("strangematter.gravity_force");
-                
-                // Send packet to clear gravity force on client
-                if (!level.isClientSide) {
-                    NetworkHandler.INSTANCE.send(
-                        net.minecraftforge.network.PacketDistributor.PLAYER.with(() -> (net.minecraft.server.level.ServerPlayer) player), 
-                        new GravitySyncPacket(0.0) // Send 0 to clear the effect
-                    );
-                }
-            }
-        }
+        clearPlayerGravity(affectedPlayers);
         
         // Update the sets of affected entities
         affectedItems = currentAffectedItems;
@@ -139,20 +127,18 @@ public class LevitationPadBlockEntity extends BlockEntity {
         );
         
         // Get all entities in the detection area
-        var entities = level.getEntitiesOfClass(Entity.class, detectionBox);
+        var entities = level.getEntitiesOfClass(Entity.class, detectionBox, LevitationPadBlockEntity::shouldAffectEntity);
         
         // Track which items and players are currently being affected
         Set<ItemEntity> currentAffectedItems = new HashSet<>();
         Set<Player> currentAffectedPlayers = new HashSet<>();
         
         for (Entity entity : entities) {
-            if (shouldAffectEntity(entity)) {
-                levitateEntityDown(entity);
-                if (entity instanceof ItemEntity itemEntity) {
-                    currentAffectedItems.add(itemEntity);
-                } else if (entity instanceof Player player) {
-                    currentAffectedPlayers.add(player);
-                }
+            levitateEntityDown(entity);
+            if (entity instanceof ItemEntity itemEntity) {
+                currentAffectedItems.add(itemEntity);
+            } else if (entity instanceof Player player) {
+                currentAffectedPlayers.add(player);
             }
         }
         
@@ -166,29 +152,59 @@ public class LevitationPadBlockEntity extends BlockEntity {
         
         // Clean up gravity data for players that are no longer being affected
         affectedPlayers.removeAll(currentAffectedPlayers);
-        for (Player player : affectedPlayers) {
-            if (player.isAlive()) {
-                GravityData.removePlayerGravityForce(player.getUUID());
-                player.getPersistentData().remove("strangematter.gravity_force");
-                
-                // Send packet to clear gravity force on client
-                if (!level.isClientSide) {
-                    NetworkHandler.INSTANCE.send(
-                        net.minecraftforge.network.PacketDistributor.PLAYER.with(() -> (net.minecraft.server.level.ServerPlayer) player), 
-                        new GravitySyncPacket(0.0) // Send 0 to clear the effect
-                    );
-                }
-            }
-        }
+        clearPlayerGravity(affectedPlayers);
         
         // Update the sets of affected entities
         affectedItems = currentAffectedItems;
         affectedPlayers = currentAffectedPlayers;
     }
     
+    private void clearPlayerGravity(Set<Player> players) {
+        for (Player player : players) {
+            PlayerFieldState.get(player).ifPresent(state -> state.clearGravity(worldPosition));
+        }
+    }
+    
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        if (level instanceof ServerLevel serverLevel) {
+            LevitationPadColumns.get(serverLevel).add(this);
+        }
+    }
+    
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        if (level != null && !level.isClientSide) {
+            LevitationPadColumns.getIfPresent(level).ifPresent(columns -> columns.remove(this));
+        }
+        // Don't leave players floating when the pad is broken or unloaded under them
+        clearPlayerGravity(affectedPlayers);
+        affectedPlayers.clear();
+    }
+    
+    /**
+     * A block at the given height changed in this pad's column
+     */
+    void onColumnBlockChanged(int y) {
+        if (y > worldPosition.getY() && y <= worldPosition.getY() + Math.max(cachedMaxRange, 0)) {
+            cachedMaxHeight = -1;
+        }
+    }
+    
     private int findMaxHeight() {
         if (level == null) return Config.levitationPadMaxHeight;
         
+        if (cachedMaxHeight >= 0 && cachedMaxRange == Config.levitationPadMaxHeight) {
+            return cachedMaxHeight;
+        }
+        cachedMaxRange = Config.levitationPadMaxHeight;
+        cachedMaxHeight = walkColumnHeight();
+        return cachedMaxHeight;
+    }
+    
+    private int walkColumnHeight() {
         BlockPos currentPos = worldPosition.above();
         int height = 0;
         int maxRange = Config.levitationPadMaxHeight;
@@ -228,9 +244,9 @@ public class LevitationPadBlockEntity extends BlockEntity {
         return height;
     }
     
-    private boolean shouldAffectEntity(Entity entity) {
-        // Don't affect block entities (this shouldn't happen but just in case)
-        if (entity.getClass().getSimpleName().contains("BlockEntity")) return false;
+    private static boolean shouldAffectEntity(Entity entity) {
+        // Don't affect falling blocks
+        if (entity instanceof FallingBlockEntity) return false;
         
         // Don't affect players in creative mode unless they want to be affected
         if (entity instanceof Player player) {
@@ -258,16 +274,8 @@ public class LevitationPadBlockEntity extends BlockEntity {
         if (entity instanceof Player player) {
             // Use the same system as Gravity Anomaly - store gravity force data
             double forceMultiplier = Math.min(1.0, moveDistance / LEVITATION_SPEED);
-            GravityData.setPlayerGravityForce(player.getUUID(), forceMultiplier);
-            player.getPersistentData().putDouble("strangematter.gravity_force", forceMultiplier);
-            
-            // Send packet to client for synchronization
-            if (!level.isClientSide) {
-                NetworkHandler.INSTANCE.send(
-                    net.minecraftforge.network.PacketDistributor.PLAYER.with(() -> (net.minecraft.server.level.ServerPlayer) player), 
-                    new GravitySyncPacket(forceMultiplier)
-                );
-            }
+            // Keyed by this pad so neighbouring pads and anomalies don't overwrite each other
+            PlayerFieldState.get(player).ifPresent(state -> state.setGravity(worldPosition, forceMultiplier));
             
         } else if (entity instanceof ItemEntity itemEntity) {
             // For items, remove all momentum and center them in the beam with gentle floating
@@ -322,16 +330,7 @@ public class LevitationPadBlockEntity extends BlockEntity {
             // Use the same system as Gravity Anomaly - store gravity force data for downward movement
             double forceMultiplier = Math.min(1.0, moveDistance / LEVITATION_SPEED_DOWN);
             // Store negative force for downward movement
-            GravityData.setPlayerGravityForce(player.getUUID(), -forceMultiplier);
-            player.getPersistentData().putDouble("strangematter.gravity_force", -forceMultiplier);
-            
-            // Send packet to client for synchronization
-            if (!level.isClientSide) {
-                NetworkHandler.INSTANCE.send(
-                    net.minecraftforge.network.PacketDistributor.PLAYER.with(() -> (net.minecraft.server.level.ServerPlayer) player), 
-                    new GravitySyncPacket(-forceMultiplier)
-                );
-            }
+            PlayerFieldState.get(player).ifPresent(state -> state.setGravity(worldPosition, -forceMultiplier));
         } else if (entity instanceof ItemEntity itemEntity) {
             // For items, remove all momentum and center them in the beam while lowering
             // Calculate center of the beam (block center)
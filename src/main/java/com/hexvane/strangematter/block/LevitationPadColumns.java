@@ -0,0 +1,74 @@
+package com.hexvane.strangematter.block;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelAccessor;
+
+import java.util.*;
+
+/**
+ * Per-level lookup of loaded levitation pads by block column (x/z).
+ * Every block change in the level is forwarded here (see ServerLevelMixin), so a pad only re-walks its
+ * beam column when something inside that column actually changed, including flag-2 updates like trapdoors
+ * opening that never send neighbour notifications.
+ */
+public class LevitationPadColumns {
+
+    private static final Map<LevelAccessor, LevitationPadColumns> COLUMNS = new HashMap<>();
+
+    private final Long2ObjectOpenHashMap<List<LevitationPadBlockEntity>> padsByColumn = new Long2ObjectOpenHashMap<>();
+
+    private LevitationPadColumns() {
+    }
+
+    public static LevitationPadColumns get(ServerLevel level) {
+        return COLUMNS.computeIfAbsent(level, l -> new LevitationPadColumns());
+    }
+
+    public static Optional<LevitationPadColumns> getIfPresent(LevelAccessor level) {
+        return Optional.ofNullable(COLUMNS.get(level));
+    }
+
+    /**
+     * Drop the lookup for a level that is being unloaded
+     */
+    public static void unload(LevelAccessor level) {
+        COLUMNS.remove(level);
+    }
+
+    void add(LevitationPadBlockEntity pad) {
+        BlockPos pos = pad.getBlockPos();
+        List<LevitationPadBlockEntity> pads = padsByColumn.computeIfAbsent(ChunkPos.asLong(pos.getX(), pos.getZ()), c -> new ArrayList<>(1));
+        if (!pads.contains(pad)) {
+            pads.add(pad);
+        }
+    }
+
+    void remove(LevitationPadBlockEntity pad) {
+        BlockPos pos = pad.getBlockPos();
+        long column = ChunkPos.asLong(pos.getX(), pos.getZ());
+        List<LevitationPadBlockEntity> pads = padsByColumn.get(column);
+        if (pads != null) {
+            pads.remove(pad);
+            if (pads.isEmpty()) {
+                padsByColumn.remove(column);
+            }
+        }
+    }
+
+    /**
+     * A block changed somewhere in the level; let the pads below it in the same column know
+     */
+    public void onBlockChanged(BlockPos pos) {
+        if (padsByColumn.isEmpty()) return;
+
+        List<LevitationPadBlockEntity> pads = padsByColumn.get(ChunkPos.asLong(pos.getX(), pos.getZ()));
+        if (pads == null) return;
+
+        for (LevitationPadBlockEntity pad : pads) {
+            pad.onColumnBlockChanged(pos.getY());
+        }
+    }
+}
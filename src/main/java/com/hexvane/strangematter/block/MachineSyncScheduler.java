@@ -0,0 +1,53 @@
+package com.hexvane.strangematter.block;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.LevelAccessor;
+
+import java.util.*;
+
+/**
+ * Per-level queue of machines with pending client updates.
+ * Machines mark themselves dirty as often as they like during a tick; the queue is flushed once at the
+ * end of the level tick, so every change in that tick goes out as at most one block entity update.
+ * Machines still inside their rate limit stay queued until they're allowed to send.
+ */
+public class MachineSyncScheduler {
+
+    private static final Map<LevelAccessor, MachineSyncScheduler> SCHEDULERS = new HashMap<>();
+
+    private final ServerLevel level;
+    private final Set<BaseMachineBlockEntity> dirty = new LinkedHashSet<>();
+
+    private MachineSyncScheduler(ServerLevel level) {
+        this.level = level;
+    }
+
+    public static MachineSyncScheduler get(ServerLevel level) {
+        return SCHEDULERS.computeIfAbsent(level, l -> new MachineSyncScheduler(level));
+    }
+
+    public static Optional<MachineSyncScheduler> getIfPresent(LevelAccessor level) {
+        return Optional.ofNullable(SCHEDULERS.get(level));
+    }
+
+    /**
+     * Drop the scheduler for a level that is being unloaded
+     */
+    public static void unload(LevelAccessor level) {
+        SCHEDULERS.remove(level);
+    }
+
+    void queue(BaseMachineBlockEntity machine) {
+        dirty.add(machine);
+    }
+
+    /**
+     * Send the coalesced update for every queued machine that is due
+     */
+    public void flush() {
+        if (dirty.isEmpty()) return;
+
+        long gameTime = level.getGameTime();
+        dirty.removeIf(machine -> machine.flushClientSync(gameTime));
+    }
+}
@@ -67,6 +67,16 @@ public class ParadoxicalEnergyCellBlock extends Block implements EntityBlock {
         return InteractionResult.sidedSuccess(level.isClientSide);
     }
     
+    @Override
+    public void neighborChanged(BlockState state, Level level, BlockPos pos, Block block, BlockPos fromPos, boolean isMoving) {
+        super.neighborChanged(state, level, pos, block, fromPos, isMoving);
+        
+        // Drop cached neighbour energy capabilities so they are re-resolved on next use
+        if (level.getBlockEntity(pos) instanceof ParadoxicalEnergyCellBlockEntity cell) {
+            cell.onNeighborChanged();
+        }
+    }
+    
     @Override
     public BlockEntity newBlockEntity(BlockPos pos, BlockState state) {
         return new ParadoxicalEnergyCellBlockEntity(pos, state);
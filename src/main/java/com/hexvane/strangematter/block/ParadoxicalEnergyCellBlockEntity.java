@@ -12,6 +12,7 @@ import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.ForgeCapabilities;
 import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.energy.IEnergyStorage;
+import com.hexvane.strangematter.energy.CachedEnergyNeighbor;
 import com.hexvane.strangematter.energy.ResonanceEnergyStorage;
 import com.hexvane.strangematter.StrangeMatterMod;
 
@@ -23,12 +24,14 @@ public class ParadoxicalEnergyCellBlockEntity extends BlockEntity {
     
     private final ResonanceEnergyStorage energyStorage;
     private final LazyOptional<IEnergyStorage> energyOptional;
+    private final CachedEnergyNeighbor[] energyNeighbors;
     
     public ParadoxicalEnergyCellBlockEntity(BlockPos pos, BlockState state) {
         super(StrangeMatterMod.PARADOXICAL_ENERGY_CELL_BLOCK_ENTITY.get(), pos, state);
         // Create infinite energy storage
         this.energyStorage = new ResonanceEnergyStorage(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
         this.energyOptional = LazyOptional.of(() -> this.energyStorage);
+        this.energyNeighbors = CachedEnergyNeighbor.forAllSides(pos);
     }
     
     public static void tick(Level level, BlockPos pos, BlockState state, ParadoxicalEnergyCellBlockEntity blockEntity) {
@@ -44,29 +47,30 @@ public class ParadoxicalEnergyCellBlockEntity extends BlockEntity {
     private void distributeEnergy() {
         if (level == null) return;
         
-        for (Direction direction : Direction.values()) {
-            BlockPos adjacentPos = worldPosition.relative(direction);
-            BlockEntity adjacentEntity = level.getBlockEntity(adjacentPos);
+        int transferRate = com.hexvane.strangematter.Config.paradoxicalCellTransferRate;
+        for (CachedEnergyNeighbor neighbor : energyNeighbors) {
+            IEnergyStorage adjacentStorage = neighbor.get(level);
+            if (adjacentStorage == null || !adjacentStorage.canReceive()) continue;
             
-            if (adjacentEntity != null) {
-                adjacentEntity.getCapability(ForgeCapabilities.ENERGY, direction.getOpposite()).ifPresent(adjacentStorage -> {
-                    if (adjacentStorage.canReceive()) {
-                        // Try to transfer energy
-                        int transferRate = com.hexvane.strangematter.Config.paradoxicalCellTransferRate;
-                        int energyToTransfer = Math.min(transferRate, adjacentStorage.getMaxEnergyStored() - adjacentStorage.getEnergyStored());
-                        if (energyToTransfer > 0) {
-                            int energyTransferred = adjacentStorage.receiveEnergy(energyToTransfer, false);
-                            if (energyTransferred > 0) {
-                                // Energy was transferred successfully
-                                setChanged();
-                            }
-                        }
-                    }
-                });
+            // Try to transfer energy
+            int energyToTransfer = Math.min(transferRate, adjacentStorage.getMaxEnergyStored() - adjacentStorage.getEnergyStored());
+            if (energyToTransfer > 0) {
+                int energyTransferred = adjacentStorage.receiveEnergy(energyToTransfer, false);
+                if (energyTransferred > 0) {
+                    // Energy was transferred successfully
+                    setChanged();
+                }
             }
         }
     }
     
+    /**
+     * Called by the block when a neighbouring block changes - drop cached neighbour capabilities
+     */
+    public void onNeighborChanged() {
+        CachedEnergyNeighbor.invalidateAll(energyNeighbors);
+    }
+    
     @Override
     public <T> LazyOptional<T> getCapability(Capability<T> cap, Direction side) {
         if (cap == ForgeCapabilities.ENERGY) {
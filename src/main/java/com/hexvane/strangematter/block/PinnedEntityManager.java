@@ -0,0 +1,163 @@
+package com.hexvane.strangematter.block;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.*;
+
+/**
+ * Per-level registry of entities held in place by Stasis Projectors.
+ * A captured entity is frozen once (no gravity, no AI, no pickup or despawn) and then left alone: it is only
+ * moved back, which sends a single position update, if something pushed it further than its tolerance from
+ * its anchor. The idle bob and spin are drawn client-side by the projector, so a held entity normally
+ * produces no movement traffic at all. Pins outlive their entity being unloaded and re-attach when the entity
+ * joins the level again (see PinnedEntityEventHandler), so projectors never poll for it by UUID.
+ */
+public class PinnedEntityManager {
+
+    private static final Map<LevelAccessor, PinnedEntityManager> MANAGERS = new HashMap<>();
+
+    private final Map<UUID, Pin> pins = new HashMap<>();
+
+    private PinnedEntityManager() {
+    }
+
+    public static PinnedEntityManager get(ServerLevel level) {
+        return MANAGERS.computeIfAbsent(level, l -> new PinnedEntityManager());
+    }
+
+    public static Optional<PinnedEntityManager> getIfPresent(LevelAccessor level) {
+        return Optional.ofNullable(MANAGERS.get(level));
+    }
+
+    /**
+     * Drop the registry for a level that is being unloaded
+     */
+    public static void unload(LevelAccessor level) {
+        MANAGERS.remove(level);
+    }
+
+    /**
+     * Capture a loaded entity: move it to the anchor and freeze it
+     */
+    public void pin(Entity entity, Vec3 anchor, double tolerance) {
+        Pin pin = new Pin(anchor, tolerance);
+        pins.put(entity.getUUID(), pin);
+        pin.attach(entity);
+        entity.teleportTo(anchor.x, anchor.y, anchor.z);
+    }
+
+    /**
+     * Re-register a pin saved by a projector; the entity is attached when it is (or already was) loaded
+     */
+    public void restore(ServerLevel level, UUID id, Vec3 anchor, double tolerance) {
+        Pin pin = pins.computeIfAbsent(id, i -> new Pin(anchor, tolerance));
+        if (pin.entity == null) {
+            Entity entity = level.getEntity(id);
+            if (entity != null) {
+                pin.attach(entity);
+            }
+        }
+    }
+
+    /**
+     * Stop tracking a pin without unfreezing the entity, e.g. when the projector's chunk unloads
+     */
+    public void forget(UUID id) {
+        pins.remove(id);
+    }
+
+    /**
+     * Stop tracking a pin and hand back its entity (if loaded) so the projector can unfreeze it
+     */
+    public Entity release(UUID id) {
+        Pin pin = pins.remove(id);
+        return pin != null ? pin.entity : null;
+    }
+
+    /**
+     * The pinned entity with this id, or null if it isn't loaded
+     */
+    public Entity getEntity(UUID id) {
+        Pin pin = pins.get(id);
+        return pin != null ? pin.entity : null;
+    }
+
+    public boolean isPinned(UUID id) {
+        return pins.containsKey(id);
+    }
+
+    public void onEntityJoin(Entity entity) {
+        if (pins.isEmpty()) return;
+
+        Pin pin = pins.get(entity.getUUID());
+        if (pin != null) {
+            pin.attach(entity);
+            // Not in the level yet, so just place it; nobody is tracking it
+            entity.moveTo(pin.anchor.x, pin.anchor.y, pin.anchor.z);
+        }
+    }
+
+    public void onEntityLeave(Entity entity) {
+        if (pins.isEmpty()) return;
+
+        Pin pin = pins.get(entity.getUUID());
+        if (pin != null && pin.entity == entity) {
+            if (entity.getRemovalReason() == Entity.RemovalReason.UNLOADED_TO_CHUNK) {
+                // Saved with its chunk; re-attached when it loads again
+                pin.entity = null;
+            } else {
+                // Killed, picked up, merged or gone to another dimension
+                pins.remove(entity.getUUID());
+            }
+        }
+    }
+
+    /**
+     * Put back anything that was pushed out of place this tick
+     */
+    public void tick() {
+        for (Pin pin : pins.values()) {
+            Entity entity = pin.entity;
+            if (entity == null || entity.isRemoved()) continue;
+
+            if (!entity.getDeltaMovement().equals(Vec3.ZERO)) {
+                entity.setDeltaMovement(Vec3.ZERO);
+            }
+            if (entity.position().distanceToSqr(pin.anchor) > pin.tolerance * pin.tolerance) {
+                entity.teleportTo(pin.anchor.x, pin.anchor.y, pin.anchor.z);
+            }
+        }
+    }
+
+    private static class Pin {
+        private final Vec3 anchor;
+        private final double tolerance;
+        private Entity entity;
+
+        private Pin(Vec3 anchor, double tolerance) {
+            this.anchor = anchor;
+            this.tolerance = tolerance;
+        }
+
+        private void attach(Entity entity) {
+            this.entity = entity;
+            entity.setDeltaMovement(Vec3.ZERO);
+            entity.setNoGravity(true);
+            if (entity instanceof ItemEntity item) {
+                item.setNeverPickUp(); // Can't be picked up
+                item.setUnlimitedLifetime(); // Prevent despawning
+            } else {
+                entity.setInvulnerable(true);
+            }
+            if (entity instanceof Mob mob) {
+                mob.setNoAi(true);
+                mob.setPersistenceRequired(); // Prevent despawning
+            }
+        }
+    }
+}
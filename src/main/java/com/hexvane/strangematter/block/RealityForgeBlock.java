@@ -71,6 +71,16 @@ public class RealityForgeBlock extends Block implements EntityBlock {
         return net.minecraft.world.level.block.RenderShape.MODEL;
     }
     
+    @Override
+    public void neighborChanged(BlockState state, Level level, BlockPos pos, Block block, BlockPos fromPos, boolean isMoving) {
+        super.neighborChanged(state, level, pos, block, fromPos, isMoving);
+        
+        // Drop cached neighbour energy capabilities so they are re-resolved on next use
+        if (level.getBlockEntity(pos) instanceof BaseMachineBlockEntity machine) {
+            machine.onNeighborChanged();
+        }
+    }
+    
     @Override
     public BlockEntity newBlockEntity(BlockPos pos, BlockState state) {
         return StrangeMatterMod.REALITY_FORGE_BLOCK_ENTITY.get().create(pos, state);
@@ -3,6 +3,7 @@ package com.hexvane.strangematter.block;
 import com.hexvane.strangematter.StrangeMatterMod;
 import com.hexvane.strangematter.recipe.RealityForgeRecipe;
 import com.hexvane.strangematter.recipe.RealityForgeRecipeRegistry;
+import com.hexvane.strangematter.recipe.ShardType;
 import com.hexvane.strangematter.energy.ResonanceEnergyStorage;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
@@ -17,9 +18,9 @@ public class RealityForgeBlockEntity extends BaseMachineBlockEntity {
     
     // Note: BaseMachineBlockEntity provides inventory management through the 'items' field
     
-    // Shard tracking
-    private final Map<String, Integer> storedShards = new HashMap<>();
-    private final List<String> shardOrder = new ArrayList<>();
+    // Shard tracking: count per ShardType ordinal, plus the order types were first inserted (for the GUI)
+    private final int[] storedShards = new int[ShardType.COUNT];
+    private final List<ShardType> shardOrder = new ArrayList<>(ShardType.COUNT);
     
     // Synchronized shard count (like burnTime in ResonantBurner)
     private int totalShardCount = 0;
@@ -39,6 +40,11 @@ public class RealityForgeBlockEntity extends BaseMachineBlockEntity {
     // Store the recipe being crafted
     private RealityForgeRecipe currentRecipe = null;
     
+    // Recipe lookup: last match is tried first, and grid changes are folded into one lookup per tick
+    private RealityForgeRecipe lastMatchedRecipe = null;
+    private long lastCraftCheckTick = Long.MIN_VALUE;
+    private boolean craftCheckPending = false;
+    
     // Track the current player using the forge for research requirement checks
     private Player currentPlayer = null;
     
@@ -56,7 +62,7 @@ public class RealityForgeBlockEntity extends BaseMachineBlockEntity {
                 case 5 -> progressLevel;
                 case 6 -> maxProgressLevel;
                 // Reality Forge specific data (indexes 7-11)
-                case 7 -> storedShards.size(); // Number of shard types
+                case 7 -> shardOrder.size();   // Number of shard types
                 case 8 -> totalShardCount;     // Total number of shards (synchronized)
                 case 9 -> isCrafting ? 1 : 0;  // Crafting state
                 case 10 -> craftTicks;          // Craft progress
@@ -77,13 +83,12 @@ public class RealityForgeBlockEntity extends BaseMachineBlockEntity {
                 case 5 -> progressLevel = value;
                 case 6 -> maxProgressLevel = value;
                 // Reality Forge specific data
-                case 7 -> { /* storedShards.size() - sync handled by case 8 */ }
+                case 7 -> { /* shardOrder.size() - sync handled by case 8 */ }
                 case 8 -> {
                     totalShardCount = value; // Update synchronized shard count
                     // If totalShardCount is 0, clear all shards (client-side sync)
                     if (value == 0) {
-                        storedShards.clear();
-                        shardOrder.clear();
+                        clearShards();
                     }
                 }
                 case 9 -> isCrafting = value != 0;
@@ -158,6 +163,14 @@ public class RealityForgeBlockEntity extends BaseMachineBlockEntity {
     
         // Static tick method for server-side ticking
     public static void tick(Level level, BlockPos pos, BlockState state, RealityForgeBlockEntity blockEntity) {
+        // An idle forge sleeps until an item or interaction starts a craft
+        if (!level.isClientSide && blockEntity.isSleeping()) return;
+        
+        // Run a craft check deferred from an earlier grid change this tick (e.g. a shift-clicked stack)
+        if (blockEntity.craftCheckPending) {
+            blockEntity.attemptCraft();
+        }
+        
         if (blockEntity.isCrafting) {
             blockEntity.craftTicks++;
 
@@ -178,6 +191,15 @@ public class RealityForgeBlockEntity extends BaseMachineBlockEntity {
                 }
             }
         }
+        
+        if (!level.isClientSide) {
+            blockEntity.updateSleep();
+        }
+    }
+    
+    @Override
+    protected int getIdleSleepTicks() {
+        return isCrafting || craftCheckPending ? STAY_AWAKE : SLEEP_UNTIL_WOKEN;
     }
     
     @Override
@@ -206,19 +228,13 @@ public class RealityForgeBlockEntity extends BaseMachineBlockEntity {
         tag.putInt("craftTicks", craftTicks);
         tag.putBoolean("isCrafting", isCrafting);
         
-        // Save shard data
-        CompoundTag shardTag = new CompoundTag();
-        for (Map.Entry<String, Integer> entry : storedShards.entrySet()) {
-            shardTag.putInt(entry.getKey(), entry.getValue());
-        }
-        tag.put("storedShards", shardTag);
-        
-        // Save shard order
-        net.minecraft.nbt.ListTag shardOrderTag = new net.minecraft.nbt.ListTag();
-        for (String shard : shardOrder) {
-            shardOrderTag.add(net.minecraft.nbt.StringTag.valueOf(shard));
+        // Save shard counts (by ShardType ordinal) and insertion order
+        tag.putIntArray("shardCounts", storedShards);
+        byte[] order = new byte[shardOrder.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = (byte) shardOrder.get(i).ordinal();
         }
-        tag.put("shardOrder", shardOrderTag);
+        tag.putByteArray("shardOrderIds", order);
     }
     
     @Override
@@ -228,41 +244,66 @@ public class RealityForgeBlockEntity extends BaseMachineBlockEntity {
         isCrafting = tag.getBoolean("isCrafting");
         
         // Load shard data
-        if (tag.contains("storedShards")) {
-            CompoundTag shardTag = tag.getCompound("storedShards");
-            storedShards.clear();
-            for (String key : shardTag.getAllKeys()) {
-                storedShards.put(key, shardTag.getInt(key));
-            }
+        if (tag.contains("shardCounts", net.minecraft.nbt.Tag.TAG_INT_ARRAY)) {
+            int[] counts = tag.getIntArray("shardCounts");
+            Arrays.fill(storedShards, 0);
+            System.arraycopy(counts, 0, storedShards, 0, Math.min(counts.length, ShardType.COUNT));
+            readShardOrder(tag.getByteArray("shardOrderIds"));
+        } else if (tag.contains("storedShards")) {
+            loadLegacyShards(tag);
         }
         
-        // Load shard order
-        if (tag.contains("shardOrder")) {
-            shardOrder.clear();
-            net.minecraft.nbt.ListTag shardOrderTag = tag.getList("shardOrder", net.minecraft.nbt.Tag.TAG_STRING);
-            for (int i = 0; i < shardOrderTag.size(); i++) {
-                shardOrder.add(shardOrderTag.getString(i));
+        // Recalculate total shard count after loading
+        totalShardCount = Arrays.stream(storedShards).sum();
+    }
+    
+    // Forges saved before shards were stored by type: name -> count compound plus a list of names
+    private void loadLegacyShards(CompoundTag tag) {
+        Arrays.fill(storedShards, 0);
+        shardOrder.clear();
+        
+        CompoundTag shardTag = tag.getCompound("storedShards");
+        for (String key : shardTag.getAllKeys()) {
+            ShardType type = ShardType.byName(key);
+            if (type != null) {
+                storedShards[type.ordinal()] += shardTag.getInt(key);
             }
         }
-        
-        // Recalculate total shard count after loading
-        totalShardCount = 0;
-        for (int count : storedShards.values()) {
-            totalShardCount += count;
+        net.minecraft.nbt.ListTag shardOrderTag = tag.getList("shardOrder", net.minecraft.nbt.Tag.TAG_STRING);
+        for (int i = 0; i < shardOrderTag.size(); i++) {
+            ShardType type = ShardType.byName(shardOrderTag.getString(i));
+            if (type != null && !shardOrder.contains(type)) {
+                shardOrder.add(type);
+            }
+        }
+    }
+    
+    private void readShardOrder(byte[] order) {
+        shardOrder.clear();
+        for (byte ordinal : order) {
+            ShardType type = ShardType.byOrdinal(ordinal);
+            if (type != null && !shardOrder.contains(type)) {
+                shardOrder.add(type);
+            }
         }
     }
     
+    private void clearShards() {
+        Arrays.fill(storedShards, 0);
+        shardOrder.clear();
+    }
+    
     // Note: BaseMachineBlockEntity handles capability management
     
     // Note: BaseMachineBlockEntity provides Container implementation
     
     // Shard management
     public int insertShard(ItemStack shardStack) {
-        String shardType = getShardType(shardStack);
+        ShardType shardType = ShardType.fromStack(shardStack);
         if (shardType == null) return 0;
         
         // Check how many shards we can still accept
-        int totalShards = storedShards.values().stream().mapToInt(Integer::intValue).sum();
+        int totalShards = Arrays.stream(storedShards).sum();
         int maxShards = 6;
         int availableSlots = maxShards - totalShards;
         
@@ -271,13 +312,13 @@ public class RealityForgeBlockEntity extends BaseMachineBlockEntity {
         // Insert as many shards as possible (up to the stack size or available slots)
         int shardsToInsert = Math.min(shardStack.getCount(), availableSlots);
         
-        storedShards.put(shardType, storedShards.getOrDefault(shardType, 0) + shardsToInsert);
+        storedShards[shardType.ordinal()] += shardsToInsert;
         if (!shardOrder.contains(shardType)) {
             shardOrder.add(shardType);
         }
         
         // Update synchronized shard count
-        totalShardCount = storedShards.values().stream().mapToInt(Integer::intValue).sum();
+        totalShardCount = totalShards + shardsToInsert;
         
         // Play insertion sound
         if (level != null && !level.isClientSide && shardsToInsert > 0) {
@@ -291,13 +332,8 @@ public class RealityForgeBlockEntity extends BaseMachineBlockEntity {
             attemptCraft();
         }
         
-        setChanged();
-        
-        // Force packet update to ensure client gets the updated shard data
-        if (level != null && !level.isClientSide) {
-            // Additional setChanged to ensure packet is sent
-            setChanged();
-        }
+        // Shards travel in the state packet
+        syncToClient();
         
         return shardsToInsert;
     }
@@ -308,23 +344,22 @@ public class RealityForgeBlockEntity extends BaseMachineBlockEntity {
             stopCrafting();
         }
         
-        for (String shardType : new ArrayList<>(shardOrder)) {
-            int count = storedShards.getOrDefault(shardType, 0);
+        for (ShardType shardType : ShardType.VALUES) {
+            int count = storedShards[shardType.ordinal()];
             if (count > 0) {
-                ItemStack shardStack = createShardStack(shardType, count);
+                ItemStack shardStack = shardType.createStack(count);
                 if (!player.getInventory().add(shardStack)) {
                     // Drop on ground if inventory is full
                     player.drop(shardStack, false);
                 }
-                storedShards.remove(shardType);
             }
         }
-        shardOrder.clear();
+        clearShards();
         
         // Reset synchronized shard count
         totalShardCount = 0;
         
-        setChanged();
+        syncToClient();
     }
     
     // Client-side method to immediately clear shards for visual feedback
@@ -334,49 +369,40 @@ public class RealityForgeBlockEntity extends BaseMachineBlockEntity {
             stopCrafting();
         }
         
-        storedShards.clear();
-        shardOrder.clear();
+        clearShards();
         totalShardCount = 0;
         setChanged();
     }
     
-    private String getShardType(ItemStack stack) {
-        if (stack.getItem() == StrangeMatterMod.ENERGETIC_SHARD.get()) return "energetic";
-        if (stack.getItem() == StrangeMatterMod.GRAVITIC_SHARD.get()) return "gravitic";
-        if (stack.getItem() == StrangeMatterMod.CHRONO_SHARD.get()) return "chrono";
-        if (stack.getItem() == StrangeMatterMod.SPATIAL_SHARD.get()) return "spatial";
-        if (stack.getItem() == StrangeMatterMod.SHADE_SHARD.get()) return "shade";
-        if (stack.getItem() == StrangeMatterMod.INSIGHT_SHARD.get()) return "insight";
-        return null;
-    }
-    
-    private ItemStack createShardStack(String shardType, int count) {
-        return switch (shardType) {
-            case "energetic" -> new ItemStack(StrangeMatterMod.ENERGETIC_SHARD.get(), count);
-            case "gravitic" -> new ItemStack(StrangeMatterMod.GRAVITIC_SHARD.get(), count);
-            case "gravity" -> new ItemStack(StrangeMatterMod.GRAVITIC_SHARD.get(), count);
-            case "chrono" -> new ItemStack(StrangeMatterMod.CHRONO_SHARD.get(), count);
-            case "temporal" -> new ItemStack(StrangeMatterMod.CHRONO_SHARD.get(), count);
-            case "spatial" -> new ItemStack(StrangeMatterMod.SPATIAL_SHARD.get(), count);
-            case "shade" -> new ItemStack(StrangeMatterMod.SHADE_SHARD.get(), count);
-            case "shadow" -> new ItemStack(StrangeMatterMod.SHADE_SHARD.get(), count);
-            case "insight" -> new ItemStack(StrangeMatterMod.INSIGHT_SHARD.get(), count);
-            case "cognition" -> new ItemStack(StrangeMatterMod.INSIGHT_SHARD.get(), count);
-            default -> ItemStack.EMPTY;
-        };
-    }
-    
     // Crafting logic
     public void attemptCraft() {
         attemptCraft(null); // Try without specific player first
     }
     
     public void attemptCraft(Player player) {
-        if (isCrafting) return;
+        if (isCrafting) {
+            craftCheckPending = false;
+            return;
+        }
+        
+        // At most one lookup per tick - further changes in the same tick are checked on the next one
+        if (level != null) {
+            long gameTime = level.getGameTime();
+            if (gameTime == lastCraftCheckTick) {
+                // Not every caller wakes the forge (shard insertion, the menu), so make sure the deferred check runs
+                craftCheckPending = true;
+                wakeUp();
+                return;
+            }
+            lastCraftCheckTick = gameTime;
+        }
+        craftCheckPending = false;
         
         // Check if we have a valid recipe
-        RealityForgeRecipe recipe = RealityForgeRecipeRegistry.findMatchingRecipe(this);
+        RealityForgeRecipe recipe = RealityForgeRecipeRegistry.findMatchingRecipe(this, lastMatchedRecipe);
         if (recipe != null) {
+            lastMatchedRecipe = recipe;
+            
             // Use the provided player or the tracked current player for research checks
             Player checkPlayer = player != null ? player : currentPlayer;
             
@@ -408,7 +434,8 @@ public class RealityForgeBlockEntity extends BaseMachineBlockEntity {
         isCrafting = true;
         craftTicks = 0;
         currentRecipe = recipe; // Store the recipe for later use
-        setChanged();
+        syncToClient();
+        wakeUp();
         if (level != null && !level.isClientSide) {
             level.playSound(null, worldPosition,
                 com.hexvane.strangematter.sound.StrangeMatterSounds.REALITY_FORGE_CRAFTING.get(),
@@ -424,7 +451,7 @@ public class RealityForgeBlockEntity extends BaseMachineBlockEntity {
         isCoalescing = false;
         craftTicks = 0;
         currentRecipe = null;
-        setChanged();
+        syncToClient();
     }
     
     private void completeCrafting() {
@@ -453,15 +480,12 @@ public class RealityForgeBlockEntity extends BaseMachineBlockEntity {
         }
 
         // Consume shards
-        for (Map.Entry<String, Integer> requirement : recipe.getShardRequirements().entrySet()) {
-                String shardType = requirement.getKey();
-                int required = requirement.getValue();
-                int current = storedShards.getOrDefault(shardType, 0);
-                if (current >= required) {
-                    storedShards.put(shardType, current - required);
-                    if (storedShards.get(shardType) == 0) {
-                        storedShards.remove(shardType);
-                        shardOrder.remove(shardType);
+        int[] required = recipe.getShardCounts();
+        for (int i = 0; i < ShardType.COUNT; i++) {
+                if (required[i] > 0 && storedShards[i] >= required[i]) {
+                    storedShards[i] -= required[i];
+                    if (storedShards[i] == 0) {
+                        shardOrder.remove(ShardType.VALUES[i]);
                     }
                 }
             }
@@ -484,8 +508,7 @@ public class RealityForgeBlockEntity extends BaseMachineBlockEntity {
         currentRecipe = null;
         
         // Clear all remaining shards after crafting
-        storedShards.clear();
-        shardOrder.clear();
+        clearShards();
         totalShardCount = 0;
         
         setChanged();
@@ -505,18 +528,14 @@ public class RealityForgeBlockEntity extends BaseMachineBlockEntity {
     // Override base packet methods to include shard data
     @Override
     protected void writeAdditionalStateData(net.minecraft.network.FriendlyByteBuf buffer) {
-        // Write shard data
-        buffer.writeInt(storedShards.size());
-        for (Map.Entry<String, Integer> entry : storedShards.entrySet()) {
-            buffer.writeUtf(entry.getKey());
-            buffer.writeInt(entry.getValue());
-        }
-        buffer.writeInt(shardOrder.size());
-        for (String shardType : shardOrder) {
-            buffer.writeUtf(shardType);
+        // Write shard data: counts by ordinal, then insertion order as ordinals
+        buffer.writeVarIntArray(storedShards);
+        buffer.writeVarInt(shardOrder.size());
+        for (ShardType shardType : shardOrder) {
+            buffer.writeByte(shardType.ordinal());
         }
         buffer.writeBoolean(isCrafting);
-        buffer.writeInt(craftTicks);
+        buffer.writeVarInt(craftTicks);
         buffer.writeBoolean(isCoalescing);
         
     }
@@ -524,27 +543,18 @@ public class RealityForgeBlockEntity extends BaseMachineBlockEntity {
     @Override
     protected void readAdditionalStateData(net.minecraft.network.FriendlyByteBuf buffer) {
         // Read shard data
-        storedShards.clear();
-        int shardTypeCount = buffer.readInt();
-        for (int i = 0; i < shardTypeCount; i++) {
-            String shardType = buffer.readUtf();
-            int count = buffer.readInt();
-            storedShards.put(shardType, count);
-        }
-        shardOrder.clear();
-        int shardOrderSize = buffer.readInt();
-        for (int i = 0; i < shardOrderSize; i++) {
-            shardOrder.add(buffer.readUtf());
-        }
+        int[] counts = buffer.readVarIntArray(ShardType.COUNT);
+        Arrays.fill(storedShards, 0);
+        System.arraycopy(counts, 0, storedShards, 0, Math.min(counts.length, ShardType.COUNT));
+        byte[] order = new byte[Math.min(buffer.readVarInt(), ShardType.COUNT)];
+        buffer.readBytes(order);
+        readShardOrder(order);
         isCrafting = buffer.readBoolean();
-        craftTicks = buffer.readInt();
+        craftTicks = buffer.readVarInt();
         isCoalescing = buffer.readBoolean();
         
         // Update total shard count after reading
-        totalShardCount = 0;
-        for (int count : storedShards.values()) {
-            totalShardCount += count;
-        }
+        totalShardCount = Arrays.stream(storedShards).sum();
     }
     
     // Minecraft's standard client sync methods
@@ -553,13 +563,6 @@ public class RealityForgeBlockEntity extends BaseMachineBlockEntity {
         return net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket.create(this);
     }
     
-    @Override
-    public net.minecraft.nbt.CompoundTag getUpdateTag() {
-        CompoundTag tag = super.getUpdateTag();
-        saveAdditional(tag);
-        return tag;
-    }
-    
     @Override
     public void onDataPacket(net.minecraft.network.Connection net, net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket pkt) {
         if (pkt.getTag() != null) {
@@ -573,14 +576,21 @@ public class RealityForgeBlockEntity extends BaseMachineBlockEntity {
     }
     
     // Getters for GUI
-    public Map<String, Integer> getStoredShards() {
-        return new HashMap<>(storedShards);
+    public int getStoredShardCount(ShardType type) {
+        return storedShards[type.ordinal()];
     }
     
-    public List<String> getShardOrder() {
+    public List<ShardType> getShardOrder() {
         return new ArrayList<>(shardOrder);
     }
     
+    /**
+     * Whether the forge holds at least the given count of each shard type (indexed by ShardType ordinal)
+     */
+    public boolean hasShards(int[] required) {
+        return ShardType.covers(storedShards, required);
+    }
+    
     public boolean isCrafting() {
         return isCrafting;
     }
@@ -612,11 +622,10 @@ public class RealityForgeBlockEntity extends BaseMachineBlockEntity {
         
         // Drop all stored shards
         if (level != null && !level.isClientSide) {
-            for (Map.Entry<String, Integer> entry : storedShards.entrySet()) {
-                String shardType = entry.getKey();
-                int count = entry.getValue();
+            for (ShardType shardType : ShardType.VALUES) {
+                int count = storedShards[shardType.ordinal()];
                 if (count > 0) {
-                    ItemStack shardStack = createShardStack(shardType, count);
+                    ItemStack shardStack = shardType.createStack(count);
                     if (!shardStack.isEmpty()) {
                         net.minecraft.world.entity.item.ItemEntity itemEntity = new net.minecraft.world.entity.item.ItemEntity(
                             level, worldPosition.getX() + 0.5, worldPosition.getY() + 0.5, worldPosition.getZ() + 0.5, shardStack);
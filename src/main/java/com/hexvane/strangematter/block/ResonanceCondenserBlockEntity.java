@@ -20,9 +20,8 @@ import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.inventory.ContainerData;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.FriendlyByteBuf;
-import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.world.entity.player.Player;
 import com.hexvane.strangematter.StrangeMatterMod;
+import com.hexvane.strangematter.entity.AnomalyIndex;
 import com.hexvane.strangematter.entity.BaseAnomalyEntity;
 import com.hexvane.strangematter.research.ResearchType;
 import com.hexvane.strangematter.research.ScannableObjectRegistry;
@@ -67,7 +66,10 @@ public class ResonanceCondenserBlockEntity extends BaseMachineBlockEntity {
         
         // Only process machine logic on server side
         if (!level.isClientSide) {
+            if (blockEntity.isSleeping()) return;
+            
             blockEntity.processResonance();
+            blockEntity.updateSleep();
         }
         
         // Spawn particles every 5 ticks (4 times per second) - client side only
@@ -122,18 +124,23 @@ public class ResonanceCondenserBlockEntity extends BaseMachineBlockEntity {
         }
     }
     
+    @Override
+    protected int getIdleSleepTicks() {
+        if (cachedAnomaly == null) {
+            // Nothing to resonate with - look again in a second
+            return 20;
+        }
+        if (!isActive) {
+            // Anomaly present but starved: energy arriving in an empty buffer wakes us
+            return energyStorage.getEnergyStored() == 0 ? SLEEP_UNTIL_WOKEN : 20;
+        }
+        return STAY_AWAKE;
+    }
+    
     private void findNearbyAnomaly() {
         BlockPos pos = this.getBlockPos();
-        cachedAnomaly = null;
-        
-        for (Entity entity : level.getEntitiesOfClass(Entity.class,
-            net.minecraft.world.phys.AABB.ofSize(pos.getCenter(), 20, 20, 20))) {
-
-            if (entity instanceof BaseAnomalyEntity anomaly && anomaly.isAlive()) {
-                cachedAnomaly = anomaly;
-                break;
-            }
-        }
+        cachedAnomaly = AnomalyIndex.get(level).findNearest(BaseAnomalyEntity.class, pos.getCenter(),
+            net.minecraft.world.phys.AABB.ofSize(pos.getCenter(), 20, 20, 20), BaseAnomalyEntity::isAlive).orElse(null);
     }
     
     private void spawnParticles(Level level, BlockPos pos) {
@@ -206,8 +213,7 @@ public class ResonanceCondenserBlockEntity extends BaseMachineBlockEntity {
             } else if (currentStack.is(shardItem) && currentStack.getCount() < currentStack.getMaxStackSize()) {
                 // Same item type - stack it
                 currentStack.grow(1);
-                setChanged();
-                syncToClient();
+                syncInventoryToClient();
             }
             // If slot is full with different item, don't generate shard
         }
@@ -247,11 +253,13 @@ public class ResonanceCondenserBlockEntity extends BaseMachineBlockEntity {
     
     @Override
     public ItemStack removeItem(int index, int count) {
+        onContentsChanged();
         return ContainerHelper.removeItem(this.items, index, count);
     }
     
     @Override
     public ItemStack removeItemNoUpdate(int index) {
+        onContentsChanged();
         return ContainerHelper.takeItem(this.items, index);
     }
     
@@ -263,6 +271,7 @@ public class ResonanceCondenserBlockEntity extends BaseMachineBlockEntity {
         }
         setChanged();
         syncToClient();
+        onContentsChanged();
     }
     
     @Override
@@ -292,14 +301,6 @@ public class ResonanceCondenserBlockEntity extends BaseMachineBlockEntity {
         return false;
     }
     
-    // Method to sync data to client
-    public void syncToClient() {
-        if (level != null && !level.isClientSide) {
-            setChanged();
-            level.sendBlockUpdated(getBlockPos(), getBlockState(), getBlockState(), 3);
-        }
-    }
-    
     // Energy arcs are now rendered client-side by the block entity renderer
     // No server-side particle spawning needed
     
@@ -320,20 +321,14 @@ public class ResonanceCondenserBlockEntity extends BaseMachineBlockEntity {
     // Override base packet methods to include progress-specific data
     @Override
     protected void writeAdditionalStateData(FriendlyByteBuf buffer) {
-        buffer.writeInt(progressLevel);
-        buffer.writeInt(maxProgressLevel);
+        buffer.writeVarInt(progressLevel);
+        buffer.writeVarInt(maxProgressLevel);
     }
     
     @Override
     protected void readAdditionalStateData(FriendlyByteBuf buffer) {
-        progressLevel = buffer.readInt();
-        maxProgressLevel = buffer.readInt();
-    }
-    
-    public void sendGuiNetworkData(AbstractContainerMenu container, Player player) {
-        if (player instanceof ServerPlayer serverPlayer) {
-            sendStatePacket(); // Use base packet system
-        }
+        progressLevel = buffer.readVarInt();
+        maxProgressLevel = buffer.readVarInt();
     }
     
     @Override
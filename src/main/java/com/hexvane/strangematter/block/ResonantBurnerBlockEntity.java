@@ -97,6 +97,17 @@ public class ResonantBurnerBlockEntity extends BaseMachineBlockEntity {
         processFuelBurning();
     }
     
+    @Override
+    protected int getIdleSleepTicks() {
+        // Burning, or still pushing stored energy out - keep ticking
+        if (burnTime > 0 || energyTransferredThisTick) {
+            return STAY_AWAKE;
+        }
+        // Stored energy but nobody took any: poll now and then in case a consumer frees up.
+        // Empty and out of fuel: nothing happens until fuel is inserted.
+        return energyStorage.getEnergyStored() > 0 ? 20 : SLEEP_UNTIL_WOKEN;
+    }
+    
     public static void tick(Level level, BlockPos pos, BlockState state, ResonantBurnerBlockEntity blockEntity) {
         // Use the base class tick method which calls processMachine() every tick
         BaseMachineBlockEntity.tick(level, pos, state, blockEntity);
@@ -200,11 +211,13 @@ public class ResonantBurnerBlockEntity extends BaseMachineBlockEntity {
     
     @Override
     public ItemStack removeItem(int index, int count) {
+        onContentsChanged();
         return ContainerHelper.removeItem(this.items, index, count);
     }
     
     @Override
     public ItemStack removeItemNoUpdate(int index) {
+        onContentsChanged();
         return ContainerHelper.takeItem(this.items, index);
     }
     
@@ -216,6 +229,7 @@ public class ResonantBurnerBlockEntity extends BaseMachineBlockEntity {
         }
         setChanged();
         syncToClient();
+        onContentsChanged();
     }
     
     @Override
@@ -276,14 +290,14 @@ public class ResonantBurnerBlockEntity extends BaseMachineBlockEntity {
     // Override base packet methods to include burn-specific data
     @Override
     protected void writeAdditionalStateData(FriendlyByteBuf buffer) {
-        buffer.writeInt(burnTime);
-        buffer.writeInt(burnDuration);
+        buffer.writeVarInt(burnTime);
+        buffer.writeVarInt(burnDuration);
     }
     
     @Override
     protected void readAdditionalStateData(FriendlyByteBuf buffer) {
-        burnTime = buffer.readInt();
-        burnDuration = buffer.readInt();
+        burnTime = buffer.readVarInt();
+        burnDuration = buffer.readVarInt();
     }
     
     @Override
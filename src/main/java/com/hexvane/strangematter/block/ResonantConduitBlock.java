@@ -10,8 +10,6 @@ import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.EntityBlock;
 import net.minecraft.world.level.block.SoundType;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.entity.BlockEntityTicker;
-import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockBehaviour;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
@@ -22,7 +20,6 @@ import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
-import com.hexvane.strangematter.StrangeMatterMod;
 
 import javax.annotation.Nullable;
 
@@ -201,17 +198,7 @@ public class ResonantConduitBlock extends Block implements EntityBlock {
         return new ResonantConduitBlockEntity(pos, state);
     }
     
-    @Override
-    @Nullable
-    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level level, BlockState state, 
-                                                                 BlockEntityType<T> blockEntityType) {
-        return blockEntityType == StrangeMatterMod.RESONANT_CONDUIT_BLOCK_ENTITY.get() && !level.isClientSide ? 
-            (level1, pos, state1, blockEntity) -> {
-                if (blockEntity instanceof ResonantConduitBlockEntity conduit) {
-                    ResonantConduitBlockEntity.tick(level1, pos, state1, conduit);
-                }
-            } : null;
-    }
+    // No ticker - conduits are routed once per network by the level's ConduitNetworkManager
     
     /**
      * Get the connection state for a specific direction
@@ -3,6 +3,7 @@ package com.hexvane.strangematter.block;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntityType;
@@ -11,28 +12,27 @@ import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.ForgeCapabilities;
 import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.energy.IEnergyStorage;
-import com.hexvane.strangematter.energy.ResonanceEnergyStorage;
+import com.hexvane.strangematter.energy.ConduitNetwork;
+import com.hexvane.strangematter.energy.ConduitNetworkManager;
 import com.hexvane.strangematter.StrangeMatterMod;
-import com.hexvane.strangematter.Config;
 
 import java.util.*;
 
 /**
  * Block entity for Resonant Conduits that transfer resonant energy between machines.
- * Pure conduit - no energy storage, just routes energy directly from sources to sinks.
+ * Pure conduit - no energy storage and no ticker; energy is routed once per tick by the
+ * {@link ConduitNetwork} this conduit belongs to.
  */
 public class ResonantConduitBlockEntity extends BlockEntity {
     
     // Connection state for each direction
     private final boolean[] connectedSides = new boolean[6];
     
-    // Cached network information - updated on block changes
-    private final Map<BlockPos, Integer> cachedSources = new HashMap<>(); // Source position -> distance
-    private final Map<BlockPos, Integer> cachedSinks = new HashMap<>();   // Sink position -> distance
-    private boolean networkCacheValid = false;
+    // Shared network this conduit belongs to - owned by the level's ConduitNetworkManager
+    private ConduitNetwork network;
     
-    // Performance optimization - only update network cache when needed
-    private int networkUpdateCounter = 0;
+    // Set when the chunk is unloading so the conduit stays in its network's saved topology
+    private boolean chunkUnloading = false;
     
     
     public ResonantConduitBlockEntity(BlockPos pos, BlockState state) {
@@ -40,27 +40,37 @@ public class ResonantConduitBlockEntity extends BlockEntity {
         // No energy storage - pure conduit
     }
     
-    public static void tick(Level level, BlockPos pos, BlockState state, ResonantConduitBlockEntity blockEntity) {
-        if (level.isClientSide) return;
-        
-        blockEntity.networkUpdateCounter++;
-        
-        // Update network cache periodically or when invalid
-        if (!blockEntity.networkCacheValid || blockEntity.networkUpdateCounter >= Config.resonantConduitNetworkUpdateInterval) {
-            blockEntity.updateNetworkCache();
-            blockEntity.networkUpdateCounter = 0;
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        if (level instanceof ServerLevel serverLevel) {
+            ConduitNetworkManager.get(serverLevel).addConduit(this);
         }
-        
-        // Perform direct energy routing every tick
-        blockEntity.performDirectEnergyRouting();
+    }
+    
+    @Override
+    public void onChunkUnloaded() {
+        super.onChunkUnloaded();
+        chunkUnloading = true;
+    }
+    
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        if (level != null && !level.isClientSide) {
+            ConduitNetworkManager.getIfPresent(level).ifPresent(manager -> manager.removeConduit(worldPosition, chunkUnloading));
+        }
+        network = null;
     }
     
     /**
-     * Called when a neighboring block changes - invalidate cache
+     * Called when a neighboring block changes - rescan endpoints around this conduit
      */
     public void onNeighborChanged() {
-        networkCacheValid = false;
         updateConnections();
+        if (level instanceof ServerLevel serverLevel) {
+            ConduitNetworkManager.get(serverLevel).refreshEndpoints(worldPosition);
+        }
     }
     
     /**
@@ -89,115 +99,19 @@ public class ResonantConduitBlockEntity extends BlockEntity {
     }
     
     /**
-     * Update the network cache with sources and sinks
+     * Get the network this conduit belongs to, or null if it has not joined one yet
      */
-    private void updateNetworkCache() {
-        if (level == null) return;
-        
-        cachedSources.clear();
-        cachedSinks.clear();
-        
-        // Find all sources and sinks in the network
-        findNetworkSourcesAndSinks(worldPosition, 0, new HashSet<>());
-        
-        networkCacheValid = true;
+    public ConduitNetwork getNetwork() {
+        return network;
     }
     
     /**
-     * Recursively find all sources and sinks in the conduit network
+     * Called by the ConduitNetworkManager when this conduit joins, merges or splits
      */
-    private void findNetworkSourcesAndSinks(BlockPos pos, int distance, Set<BlockPos> visited) {
-        if (distance > Config.resonantConduitMaxNetworkSize || visited.contains(pos)) return;
-        
-        visited.add(pos);
-        
-        for (Direction direction : Direction.values()) {
-            BlockPos adjacentPos = pos.relative(direction);
-            if (visited.contains(adjacentPos)) continue;
-            
-            BlockEntity adjacentEntity = level.getBlockEntity(adjacentPos);
-            if (adjacentEntity == null) continue;
-            
-            if (adjacentEntity instanceof ResonantConduitBlockEntity) {
-                // Continue searching through conduit network
-                findNetworkSourcesAndSinks(adjacentPos, distance + 1, visited);
-            } else {
-                // Check if it's an energy source or sink
-                adjacentEntity.getCapability(ForgeCapabilities.ENERGY, direction.getOpposite()).ifPresent(storage -> {
-                    if (storage.canExtract() && storage.getEnergyStored() > 0) {
-                        // It's a source
-                        cachedSources.put(adjacentPos, distance + 1);
-                    }
-                    if (storage.canReceive() && storage.getEnergyStored() < storage.getMaxEnergyStored()) {
-                        // It's a sink
-                        cachedSinks.put(adjacentPos, distance + 1);
-                    }
-                });
-            }
-        }
-    }
-    
-    /**
-     * Perform direct energy routing from sources to sinks
-     */
-    private void performDirectEnergyRouting() {
-        if (level == null || !networkCacheValid) return;
-        
-        // Route energy from all sources to all sinks
-        for (Map.Entry<BlockPos, Integer> sourceEntry : cachedSources.entrySet()) {
-            BlockPos sourcePos = sourceEntry.getKey();
-            int sourceDistance = sourceEntry.getValue();
-            
-            BlockEntity sourceEntity = level.getBlockEntity(sourcePos);
-            if (sourceEntity == null) continue;
-            
-            sourceEntity.getCapability(ForgeCapabilities.ENERGY).ifPresent(sourceStorage -> {
-                if (!sourceStorage.canExtract() || sourceStorage.getEnergyStored() <= 0) return;
-                
-                // Try to route energy to sinks
-                for (Map.Entry<BlockPos, Integer> sinkEntry : cachedSinks.entrySet()) {
-                    BlockPos sinkPos = sinkEntry.getKey();
-                    int sinkDistance = sinkEntry.getValue();
-                    
-                    BlockEntity sinkEntity = level.getBlockEntity(sinkPos);
-                    if (sinkEntity == null) continue;
-                    
-                    sinkEntity.getCapability(ForgeCapabilities.ENERGY).ifPresent(sinkStorage -> {
-                        if (!sinkStorage.canReceive() || sinkStorage.getEnergyStored() >= sinkStorage.getMaxEnergyStored()) return;
-                        
-                        // Check if this transfer is role-compatible
-                        if (!isRoleCompatibleTransfer(sourceEntity, sinkEntity)) {
-                            return;
-                        }
-                        
-                        // Calculate transfer amount based on distance with configurable penalty
-                        int totalDistance = sourceDistance + sinkDistance;
-                        double distanceMultiplier = Math.max(0.1, 1.0 - (totalDistance * Config.resonantConduitDistancePenalty));
-                        int transferRate = Math.max(1, (int)(Config.resonantConduitTransferRate * distanceMultiplier));
-                        
-                        int energyToTransfer = Math.min(
-                            transferRate,
-                            Math.min(
-                                sourceStorage.getEnergyStored(),
-                                sinkStorage.getMaxEnergyStored() - sinkStorage.getEnergyStored()
-                            )
-                        );
-                        
-                        if (energyToTransfer > 0) {
-                            // Direct transfer from source to sink
-                            int energyReceived = sinkStorage.receiveEnergy(energyToTransfer, false);
-                            if (energyReceived > 0) {
-                                sourceStorage.extractEnergy(energyReceived, false);
-                            }
-                        }
-                    });
-                }
-            });
-        }
+    public void setNetwork(ConduitNetwork network) {
+        this.network = network;
     }
     
-    
-    
     /**
      * Get the connection state for a specific direction
      */
@@ -281,24 +195,20 @@ public class ResonantConduitBlockEntity extends BlockEntity {
                 connectedSides[i] = connectionBytes[i] != 0;
             }
         }
-        
-        // Invalidate network cache on load - will be rebuilt on next update
-        networkCacheValid = false;
     }
     
     /**
-     * Force update connections and network cache (called when blocks change nearby)
+     * Force update connections and network endpoints (called when blocks change nearby)
      */
     public void forceUpdateConnections() {
-        networkCacheValid = false;
-        updateConnections();
+        onNeighborChanged();
     }
     
     /**
      * Check if energy transfer between two block entities is role-compatible.
      * This prevents generators from transferring energy to other generators.
      */
-    private boolean isRoleCompatibleTransfer(BlockEntity sourceEntity, BlockEntity sinkEntity) {
+    public static boolean isRoleCompatibleTransfer(BlockEntity sourceEntity, BlockEntity sinkEntity) {
         // If both entities are BaseMachineBlockEntity instances, check their roles
         if (sourceEntity instanceof BaseMachineBlockEntity sourceMachine && 
             sinkEntity instanceof BaseMachineBlockEntity sinkMachine) {
@@ -109,10 +109,7 @@ public class RiftStabilizerBlockEntity extends BaseMachineBlockEntity {
         
         // Sync to client if state changed
         if (wasGenerating != isGenerating) {
-            setChanged();
-            if (level != null) {
-                level.sendBlockUpdated(pos, getBlockState(), getBlockState(), 3);
-            }
+            syncToClient();
         }
     }
     
@@ -199,16 +196,26 @@ public class RiftStabilizerBlockEntity extends BaseMachineBlockEntity {
             
             // Only mark changed and sync if we actually generated energy
             if (generated > 0) {
-                setChanged();
-                
-                // Sync to client periodically to show updated energy
-                if (riftCheckCounter == 0) { // Sync when we check for rifts
-                    level.sendBlockUpdated(worldPosition, getBlockState(), getBlockState(), 2); // Use flag 2 for block entity data sync
-                }
+                syncEnergyToClient();
             }
         }
     }
     
+    @Override
+    protected int getIdleSleepTicks() {
+        if (isGenerating || energyTransferredThisTick) {
+            return STAY_AWAKE;
+        }
+        // Nothing to do until the next rift check - sleep through the interval
+        return RIFT_CHECK_INTERVAL;
+    }
+    
+    @Override
+    protected void onEnterSleep(int ticks) {
+        // Check for rifts on the first tick after waking
+        riftCheckCounter = RIFT_CHECK_INTERVAL - 1;
+    }
+    
     @Override
     public net.minecraft.world.inventory.AbstractContainerMenu createMenu(int containerId, net.minecraft.world.entity.player.Inventory playerInventory) {
         // Rift Stabilizer doesn't have a GUI
@@ -234,11 +241,17 @@ public class RiftStabilizerBlockEntity extends BaseMachineBlockEntity {
         riftCheckCounter = tag.getInt("riftCheckCounter");
     }
     
+    // Generation state for the renderer, sent with the base machine state packet
+    @Override
+    protected void writeAdditionalStateData(net.minecraft.network.FriendlyByteBuf buffer) {
+        buffer.writeBoolean(isGenerating);
+        buffer.writeVarInt(currentPowerGeneration);
+    }
+    
     @Override
-    public CompoundTag getUpdateTag() {
-        CompoundTag tag = super.getUpdateTag();
-        saveAdditional(tag);
-        return tag;
+    protected void readAdditionalStateData(net.minecraft.network.FriendlyByteBuf buffer) {
+        isGenerating = buffer.readBoolean();
+        currentPowerGeneration = buffer.readVarInt();
     }
     
     @Override
@@ -31,6 +31,9 @@ public class StasisProjectorBlockEntity extends BlockEntity {
     // Height above the projector where items/entities float
     private static final double FLOAT_HEIGHT = 0.25;
     private static final double CAPTURE_RADIUS = 0.5;
+    // How far a held entity may be pushed before it is put back
+    private static final double ENTITY_TOLERANCE = 0.2;
+    private static final double ITEM_TOLERANCE = 0.1;
     
     public StasisProjectorBlockEntity(BlockPos pos, BlockState blockState) {
         super(StrangeMatterMod.STASIS_PROJECTOR_BLOCK_ENTITY.get(), pos, blockState);
@@ -68,27 +71,75 @@ public class StasisProjectorBlockEntity extends BlockEntity {
     }
     
     public void releaseAll() {
-        // Release captured mob
-        if (cachedEntity != null && level != null) {
-            // Re-enable AI and physics
-            if (cachedEntity instanceof Mob mob) {
-                mob.setNoAi(false);
+        if (level instanceof ServerLevel serverLevel) {
+            PinnedEntityManager pins = PinnedEntityManager.get(serverLevel);
+            
+            // Release captured mob
+            if (capturedEntityUUID != null) {
+                Entity entity = pins.release(capturedEntityUUID);
+                if (entity != null) {
+                    // Re-enable AI and physics
+                    if (entity instanceof Mob mob) {
+                        mob.setNoAi(false);
+                    }
+                    entity.setNoGravity(false);
+                    entity.setInvulnerable(false);
+                }
+            }
+            
+            // Release captured item entity
+            if (capturedItemEntityUUID != null) {
+                Entity entity = pins.release(capturedItemEntityUUID);
+                if (entity instanceof ItemEntity itemEntity) {
+                    itemEntity.setNoGravity(false);
+                    itemEntity.setPickUpDelay(10); // Short delay before pickup
+                }
             }
-            cachedEntity.setNoGravity(false);
-            cachedEntity.setInvulnerable(false);
-            cachedEntity = null;
-        }
-        
-        // Release captured item entity
-        if (cachedItemEntity != null && level != null) {
-            cachedItemEntity.setNoGravity(false);
-            cachedItemEntity.setPickUpDelay(10); // Short delay before pickup
-            cachedItemEntity = null;
         }
         
+        cachedEntity = null;
+        cachedItemEntity = null;
         capturedEntityUUID = null;
         capturedItemEntityUUID = null;
         setChanged();
+        syncToClient();
+    }
+    
+    private void syncToClient() {
+        if (level != null && !level.isClientSide) {
+            level.sendBlockUpdated(worldPosition, getBlockState(), getBlockState(), 3);
+        }
+    }
+    
+    private Vec3 getAnchor() {
+        return Vec3.atCenterOf(worldPosition).add(0, FLOAT_HEIGHT, 0);
+    }
+    
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        // Pick saved captures back up; the entities attach whenever they load
+        if (level instanceof ServerLevel serverLevel && powered) {
+            PinnedEntityManager pins = PinnedEntityManager.get(serverLevel);
+            if (capturedEntityUUID != null) {
+                pins.restore(serverLevel, capturedEntityUUID, getAnchor(), ENTITY_TOLERANCE);
+            }
+            if (capturedItemEntityUUID != null) {
+                pins.restore(serverLevel, capturedItemEntityUUID, getAnchor(), ITEM_TOLERANCE);
+            }
+        }
+    }
+    
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        // Unloading keeps the entities frozen in place; breaking the block releases them first (see StasisProjectorBlock)
+        if (level != null && !level.isClientSide) {
+            PinnedEntityManager.getIfPresent(level).ifPresent(pins -> {
+                if (capturedEntityUUID != null) pins.forget(capturedEntityUUID);
+                if (capturedItemEntityUUID != null) pins.forget(capturedItemEntityUUID);
+            });
+        }
     }
     
     public ItemEntity getCapturedItemEntity() {
@@ -130,195 +181,113 @@ public class StasisProjectorBlockEntity extends BlockEntity {
     }
     
     public static void tick(Level level, BlockPos pos, BlockState state, StasisProjectorBlockEntity blockEntity) {
-        if (level.isClientSide) {
-            return;
-        }
-        
         if (!blockEntity.powered) {
             return;
         }
         
-        Vec3 centerPos = Vec3.atCenterOf(pos).add(0, FLOAT_HEIGHT, 0);
-        
-        // Try to find and update cached entities
-        if (blockEntity.capturedEntityUUID != null && blockEntity.cachedEntity == null && level instanceof ServerLevel serverLevel) {
-            // Try to find the entity by UUID
-            Entity entity = serverLevel.getEntity(blockEntity.capturedEntityUUID);
-            if (entity != null) {
-                blockEntity.cachedEntity = entity;
-            }
-        }
-        
-        if (blockEntity.capturedItemEntityUUID != null && blockEntity.cachedItemEntity == null && level instanceof ServerLevel serverLevel) {
-            // Try to find the item entity by UUID
-            Entity entity = serverLevel.getEntity(blockEntity.capturedItemEntityUUID);
-            if (entity instanceof ItemEntity itemEntity) {
-                blockEntity.cachedItemEntity = itemEntity;
-            }
+        if (level instanceof ServerLevel serverLevel) {
+            blockEntity.serverTick(serverLevel);
+        } else {
+            blockEntity.clientTick(level);
         }
+    }
+    
+    private void serverTick(ServerLevel serverLevel) {
+        PinnedEntityManager pins = PinnedEntityManager.get(serverLevel);
         
-        // Update captured entity position and state
-        if (blockEntity.cachedEntity != null) {
-            if (!blockEntity.cachedEntity.isAlive() || blockEntity.cachedEntity.isRemoved()) {
-                blockEntity.cachedEntity = null;
-                blockEntity.capturedEntityUUID = null;
-                blockEntity.setChanged();
-                return;
-            }
-            
-            // Keep entity in stasis with rotation and bobbing like items
-            // Add bobbing motion (like items do)
-            long gameTime = level.getGameTime();
-            double bobOffset = Math.sin((gameTime + 0) / 10.0) * 0.1; // Bob up and down by 0.1 blocks
-            
-            Vec3 targetPos = new Vec3(centerPos.x, centerPos.y + bobOffset, centerPos.z);
-            
-            // Force position even if external mods try to move it
-            blockEntity.cachedEntity.setPos(targetPos);
-            blockEntity.cachedEntity.setDeltaMovement(Vec3.ZERO);
-            blockEntity.cachedEntity.setNoGravity(true);
-            blockEntity.cachedEntity.setInvulnerable(true);
-            
-            // Additional protection against external gravity mods
-            // Check if the entity has moved away from target position and force it back
-            Vec3 currentPos = blockEntity.cachedEntity.position();
-            double distanceFromTarget = currentPos.distanceTo(targetPos);
-            if (distanceFromTarget > 0.2) { // If moved more than 0.2 blocks away (slightly more tolerance for entities)
-                // Force it back to the exact target position
-                blockEntity.cachedEntity.teleportTo(targetPos.x, targetPos.y, targetPos.z);
-                blockEntity.cachedEntity.setDeltaMovement(Vec3.ZERO);
-            }
-            
-            // Rotate the entity slowly (like items do)
-            float rotationSpeed = 4.0f; // Degrees per tick
-            
-            // For living entities, force synchronize all rotation values
-            if (blockEntity.cachedEntity instanceof LivingEntity living) {
-                float newYaw = (living.yBodyRot + rotationSpeed) % 360.0f;
-                
-                // Set all rotation components without touching previous values
-                // Let Minecraft handle interpolation naturally
-                living.yBodyRot = newYaw;
-                living.setYRot(newYaw);
-                living.yHeadRot = newYaw;
-                
-                living.setXRot(0);
+        // Held entities are kept in place by the pinned entity manager; only notice when they're gone
+        if (capturedEntityUUID != null) {
+            if (!pins.isPinned(capturedEntityUUID)) {
+                cachedEntity = null;
+                capturedEntityUUID = null;
+                setChanged();
+                syncToClient();
             } else {
-                // For non-living entities, just rotate normally
-                float currentYaw = blockEntity.cachedEntity.getYRot();
-                float newYaw = (currentYaw + rotationSpeed) % 360.0f;
-                blockEntity.cachedEntity.setYRot(newYaw);
-                blockEntity.cachedEntity.setXRot(0);
-            }
-            
-            if (blockEntity.cachedEntity instanceof Mob mob) {
-                mob.setNoAi(true);
-                mob.setPersistenceRequired(); // Prevent despawning
+                cachedEntity = pins.getEntity(capturedEntityUUID);
             }
-            if (blockEntity.cachedEntity instanceof LivingEntity living) {
-                living.setDeltaMovement(Vec3.ZERO);
-            }
-            
             return; // Already have an entity, don't capture more
         }
         
-        // Update captured item entity position
-        if (blockEntity.cachedItemEntity != null) {
-            if (!blockEntity.cachedItemEntity.isAlive() || blockEntity.cachedItemEntity.isRemoved()) {
-                blockEntity.cachedItemEntity = null;
-                blockEntity.capturedItemEntityUUID = null;
-                blockEntity.setChanged();
-                return;
-            }
-            
-            // Keep item in stasis - use more aggressive position control
-            Vec3 targetPos = new Vec3(centerPos.x, centerPos.y, centerPos.z);
-            
-            // Force position even if external mods try to move it
-            blockEntity.cachedItemEntity.setPos(targetPos);
-            blockEntity.cachedItemEntity.setDeltaMovement(Vec3.ZERO);
-            blockEntity.cachedItemEntity.setNoGravity(true);
-            blockEntity.cachedItemEntity.setPickUpDelay(40); // Can't be picked up
-            blockEntity.cachedItemEntity.setUnlimitedLifetime(); // Prevent despawning
-            
-            // Additional protection against external gravity mods
-            // Check if the item has moved away from target position and force it back
-            Vec3 currentPos = blockEntity.cachedItemEntity.position();
-            double distanceFromTarget = currentPos.distanceTo(targetPos);
-            if (distanceFromTarget > 0.1) { // If moved more than 0.1 blocks away
-                // Force it back to the exact target position
-                blockEntity.cachedItemEntity.teleportTo(targetPos.x, targetPos.y, targetPos.z);
-                blockEntity.cachedItemEntity.setDeltaMovement(Vec3.ZERO);
+        if (capturedItemEntityUUID != null) {
+            if (!pins.isPinned(capturedItemEntityUUID)) {
+                cachedItemEntity = null;
+                capturedItemEntityUUID = null;
+                setChanged();
+                syncToClient();
+            } else {
+                cachedItemEntity = pins.getEntity(capturedItemEntityUUID) instanceof ItemEntity itemEntity ? itemEntity : null;
             }
-            
             return; // Already have an item, don't capture more
         }
         
         // Try to capture nearby entities or items
+        Vec3 centerPos = getAnchor();
         AABB captureBox = new AABB(
             centerPos.subtract(CAPTURE_RADIUS, CAPTURE_RADIUS, CAPTURE_RADIUS),
             centerPos.add(CAPTURE_RADIUS, CAPTURE_RADIUS, CAPTURE_RADIUS)
         );
         
-        // First try to capture items
-        List<ItemEntity> nearbyItems = level.getEntitiesOfClass(ItemEntity.class, captureBox);
+        // First try to capture items, skipping ones already held by another projector
+        List<ItemEntity> nearbyItems = serverLevel.getEntitiesOfClass(ItemEntity.class, captureBox,
+            item -> !pins.isPinned(item.getUUID()));
         if (!nearbyItems.isEmpty()) {
-            // Find an item that isn't already being held by another projector
-            ItemEntity itemEntity = null;
-            for (ItemEntity item : nearbyItems) {
-                // Skip items that are already in stasis (no gravity + unlimited lifetime)
-                // This prevents stealing items from other projectors
-                if (!item.isNoGravity() || item.getAge() < 5980) { // Items with unlimited lifetime have age reset to -32768, but check for recent items
-                    itemEntity = item;
-                    break;
-                }
-            }
+            ItemEntity itemEntity = nearbyItems.get(0);
+            capturedItemEntityUUID = itemEntity.getUUID();
+            cachedItemEntity = itemEntity;
+            pins.pin(itemEntity, centerPos, ITEM_TOLERANCE);
             
-            if (itemEntity != null) {
-                blockEntity.capturedItemEntityUUID = itemEntity.getUUID();
-                blockEntity.cachedItemEntity = itemEntity;
-                
-                // Use teleportTo for more reliable positioning
-                itemEntity.teleportTo(centerPos.x, centerPos.y, centerPos.z);
-                itemEntity.setDeltaMovement(Vec3.ZERO);
-                itemEntity.setNoGravity(true);
-                itemEntity.setPickUpDelay(40);
-                itemEntity.setUnlimitedLifetime(); // Prevent despawning
-                
-                blockEntity.setChanged();
-                return;
-            }
+            setChanged();
+            syncToClient();
+            return;
         }
         
         // Then try to capture entities (mobs)
-        List<Mob> nearbyEntities = level.getEntitiesOfClass(Mob.class, captureBox);
-        
+        List<Mob> nearbyEntities = serverLevel.getEntitiesOfClass(Mob.class, captureBox,
+            mob -> !pins.isPinned(mob.getUUID()));
         if (!nearbyEntities.isEmpty()) {
-            // Find a mob that isn't already being held by another projector
-            Mob entity = null;
-            for (Mob mob : nearbyEntities) {
-                // Skip mobs that are already in stasis (no gravity + no AI + invulnerable)
-                // This prevents stealing mobs from other projectors
-                if (!mob.isNoGravity() || !mob.isNoAi() || !mob.isInvulnerable()) {
-                    entity = mob;
-                    break;
-                }
-            }
+            Mob entity = nearbyEntities.get(0);
+            capturedEntityUUID = entity.getUUID();
+            cachedEntity = entity;
+            pins.pin(entity, centerPos, ENTITY_TOLERANCE);
             
-            if (entity != null) {
-                blockEntity.capturedEntityUUID = entity.getUUID();
-                blockEntity.cachedEntity = entity;
-                
-                entity.setPos(centerPos.x, centerPos.y, centerPos.z);
-                entity.setDeltaMovement(Vec3.ZERO);
-                entity.setNoGravity(true);
-                entity.setInvulnerable(true);
-                entity.setNoAi(true);
-                entity.setPersistenceRequired(); // Prevent despawning
-                
-                blockEntity.setChanged();
-            }
+            setChanged();
+            syncToClient();
+        }
+    }
+    
+    /**
+     * The server holds a captured mob still at the anchor; bob and spin it here so the motion costs no packets
+     */
+    private void clientTick(Level level) {
+        if (capturedEntityUUID == null) {
+            cachedEntity = null;
+            return;
+        }
+        
+        if (cachedEntity == null || cachedEntity.isRemoved() || !capturedEntityUUID.equals(cachedEntity.getUUID())) {
+            AABB searchBox = new AABB(worldPosition).inflate(1.0);
+            cachedEntity = level.getEntities((Entity) null, searchBox, entity -> capturedEntityUUID.equals(entity.getUUID()))
+                .stream().findFirst().orElse(null);
+            if (cachedEntity == null) return;
+        }
+        
+        // Add bobbing motion (like items do)
+        Vec3 centerPos = getAnchor();
+        double bobOffset = Math.sin(level.getGameTime() / 10.0) * 0.1; // Bob up and down by 0.1 blocks
+        cachedEntity.setPos(centerPos.x, centerPos.y + bobOffset, centerPos.z);
+        cachedEntity.setDeltaMovement(Vec3.ZERO);
+        
+        // Rotate the entity slowly (like items do)
+        float rotationSpeed = 4.0f; // Degrees per tick
+        if (cachedEntity instanceof LivingEntity living) {
+            float newYaw = (living.yBodyRot + rotationSpeed) % 360.0f;
+            living.yBodyRot = newYaw;
+            living.setYRot(newYaw);
+            living.yHeadRot = newYaw;
+        } else {
+            cachedEntity.setYRot((cachedEntity.getYRot() + rotationSpeed) % 360.0f);
         }
+        cachedEntity.setXRot(0);
     }
     
     @Override
@@ -9,8 +9,6 @@ import net.minecraft.world.level.block.EntityBlock;
 import net.minecraft.world.level.block.RenderShape;
 import net.minecraft.world.level.block.SoundType;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.entity.BlockEntityTicker;
-import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockBehaviour;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.material.MapColor;
@@ -45,31 +43,20 @@ public class TimeDilationBlock extends Block implements EntityBlock {
         return RenderShape.MODEL; // Standard model rendering
     }
     
-    // Decay is now handled by the block entity tick counter, not random ticks
+    // Decay is handled by TimeDilationFieldManager from the block entity's timer, not random ticks
     
     @Override
     public void stepOn(Level level, BlockPos pos, BlockState state, Entity entity) {
         super.stepOn(level, pos, state, entity);
         // This is called when an entity steps on the block
-        // The block entity tick will handle the slowdown, but this ensures detection
+        // The field manager handles the slowdown, but this ensures detection
     }
     
     @Override
     public void entityInside(BlockState state, Level level, BlockPos pos, Entity entity) {
         super.entityInside(state, level, pos, entity);
         // This is called every tick for entities inside the block
-        // The block entity tick will handle the slowdown, but this ensures detection
-    }
-    
-    @Override
-    public void onRemove(BlockState state, Level level, BlockPos pos, BlockState newState, boolean isMoving) {
-        // Clean up player effects when block is removed
-        if (!state.is(newState.getBlock()) && !level.isClientSide) {
-            if (level.getBlockEntity(pos) instanceof com.hexvane.strangematter.block.TimeDilationBlockEntity blockEntity) {
-                blockEntity.cleanupAllAffectedPlayers();
-            }
-        }
-        super.onRemove(state, level, pos, newState, isMoving);
+        // The field manager handles the slowdown, but this ensures detection
     }
     
     @Override
@@ -77,14 +64,6 @@ public class TimeDilationBlock extends Block implements EntityBlock {
         return StrangeMatterMod.TIME_DILATION_BLOCK_ENTITY.get().create(pos, state);
     }
     
-    @Override
-    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level level, BlockState state, BlockEntityType<T> blockEntityType) {
-        return blockEntityType == StrangeMatterMod.TIME_DILATION_BLOCK_ENTITY.get() && !level.isClientSide ? 
-            (level1, pos, state1, blockEntity) -> {
-                if (blockEntity instanceof TimeDilationBlockEntity timeDilationBlock) {
-                    TimeDilationBlockEntity.serverTick(level1, pos, state1, timeDilationBlock);
-                }
-            } : null;
-    }
+    // No ticker: the block entity only carries the decay timer, TimeDilationFieldManager ticks the field
 }
 
@@ -0,0 +1,243 @@
+package com.hexvane.strangematter.block;
+
+import com.hexvane.strangematter.PlayerFieldState;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.phys.AABB;
+
+import java.util.*;
+
+/**
+ * Per-level time dilation fields. Adjacent time dilation blocks are merged into one region, and each
+ * region runs a single entity query over its bounding box per tick, tests membership against its packed
+ * block positions and removes its blocks when they decay. Blocks register themselves when their block
+ * entity loads and leave when it is removed, so per-tick cost follows the number of blobs, not blocks.
+ */
+public class TimeDilationFieldManager {
+
+    private static final Map<LevelAccessor, TimeDilationFieldManager> MANAGERS = new HashMap<>();
+
+    private static final double SLOWDOWN_FACTOR = 0.3; // Slow down to 30% of normal speed (like molasses)
+
+    private final ServerLevel level;
+    private final Long2ObjectOpenHashMap<Region> regionOf = new Long2ObjectOpenHashMap<>();
+    private final Set<Region> regions = new LinkedHashSet<>();
+
+    private TimeDilationFieldManager(ServerLevel level) {
+        this.level = level;
+    }
+
+    public static TimeDilationFieldManager get(ServerLevel level) {
+        return MANAGERS.computeIfAbsent(level, l -> new TimeDilationFieldManager(level));
+    }
+
+    public static Optional<TimeDilationFieldManager> getIfPresent(LevelAccessor level) {
+        return Optional.ofNullable(MANAGERS.get(level));
+    }
+
+    /**
+     * Drop the fields for a level that is being unloaded
+     */
+    public static void unload(LevelAccessor level) {
+        MANAGERS.remove(level);
+    }
+
+    /**
+     * Add a block to the field, merging every region it touches
+     */
+    void addBlock(BlockPos pos, long decayGameTime) {
+        long packed = pos.asLong();
+        if (regionOf.containsKey(packed)) return;
+
+        Region region = null;
+        for (Direction direction : Direction.values()) {
+            Region neighbour = regionOf.get(BlockPos.offset(packed, direction));
+            if (neighbour == null || neighbour == region) continue;
+
+            if (region == null) {
+                region = neighbour;
+            } else {
+                // Fold the smaller region into the larger one
+                Region from = neighbour.blocks.size() > region.blocks.size() ? region : neighbour;
+                Region into = from == region ? neighbour : region;
+                merge(from, into);
+                region = into;
+            }
+        }
+        if (region == null) {
+            region = new Region();
+            regions.add(region);
+        }
+
+        region.blocks.put(packed, decayGameTime);
+        region.nextDecay = Math.min(region.nextDecay, decayGameTime);
+        region.boundsDirty = true;
+        regionOf.put(packed, region);
+    }
+
+    /**
+     * Remove a block from the field; a region left empty releases its players
+     */
+    void removeBlock(BlockPos pos) {
+        long packed = pos.asLong();
+        Region region = regionOf.remove(packed);
+        if (region == null) return;
+
+        region.blocks.remove(packed);
+        region.boundsDirty = true;
+        if (region.blocks.isEmpty()) {
+            region.releasePlayers();
+            regions.remove(region);
+        }
+    }
+
+    private void merge(Region from, Region into) {
+        for (Long2LongMap.Entry entry : from.blocks.long2LongEntrySet()) {
+            into.blocks.put(entry.getLongKey(), entry.getLongValue());
+            regionOf.put(entry.getLongKey(), into);
+        }
+        into.nextDecay = Math.min(into.nextDecay, from.nextDecay);
+        into.boundsDirty = true;
+
+        // Hand players over so their slowdown doesn't lapse for a tick
+        for (Player player : from.affectedPlayers) {
+            PlayerFieldState.get(player).ifPresent(state -> {
+                state.setSlowdown(into, SLOWDOWN_FACTOR);
+                state.clearSlowdown(from);
+            });
+            into.affectedPlayers.add(player);
+        }
+        from.affectedPlayers.clear();
+        regions.remove(from);
+    }
+
+    public void tick() {
+        if (regions.isEmpty()) return;
+
+        long gameTime = level.getGameTime();
+        LongArrayList decayed = new LongArrayList();
+        for (Region region : regions) {
+            region.tick(gameTime, decayed);
+        }
+
+        // Removing the blocks unregisters them through their block entities
+        for (int i = 0; i < decayed.size(); i++) {
+            level.setBlock(BlockPos.of(decayed.getLong(i)), Blocks.AIR.defaultBlockState(), 3);
+        }
+    }
+
+    /**
+     * One connected blob of time dilation blocks. The region itself is the players' slowdown source.
+     */
+    private class Region {
+        // Packed block position -> game time it decays at
+        private final Long2LongOpenHashMap blocks = new Long2LongOpenHashMap();
+        private final Set<Player> affectedPlayers = new HashSet<>();
+        private long nextDecay = Long.MAX_VALUE;
+        private boolean boundsDirty = true;
+        private AABB bounds;
+
+        private void tick(long gameTime, LongArrayList decayed) {
+            if (gameTime >= nextDecay) {
+                collectDecayed(gameTime, decayed);
+            }
+
+            if (boundsDirty) {
+                updateBounds();
+            }
+
+            // Slightly expanded to catch entities at the edges
+            var entities = level.getEntities((Entity) null, bounds.inflate(0.25), entity ->
+                // Skip the projectile that spawned this field if it's still around
+                !(entity instanceof com.hexvane.strangematter.entity.ChronoBlisterProjectileEntity) && touchesField(entity.getBoundingBox()));
+
+            Set<Player> currentAffectedPlayers = new HashSet<>();
+            for (Entity entity : entities) {
+                if (entity instanceof Player player) {
+                    currentAffectedPlayers.add(player);
+                    // The player's field state keeps the strongest slowdown of every field they touch
+                    PlayerFieldState.get(player).ifPresent(state -> state.setSlowdown(this, SLOWDOWN_FACTOR));
+                }
+                entity.setDeltaMovement(entity.getDeltaMovement().scale(SLOWDOWN_FACTOR));
+            }
+
+            // Clean up players who are no longer in the field
+            for (Player player : affectedPlayers) {
+                if (!currentAffectedPlayers.contains(player)) {
+                    PlayerFieldState.get(player).ifPresent(state -> state.clearSlowdown(this));
+                }
+            }
+            affectedPlayers.clear();
+            affectedPlayers.addAll(currentAffectedPlayers);
+        }
+
+        private void collectDecayed(long gameTime, LongArrayList decayed) {
+            long next = Long.MAX_VALUE;
+            for (Long2LongMap.Entry entry : blocks.long2LongEntrySet()) {
+                if (entry.getLongValue() <= gameTime) {
+                    decayed.add(entry.getLongKey());
+                } else {
+                    next = Math.min(next, entry.getLongValue());
+                }
+            }
+            nextDecay = next;
+        }
+
+        private void updateBounds() {
+            int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+            int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+            for (long packed : blocks.keySet()) {
+                int x = BlockPos.getX(packed);
+                int y = BlockPos.getY(packed);
+                int z = BlockPos.getZ(packed);
+                minX = Math.min(minX, x);
+                minY = Math.min(minY, y);
+                minZ = Math.min(minZ, z);
+                maxX = Math.max(maxX, x);
+                maxY = Math.max(maxY, y);
+                maxZ = Math.max(maxZ, z);
+            }
+            bounds = new AABB(minX, minY, minZ, maxX + 1, maxY + 1, maxZ + 1);
+            boundsDirty = false;
+        }
+
+        /**
+         * Whether the box overlaps any block of this region (same test as intersecting the block's full cube)
+         */
+        private boolean touchesField(AABB box) {
+            int minX = Mth.floor(box.minX);
+            int minY = Mth.floor(box.minY);
+            int minZ = Mth.floor(box.minZ);
+            int maxX = Mth.ceil(box.maxX) - 1;
+            int maxY = Mth.ceil(box.maxY) - 1;
+            int maxZ = Mth.ceil(box.maxZ) - 1;
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    for (int z = minZ; z <= maxZ; z++) {
+                        if (blocks.containsKey(BlockPos.asLong(x, y, z))) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        private void releasePlayers() {
+            for (Player player : affectedPlayers) {
+                PlayerFieldState.get(player).ifPresent(state -> state.clearSlowdown(this));
+            }
+            affectedPlayers.clear();
+        }
+    }
+}
@@ -38,13 +38,15 @@ public class ClientModEvents {
             net.minecraft.client.renderer.blockentity.BlockEntityRenderers.register(StrangeMatterMod.RESEARCH_MACHINE_BLOCK_ENTITY.get(), ResearchMachineRenderer::new);
             net.minecraft.client.renderer.blockentity.BlockEntityRenderers.register(StrangeMatterMod.STASIS_PROJECTOR_BLOCK_ENTITY.get(), StasisProjectorRenderer::new);
             net.minecraft.client.renderer.blockentity.BlockEntityRenderers.register(StrangeMatterMod.RIFT_STABILIZER_BLOCK_ENTITY.get(), RiftStabilizerRenderer::new);
-            net.minecraft.client.renderer.blockentity.BlockEntityRenderers.register(StrangeMatterMod.RESONANT_CONDUIT_BLOCK_ENTITY.get(), ResonantConduitRenderer::new);
             net.minecraft.client.renderer.blockentity.BlockEntityRenderers.register(StrangeMatterMod.LEVITATION_PAD_BLOCK_ENTITY.get(), com.hexvane.strangematter.client.renderer.LevitationPadRenderer::new);
             
             // Set render layers for blocks with transparency
             net.minecraft.client.renderer.ItemBlockRenderTypes.setRenderLayer(StrangeMatterMod.RESONITE_TRAPDOOR_BLOCK.get(), net.minecraft.client.renderer.RenderType.cutout());
             net.minecraft.client.renderer.ItemBlockRenderTypes.setRenderLayer(StrangeMatterMod.RESONITE_DOOR_BLOCK.get(), net.minecraft.client.renderer.RenderType.cutout());
             
+            // Resonant Conduits are a baked multipart model (core + arms) drawn in the chunk mesh
+            net.minecraft.client.renderer.ItemBlockRenderTypes.setRenderLayer(StrangeMatterMod.RESONANT_CONDUIT_BLOCK.get(), net.minecraft.client.renderer.RenderType.cutout());
+            
             // Set render layers for shard crystal blocks (semi-transparent)
             net.minecraft.client.renderer.ItemBlockRenderTypes.setRenderLayer(StrangeMatterMod.SHADE_SHARD_CRYSTAL.get(), net.minecraft.client.renderer.RenderType.translucent());
             net.minecraft.client.renderer.ItemBlockRenderTypes.setRenderLayer(StrangeMatterMod.GRAVITIC_SHARD_CRYSTAL.get(), net.minecraft.client.renderer.RenderType.translucent());
@@ -56,8 +56,8 @@ public class EchoingShadowRenderer extends EntityRenderer<EchoingShadowEntity> {
         poseStack.pushPose();
         
         // Get animation data
-        float rotation = entity.getRotation() + (partialTicks * 0.5f);
-        float pulseIntensity = entity.getPulseIntensity();
+        float rotation = entity.getRotation(partialTicks);
+        float pulseIntensity = entity.getPulseIntensity(partialTicks);
         
         // Render in proper order to avoid transparency issues:
         // 1. First render the shadow billboard (translucent)
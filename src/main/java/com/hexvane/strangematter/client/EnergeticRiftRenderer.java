@@ -12,30 +12,15 @@ import net.minecraft.client.renderer.entity.EntityRendererProvider;
 import net.minecraft.client.renderer.texture.OverlayTexture;
 import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.world.level.block.Blocks;
-import net.minecraft.world.level.block.state.BlockState;
 import javax.annotation.Nonnull;
 import org.joml.Matrix4f;
 
 import java.util.List;
-import java.util.Map;
-import java.util.HashMap;
 import net.minecraft.world.phys.AABB;
 
 public class EnergeticRiftRenderer extends EntityRenderer<EnergeticRiftEntity> {
     
     private static final ResourceLocation RIFT_TEXTURE = ResourceLocation.fromNamespaceAndPath(StrangeMatterMod.MODID, "textures/entity/energetic_rift.png");
-
-    // Cache lightning rod lookups so we don't scan blocks every frame.
-    private static final int LIGHTNING_ROD_CACHE_TTL_TICKS = 5;
-    private static final long LIGHTNING_ROD_CACHE_STALE_TICKS = 200;
-    private static final Map<Integer, CachedLightningRod> LIGHTNING_ROD_CACHE = new HashMap<>();
-
-    private static class CachedLightningRod {
-        BlockPos rodPos;
-        long nextRefreshTick;
-        long lastSeenTick;
-    }
     
     public EnergeticRiftRenderer(EntityRendererProvider.Context context) {
         super(context);
@@ -61,8 +46,8 @@ public class EnergeticRiftRenderer extends EntityRenderer<EnergeticRiftEntity> {
         poseStack.mulPose(com.mojang.math.Axis.YP.rotationDegrees(180)); // Rotate 180 degrees to face player
         
         // Get entity data
-        float rotation = entity.getRotation() + partialTicks * 0.5f;
-        float pulseIntensity = entity.getPulseIntensity();
+        float rotation = entity.getRotation(partialTicks);
+        float pulseIntensity = entity.getPulseIntensity(partialTicks);
         
         // Render the main swirling rift (billboarded)
         renderSwirlingRift(poseStack, buffer, packedLight, rotation, pulseIntensity);
@@ -314,7 +299,8 @@ public class EnergeticRiftRenderer extends EntityRenderer<EnergeticRiftEntity> {
         VertexConsumer consumer = buffer.getBuffer(RenderType.lightning());
 
         // If a lightning rod is nearby, render targeting sparks ONLY to the rod (not to entities).
-        BlockPos rodPos = getNearestLightningRodCached(entity);
+        // The server picks the rod from its POI lookup and syncs it, so nothing is scanned here.
+        BlockPos rodPos = entity.getTargetLightningRod().orElse(null);
         if (rodPos != null) {
             long currentTime = System.currentTimeMillis();
             int cycleTime = 2000; // 2 seconds in milliseconds
@@ -515,67 +501,5 @@ public class EnergeticRiftRenderer extends EntityRenderer<EnergeticRiftEntity> {
             z = nextZ;
         }
     }
-
-    private BlockPos getNearestLightningRodCached(EnergeticRiftEntity entity) {
-        long gameTime = entity.level().getGameTime();
-        int id = entity.getId();
-
-        // Periodic cleanup to prevent unbounded growth
-        if (gameTime % 100L == 0L && !LIGHTNING_ROD_CACHE.isEmpty()) {
-            LIGHTNING_ROD_CACHE.entrySet().removeIf(e -> (gameTime - e.getValue().lastSeenTick) > LIGHTNING_ROD_CACHE_STALE_TICKS);
-        }
-
-        CachedLightningRod cached = LIGHTNING_ROD_CACHE.get(id);
-        if (cached != null) {
-            cached.lastSeenTick = gameTime;
-            if (gameTime < cached.nextRefreshTick) {
-                return cached.rodPos;
-            }
-        } else {
-            cached = new CachedLightningRod();
-            cached.lastSeenTick = gameTime;
-            LIGHTNING_ROD_CACHE.put(id, cached);
-        }
-
-        cached.rodPos = findNearestLightningRod(entity);
-        cached.nextRefreshTick = gameTime + LIGHTNING_ROD_CACHE_TTL_TICKS;
-        return cached.rodPos;
-    }
-
-    private BlockPos findNearestLightningRod(EnergeticRiftEntity entity) {
-        float lightningRadius = (float) com.hexvane.strangematter.Config.energeticLightningRadius;
-        if (lightningRadius <= 0) {
-            return null;
-        }
-
-        int r = (int) lightningRadius;
-        double radiusSq = lightningRadius * lightningRadius;
-        BlockPos center = entity.blockPosition();
-
-        BlockPos best = null;
-        double bestHorizSq = Double.MAX_VALUE;
-
-        for (int x = -r; x <= r; x++) {
-            for (int y = -3; y <= 3; y++) {
-                for (int z = -r; z <= r; z++) {
-                    double horizSq = (double) x * (double) x + (double) z * (double) z;
-                    if (horizSq > radiusSq) {
-                        continue;
-                    }
-
-                    BlockPos pos = center.offset(x, y, z);
-                    BlockState state = entity.level().getBlockState(pos);
-                    if (state.is(Blocks.LIGHTNING_ROD)) {
-                        if (horizSq < bestHorizSq) {
-                            bestHorizSq = horizSq;
-                            best = pos;
-                        }
-                    }
-                }
-            }
-        }
-
-        return best;
-    }
     
 }
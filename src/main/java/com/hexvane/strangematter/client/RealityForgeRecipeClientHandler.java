@@ -0,0 +1,19 @@
+package com.hexvane.strangematter.client;
+
+import com.hexvane.strangematter.recipe.RealityForgeRecipeRegistry;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.RecipesUpdatedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+/**
+ * The server sends recipes after tags on /reload, so the client index is also dropped when recipes arrive
+ */
+@Mod.EventBusSubscriber(value = Dist.CLIENT)
+public class RealityForgeRecipeClientHandler {
+
+    @SubscribeEvent
+    public static void onRecipesUpdated(RecipesUpdatedEvent event) {
+        RealityForgeRecipeRegistry.invalidateIndexes();
+    }
+}
@@ -170,28 +170,27 @@ public class ResonanceCondenserRenderer implements BlockEntityRenderer<Resonance
         
         // Find nearby anomalies and render sine wave arcs to them
         AABB searchBox = new AABB(pos).inflate(10.0); // 10 block radius
-        List<Entity> entitiesInRange = blockEntity.getLevel().getEntities(null, searchBox);
-        
-        for (Entity anomaly : entitiesInRange) {
-            if (anomaly instanceof com.hexvane.strangematter.entity.BaseAnomalyEntity) {
-                // Calculate relative positions
-                double anomalyX = anomaly.getX() - pos.getX();
-                double anomalyY = anomaly.getY() + anomaly.getBbHeight() / 2.0 - pos.getY() - 1.0;
-                double anomalyZ = anomaly.getZ() - pos.getZ();
-                
-                double distance = Math.sqrt(
-                    Math.pow(anomalyX - condenserX, 2) + 
-                    Math.pow(anomalyY - condenserY, 2) + 
-                    Math.pow(anomalyZ - condenserZ, 2)
-                );
-                
-                if (distance <= 10.0) {
-                    // Render sine wave energy arc from condenser to anomaly
-                    renderSineWaveArc(poseStack, consumer, packedLight, 
-                        condenserX, condenserY, condenserZ,
-                        anomalyX, anomalyY, anomalyZ,
-                        partialTicks);
-                }
+        var anomaliesInRange = com.hexvane.strangematter.entity.AnomalyIndex.get(blockEntity.getLevel())
+            .getInBox(com.hexvane.strangematter.entity.BaseAnomalyEntity.class, searchBox);
+        
+        for (Entity anomaly : anomaliesInRange) {
+            // Calculate relative positions
+            double anomalyX = anomaly.getX() - pos.getX();
+            double anomalyY = anomaly.getY() + anomaly.getBbHeight() / 2.0 - pos.getY() - 1.0;
+            double anomalyZ = anomaly.getZ() - pos.getZ();
+            
+            double distance = Math.sqrt(
+                Math.pow(anomalyX - condenserX, 2) + 
+                Math.pow(anomalyY - condenserY, 2) + 
+                Math.pow(anomalyZ - condenserZ, 2)
+            );
+            
+            if (distance <= 10.0) {
+                // Render sine wave energy arc from condenser to anomaly
+                renderSineWaveArc(poseStack, consumer, packedLight, 
+                    condenserX, condenserY, condenserZ,
+                    anomalyX, anomalyY, anomalyZ,
+                    partialTicks);
             }
         }
     }
@@ -51,8 +51,8 @@ public class TemporalBloomRenderer extends EntityRenderer<TemporalBloomEntity> {
         poseStack.pushPose();
         
         // Get animation data
-        float rotation = entity.getRotation() + (partialTicks * 0.3f);
-        float pulseIntensity = entity.getPulseIntensity();
+        float rotation = entity.getRotation(partialTicks);
+        float pulseIntensity = entity.getPulseIntensity(partialTicks);
         
         // Render in proper order to avoid transparency issues:
         // 1. First render opaque/solid elements
@@ -35,7 +35,7 @@ public class WarpGateAnomalyRenderer extends EntityRenderer<WarpGateAnomalyEntit
         poseStack.pushPose();
         
         // Get entity data
-        float rotation = entity.getRotation();
+        float rotation = entity.getRotation(partialTicks);
         boolean isActive = entity.isActive();
         
         // Fixed size - no more pulsing
@@ -1,11 +1,13 @@
 package com.hexvane.strangematter.client.network;
 
 import com.hexvane.strangematter.StrangeMatterMod;
+import com.hexvane.strangematter.api.block.entity.IPacketHandlerTile;
 import com.hexvane.strangematter.block.ResearchMachineBlockEntity;
 import com.hexvane.strangematter.research.ResearchData;
 import com.hexvane.strangematter.research.ResearchType;
 import net.minecraft.client.Minecraft;
 import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.entity.player.Player;
 
 import java.util.Set;
@@ -65,21 +67,23 @@ public final class ClientPacketHandlers {
         }
     }
 
-    public static void handleTimeDilationSync(double slowdownFactor) {
+    public static void handleMachineState(BlockPos pos, FriendlyByteBuf data) {
         Minecraft minecraft = Minecraft.getInstance();
-        Player player = minecraft.player;
-        if (player == null) return;
+        if (minecraft.level == null) return;
 
-        player.getPersistentData().putDouble("strangematter.time_dilation_factor", slowdownFactor);
-        com.hexvane.strangematter.TimeDilationData.setPlayerSlowdownFactor(player.getUUID(), slowdownFactor);
+        var blockEntity = minecraft.level.getBlockEntity(pos);
+        if (blockEntity instanceof IPacketHandlerTile handlerTile) {
+            handlerTile.handleStatePacket(data);
+        }
     }
 
-    public static void handleGravitySync(double gravityForce) {
+    public static void handlePlayerFieldSync(double gravityForce, double slowdownFactor) {
         Minecraft minecraft = Minecraft.getInstance();
         Player player = minecraft.player;
         if (player == null) return;
 
-        player.getPersistentData().putDouble("strangematter.gravity_force", gravityForce);
+        com.hexvane.strangematter.PlayerFieldState.get(player)
+            .ifPresent(state -> state.applySync(gravityForce, slowdownFactor));
     }
 
     public static void handleMobDisguiseSync(UUID mobUUID, boolean clearDisguise, String disguiseType, int disguiseDuration) {
@@ -124,7 +124,7 @@ public class LevitationPadRenderer implements BlockEntityRenderer<LevitationPadB
         
         poseStack.pushPose();
         
-        // Get the render type for the texture (same method as ResonantConduitRenderer)
+        // Get the render type for the texture
         RenderType renderType = RenderType.entityTranslucentEmissive(LEVITATION_FIELD_TEXTURE);
         VertexConsumer vertexConsumer = buffer.getBuffer(renderType);
         
@@ -204,7 +204,7 @@ public class LevitationPadRenderer implements BlockEntityRenderer<LevitationPadB
     }
     
     /**
-     * Add a vertex to the buffer (same method as ResonantConduitRenderer)
+     * Add a vertex to the buffer
      */
     private void addVertex(VertexConsumer buffer, PoseStack poseStack, float x, float y, float z,
                           float u, float v, int combinedLight, int combinedOverlay) {
@@ -3,6 +3,7 @@ package com.hexvane.strangematter.client.screen;
 import com.hexvane.strangematter.StrangeMatterMod;
 import com.hexvane.strangematter.block.RealityForgeBlockEntity;
 import com.hexvane.strangematter.menu.RealityForgeMenu;
+import com.hexvane.strangematter.recipe.ShardType;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.components.Button;
 import net.minecraft.network.chat.Component;
@@ -10,9 +11,7 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.player.Inventory;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 public class RealityForgeScreen extends BaseMachineScreen<RealityForgeMenu> {
     
@@ -68,8 +67,7 @@ public class RealityForgeScreen extends BaseMachineScreen<RealityForgeMenu> {
     }
     
     private void renderSpinningShards(GuiGraphics guiGraphics, int centerX, int centerY, float partialTick) {
-        Map<String, Integer> storedShards = menu.getStoredShards();
-        List<String> shardOrder = menu.getShardOrder();
+        List<ShardType> shardOrder = menu.getShardOrder();
         
         // Get synchronized shard count from ContainerData (like crafting progress)
         int synchronizedShardCount = 0;
@@ -103,9 +101,9 @@ public class RealityForgeScreen extends BaseMachineScreen<RealityForgeMenu> {
         
         
         // Create a list of all individual shards to render
-        List<String> allShards = new ArrayList<>();
-        for (String shardType : shardOrder) {
-            int count = storedShards.getOrDefault(shardType, 0);
+        List<ShardType> allShards = new ArrayList<>();
+        for (ShardType shardType : shardOrder) {
+            int count = menu.getStoredShardCount(shardType);
             for (int i = 0; i < count; i++) {
                 allShards.add(shardType);
             }
@@ -113,7 +111,7 @@ public class RealityForgeScreen extends BaseMachineScreen<RealityForgeMenu> {
         
         // Render each shard individually
         for (int i = 0; i < allShards.size(); i++) {
-            String shardType = allShards.get(i);
+            ShardType shardType = allShards.get(i);
             float angle = time + (i * 2.0f * (float) Math.PI / Math.max(allShards.size(), 1));
             
             int shardX, shardY;
@@ -143,13 +141,13 @@ public class RealityForgeScreen extends BaseMachineScreen<RealityForgeMenu> {
         }
     }
     
-    private void renderShard(GuiGraphics guiGraphics, int x, int y, String shardType) {
+    private void renderShard(GuiGraphics guiGraphics, int x, int y, ShardType shardType) {
         ResourceLocation shardTexture = getShardTexture(shardType);
         guiGraphics.blit(shardTexture, x - 8, y - 8, 0, 0, 16, 16, 16, 16);
     }
     
     /** Trail behind the shard along its orbit (used only when not crafting). */
-    private void renderParticleTrail(GuiGraphics guiGraphics, int x, int y, String shardType, float angle) {
+    private void renderParticleTrail(GuiGraphics guiGraphics, int x, int y, ShardType shardType, float angle) {
         int color = getShardColor(shardType);
         int trailCount = 5;
         int size = 2;
@@ -177,27 +175,18 @@ public class RealityForgeScreen extends BaseMachineScreen<RealityForgeMenu> {
         }
     }
     
-    private ResourceLocation getShardTexture(String shardType) {
-        return switch (shardType) {
-            case "energetic" -> ResourceLocation.fromNamespaceAndPath(StrangeMatterMod.MODID, "textures/item/energetic_shard.png");
-            case "gravitic" -> ResourceLocation.fromNamespaceAndPath(StrangeMatterMod.MODID, "textures/item/gravitic_shard.png");
-            case "chrono" -> ResourceLocation.fromNamespaceAndPath(StrangeMatterMod.MODID, "textures/item/chrono_shard.png");
-            case "spatial" -> ResourceLocation.fromNamespaceAndPath(StrangeMatterMod.MODID, "textures/item/spatial_shard.png");
-            case "shade" -> ResourceLocation.fromNamespaceAndPath(StrangeMatterMod.MODID, "textures/item/shade_shard.png");
-            case "insight" -> ResourceLocation.fromNamespaceAndPath(StrangeMatterMod.MODID, "textures/item/insight_shard.png");
-            default -> ResourceLocation.fromNamespaceAndPath(StrangeMatterMod.MODID, "textures/item/energetic_shard.png");
-        };
+    private ResourceLocation getShardTexture(ShardType shardType) {
+        return ResourceLocation.fromNamespaceAndPath(StrangeMatterMod.MODID, "textures/item/" + shardType.getName() + "_shard.png");
     }
     
-    private int getShardColor(String shardType) {
+    private int getShardColor(ShardType shardType) {
         return switch (shardType) {
-            case "energetic" -> ENERGY_COLOR;
-            case "gravitic" -> GRAVITY_COLOR;
-            case "chrono" -> TIME_COLOR;
-            case "spatial" -> SPACE_COLOR;
-            case "shade" -> SHADOW_COLOR;
-            case "insight" -> COGNITION_COLOR;
-            default -> ENERGY_COLOR;
+            case ENERGETIC -> ENERGY_COLOR;
+            case GRAVITIC -> GRAVITY_COLOR;
+            case CHRONO -> TIME_COLOR;
+            case SPATIAL -> SPACE_COLOR;
+            case SHADE -> SHADOW_COLOR;
+            case INSIGHT -> COGNITION_COLOR;
         };
     }
     
@@ -1191,19 +1191,6 @@ public class ResearchNodeInfoScreen extends Screen {
         guiGraphics.drawString(this.font, Component.translatable("gui.strangematter.info_page.required_shards"), x, y, 0xFFFFAA00);
         y += 15;
         
-        // Convert shard type names to items
-        java.util.Map<String, net.minecraft.world.item.Item> shardTypeToItem = new java.util.HashMap<>();
-        shardTypeToItem.put("gravitic", com.hexvane.strangematter.StrangeMatterMod.GRAVITIC_SHARD.get());
-        shardTypeToItem.put("gravity", com.hexvane.strangematter.StrangeMatterMod.GRAVITIC_SHARD.get()); // Alias
-        shardTypeToItem.put("energetic", com.hexvane.strangematter.StrangeMatterMod.ENERGETIC_SHARD.get());
-        shardTypeToItem.put("spatial", com.hexvane.strangematter.StrangeMatterMod.SPATIAL_SHARD.get());
-        shardTypeToItem.put("chrono", com.hexvane.strangematter.StrangeMatterMod.CHRONO_SHARD.get());
-        shardTypeToItem.put("temporal", com.hexvane.strangematter.StrangeMatterMod.CHRONO_SHARD.get()); // Alias
-        shardTypeToItem.put("shade", com.hexvane.strangematter.StrangeMatterMod.SHADE_SHARD.get());
-        shardTypeToItem.put("shadow", com.hexvane.strangematter.StrangeMatterMod.SHADE_SHARD.get()); // Alias
-        shardTypeToItem.put("insight", com.hexvane.strangematter.StrangeMatterMod.INSIGHT_SHARD.get());
-        shardTypeToItem.put("cognitive", com.hexvane.strangematter.StrangeMatterMod.INSIGHT_SHARD.get()); // Alias
-        
         // Draw shards in a horizontal line
         int shardX = x;
         int shardY = y;
@@ -1213,7 +1200,8 @@ public class ResearchNodeInfoScreen extends Screen {
         for (java.util.Map.Entry<String, Integer> entry : shardRequirements.entrySet()) {
             String shardType = entry.getKey();
             int count = entry.getValue();
-            net.minecraft.world.item.Item shardItem = shardTypeToItem.get(shardType);
+            com.hexvane.strangematter.recipe.ShardType type = com.hexvane.strangematter.recipe.ShardType.byName(shardType);
+            net.minecraft.world.item.Item shardItem = type != null ? type.getItem() : null;
             
             if (shardItem != null) {
                 net.minecraft.world.item.ItemStack shardStack = new net.minecraft.world.item.ItemStack(shardItem);
@@ -1,6 +1,8 @@
 package com.hexvane.strangematter.command;
 
 import com.hexvane.strangematter.StrangeMatterMod;
+import com.hexvane.strangematter.entity.AnomalyIndex;
+import com.hexvane.strangematter.entity.BaseAnomalyEntity;
 import com.hexvane.strangematter.entity.GravityAnomalyEntity;
 import com.hexvane.strangematter.entity.EnergeticRiftEntity;
 import com.hexvane.strangematter.entity.EchoingShadowEntity;
@@ -20,6 +22,7 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.phys.Vec3;
 
 public class AnomalyCommand {
     
@@ -46,6 +49,9 @@ public class AnomalyCommand {
             .then(Commands.literal("list")
                 .executes(AnomalyCommand::listAnomalyTypes)
             )
+            .then(Commands.literal("sync_stats")
+                .executes(AnomalyCommand::showSyncStats)
+            )
             .then(Commands.literal("debug_chunk")
                 .then(Commands.argument("pos", BlockPosArgument.blockPos())
                     .executes(AnomalyCommand::debugChunkLoad)
@@ -186,34 +192,8 @@ public class AnomalyCommand {
         switch (anomalyType.toLowerCase()) {
             case "gravity":
                 // For gravity anomalies, search for entities
-                var gravityEntities = serverLevel.getEntitiesOfClass(GravityAnomalyEntity.class, 
-                    new net.minecraft.world.phys.AABB(playerPos).inflate(10000));
-                
-                if (gravityEntities.isEmpty()) {
-                    source.sendSuccess(() -> Component.literal("No gravity anomalies found within 10000 blocks"), false);
-                    return 0;
-                }
-                
-                // Find the nearest one
-                GravityAnomalyEntity nearest = null;
-                double nearestDistance = Double.MAX_VALUE;
-                for (GravityAnomalyEntity entity : gravityEntities) {
-                    double distance = playerPos.distSqr(entity.blockPosition());
-                    if (distance < nearestDistance) {
-                        nearest = entity;
-                        nearestDistance = distance;
-                    }
-                }
-                
-                if (nearest != null) {
-                    BlockPos nearestPos = nearest.blockPosition();
-                    double distance = Math.sqrt(nearestDistance);
-                    source.sendSuccess(() -> Component.literal("Nearest gravity anomaly at " + 
-                        nearestPos.getX() + ", " + nearestPos.getY() + ", " + nearestPos.getZ() + 
-                        " (distance: " + String.format("%.1f", distance) + " blocks)"), false);
-                    return 1;
-                }
-                break;
+                return locateNearest(source, serverLevel, playerPos, GravityAnomalyEntity.class,
+                    "No gravity anomalies found within 10000 blocks", "Nearest gravity anomaly at ");
                 
         case "warp_gate":
             // Use the EXACT same method as warp gate pairing logic
@@ -258,134 +238,45 @@ public class AnomalyCommand {
                 
             case "energetic_rift":
                 // For energetic rift anomalies, search for entities
-                var energeticRiftEntities = serverLevel.getEntitiesOfClass(EnergeticRiftEntity.class, 
-                    new net.minecraft.world.phys.AABB(playerPos).inflate(10000));
-                
-                if (energeticRiftEntities.isEmpty()) {
-                    source.sendSuccess(() -> Component.literal("No energetic rift anomalies found within 10000 blocks"), false);
-                    return 0;
-                }
-                
-                // Find the nearest one
-                EnergeticRiftEntity nearestRift = null;
-                double nearestRiftDistance = Double.MAX_VALUE;
-                for (EnergeticRiftEntity entity : energeticRiftEntities) {
-                    double distance = playerPos.distSqr(entity.blockPosition());
-                    if (distance < nearestRiftDistance) {
-                        nearestRift = entity;
-                        nearestRiftDistance = distance;
-                    }
-                }
-                
-                if (nearestRift != null) {
-                    BlockPos nearestPos = nearestRift.blockPosition();
-                    double distance = Math.sqrt(nearestRiftDistance);
-                    source.sendSuccess(() -> Component.literal("Nearest energetic rift at " + 
-                        nearestPos.getX() + ", " + nearestPos.getY() + ", " + nearestPos.getZ() + 
-                        " (distance: " + String.format("%.1f", distance) + " blocks)"), false);
-                    return 1;
-                }
-                break;
+                return locateNearest(source, serverLevel, playerPos, EnergeticRiftEntity.class,
+                    "No energetic rift anomalies found within 10000 blocks", "Nearest energetic rift at ");
                 
             case "echoing_shadow":
                 // For echoing shadow anomalies, search for entities
-                var echoingShadowEntities = serverLevel.getEntitiesOfClass(EchoingShadowEntity.class, 
-                    new net.minecraft.world.phys.AABB(playerPos).inflate(10000));
-                
-                if (echoingShadowEntities.isEmpty()) {
-                    source.sendSuccess(() -> Component.literal("No echoing shadow anomalies found within 10000 blocks"), false);
-                    return 0;
-                }
-                
-                // Find the nearest one
-                EchoingShadowEntity nearestShadow = null;
-                double nearestShadowDistance = Double.MAX_VALUE;
-                for (EchoingShadowEntity entity : echoingShadowEntities) {
-                    double distance = playerPos.distSqr(entity.blockPosition());
-                    if (distance < nearestShadowDistance) {
-                        nearestShadow = entity;
-                        nearestShadowDistance = distance;
-                    }
-                }
-                
-                if (nearestShadow != null) {
-                    BlockPos nearestPos = nearestShadow.blockPosition();
-                    double distance = Math.sqrt(nearestShadowDistance);
-                    source.sendSuccess(() -> Component.literal("Nearest echoing shadow at " + 
-                        nearestPos.getX() + ", " + nearestPos.getY() + ", " + nearestPos.getZ() + 
-                        " (distance: " + String.format("%.1f", distance) + " blocks)"), false);
-                    return 1;
-                }
-                break;
+                return locateNearest(source, serverLevel, playerPos, EchoingShadowEntity.class,
+                    "No echoing shadow anomalies found within 10000 blocks", "Nearest echoing shadow at ");
                 
             case "temporal_bloom":
                 // For temporal bloom anomalies, search for entities
-                var temporalBloomEntities = serverLevel.getEntitiesOfClass(TemporalBloomEntity.class, 
-                    new net.minecraft.world.phys.AABB(playerPos).inflate(10000));
-                
-                if (temporalBloomEntities.isEmpty()) {
-                    source.sendSuccess(() -> Component.literal("No temporal bloom anomalies found within 10000 blocks"), false);
-                    return 0;
-                }
-                
-                // Find the nearest one
-                TemporalBloomEntity nearestBloom = null;
-                double nearestBloomDistance = Double.MAX_VALUE;
-                for (TemporalBloomEntity entity : temporalBloomEntities) {
-                    double distance = playerPos.distSqr(entity.blockPosition());
-                    if (distance < nearestBloomDistance) {
-                        nearestBloom = entity;
-                        nearestBloomDistance = distance;
-                    }
-                }
-                
-                if (nearestBloom != null) {
-                    BlockPos nearestPos = nearestBloom.blockPosition();
-                    double distance = Math.sqrt(nearestBloomDistance);
-                    source.sendSuccess(() -> Component.literal("Nearest temporal bloom at " + 
-                        nearestPos.getX() + ", " + nearestPos.getY() + ", " + nearestPos.getZ() + 
-                        " (distance: " + String.format("%.1f", distance) + " blocks)"), false);
-                    return 1;
-                }
-                break;
+                return locateNearest(source, serverLevel, playerPos, TemporalBloomEntity.class,
+                    "No temporal bloom anomalies found within 10000 blocks", "Nearest temporal bloom at ");
                 
             case "thoughtwell":
                 // For thoughtwell anomalies, search for entities
-                var thoughtwellEntities = serverLevel.getEntitiesOfClass(ThoughtwellEntity.class, 
-                    new net.minecraft.world.phys.AABB(playerPos).inflate(10000));
-                
-                if (thoughtwellEntities.isEmpty()) {
-                    source.sendSuccess(() -> Component.literal("No thoughtwell anomalies found within 10000 blocks"), false);
-                    return 0;
-                }
-                
-                // Find the nearest one
-                ThoughtwellEntity nearestThoughtwell = null;
-                double nearestThoughtwellDistance = Double.MAX_VALUE;
-                for (ThoughtwellEntity entity : thoughtwellEntities) {
-                    double distance = playerPos.distSqr(entity.blockPosition());
-                    if (distance < nearestThoughtwellDistance) {
-                        nearestThoughtwell = entity;
-                        nearestThoughtwellDistance = distance;
-                    }
-                }
-                
-                if (nearestThoughtwell != null) {
-                    BlockPos nearestPos = nearestThoughtwell.blockPosition();
-                    double distance = Math.sqrt(nearestThoughtwellDistance);
-                    source.sendSuccess(() -> Component.literal("Nearest thoughtwell at " + 
-                        nearestPos.getX() + ", " + nearestPos.getY() + ", " + nearestPos.getZ() + 
-                        " (distance: " + String.format("%.1f", distance) + " blocks)"), false);
-                    return 1;
-                }
-                break;
+                return locateNearest(source, serverLevel, playerPos, ThoughtwellEntity.class,
+                    "No thoughtwell anomalies found within 10000 blocks", "Nearest thoughtwell at ");
                 
             default:
                 throw INVALID_ANOMALY_TYPE.create();
         }
+    }
+    
+    private static int locateNearest(CommandSourceStack source, ServerLevel serverLevel, BlockPos playerPos,
+                                     Class<? extends BaseAnomalyEntity> type, String notFoundMessage, String foundPrefix) {
+        var nearest = AnomalyIndex.get(serverLevel).findNearest(type, Vec3.atCenterOf(playerPos),
+            new net.minecraft.world.phys.AABB(playerPos).inflate(10000), anomaly -> true);
         
-        source.sendSuccess(() -> Component.literal("No " + anomalyType + " anomalies found"), false);
-        return 0;
+        if (nearest.isEmpty()) {
+            source.sendSuccess(() -> Component.literal(notFoundMessage), false);
+            return 0;
+        }
+        
+        BlockPos nearestPos = nearest.get().blockPosition();
+        double distance = Math.sqrt(playerPos.distSqr(nearestPos));
+        source.sendSuccess(() -> Component.literal(foundPrefix + 
+            nearestPos.getX() + ", " + nearestPos.getY() + ", " + nearestPos.getZ() + 
+            " (distance: " + String.format("%.1f", distance) + " blocks)"), false);
+        return 1;
     }
     
     private static int listAnomalyTypes(CommandContext<CommandSourceStack> context) {
@@ -402,7 +293,33 @@ public class AnomalyCommand {
         source.sendSuccess(() -> Component.literal("Commands:"), false);
         source.sendSuccess(() -> Component.literal("- /anomaly spawn <type> [pos]: Spawn single anomaly"), false);
         source.sendSuccess(() -> Component.literal("- /anomaly locate <type>: Locate nearest anomaly of specified type"), false);
+        source.sendSuccess(() -> Component.literal("- /anomaly sync_stats: Show anomaly entity data syncs since the last call"), false);
+        
+        return 1;
+    }
+    
+    // Sync counter and game time at the previous sync_stats call
+    private static long lastSyncCount = 0;
+    private static long lastSyncStatsTime = -1;
+    
+    private static int showSyncStats(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        long gameTime = source.getLevel().getGameTime();
+        long syncCount = BaseAnomalyEntity.getEntityDataSyncCount();
+        int anomalies = AnomalyIndex.get(source.getLevel()).size();
+        
+        if (lastSyncStatsTime < 0 || gameTime <= lastSyncStatsTime) {
+            source.sendSuccess(() -> Component.literal("§7Anomaly sync counter started (" + syncCount + " syncs so far). Run again to see the rate."), false);
+        } else {
+            long syncs = syncCount - lastSyncCount;
+            long ticks = gameTime - lastSyncStatsTime;
+            double perSecond = syncs * 20.0 / ticks;
+            source.sendSuccess(() -> Component.literal("§6" + syncs + " §7anomaly entity data syncs in §6" + ticks + " §7ticks (§6"
+                + String.format("%.2f", perSecond) + "§7/s, " + anomalies + " anomalies loaded in this dimension)"), false);
+        }
         
+        lastSyncCount = syncCount;
+        lastSyncStatsTime = gameTime;
         return 1;
     }
     
@@ -467,7 +384,7 @@ public class AnomalyCommand {
             
             if (structurePos != null) {
                 // Check if there's already a warp gate entity at this location
-                var existingEntities = level.getEntitiesOfClass(WarpGateAnomalyEntity.class, 
+                var existingEntities = AnomalyIndex.get(level).getInBox(WarpGateAnomalyEntity.class, 
                     new net.minecraft.world.phys.AABB(structurePos).inflate(5));
                 
                 source.sendSuccess(() -> Component.literal("Existing entities found: " + existingEntities.size()), false);
@@ -0,0 +1,137 @@
+package com.hexvane.strangematter.command;
+
+import com.hexvane.strangematter.Config;
+import com.hexvane.strangematter.energy.ConduitNetwork;
+import com.hexvane.strangematter.energy.ConduitNetworkManager;
+import com.hexvane.strangematter.energy.ConduitNetworkTelemetry;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.commands.arguments.coordinates.BlockPosArgument;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Diagnostics for the Resonant Conduit energy system: /strangematter energy ...
+ */
+public class EnergyCommand {
+    
+    public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal("strangematter")
+            .requires(source -> source.hasPermission(2)) // Requires OP level 2
+            .then(Commands.literal("energy")
+                .then(Commands.literal("status")
+                    .executes(EnergyCommand::showStatus))
+                .then(Commands.literal("inspect")
+                    .then(Commands.argument("pos", BlockPosArgument.blockPos())
+                        .executes(EnergyCommand::inspectNetwork)))
+                .then(Commands.literal("top")
+                    .executes(context -> showTopNetworks(context, 5))
+                    .then(Commands.argument("count", IntegerArgumentType.integer(1, 50))
+                        .executes(context -> showTopNetworks(context, IntegerArgumentType.getInteger(context, "count")))))));
+    }
+    
+    private static int showStatus(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        int totalActive = 0;
+        int totalDormant = 0;
+        
+        source.sendSuccess(() -> Component.literal("§6Conduit Networks:"), false);
+        for (ServerLevel level : source.getServer().getAllLevels()) {
+            var manager = ConduitNetworkManager.getIfPresent(level);
+            if (manager.isEmpty() || manager.get().getNetworks().isEmpty()) continue;
+            
+            int active = manager.get().getActiveNetworkCount();
+            int dormant = manager.get().getDormantNetworkCount();
+            totalActive += active;
+            totalDormant += dormant;
+            
+            String dimension = level.dimension().location().toString();
+            source.sendSuccess(() -> Component.literal("§e" + dimension + ": §a" + active + " active§f, §7" + dormant + " dormant"), false);
+        }
+        
+        final int active = totalActive;
+        final int dormant = totalDormant;
+        source.sendSuccess(() -> Component.literal("§eTotal: §a" + active + " active§f, §7" + dormant + " dormant"), false);
+        return active + dormant;
+    }
+    
+    private static int inspectNetwork(CommandContext<CommandSourceStack> context) throws CommandSyntaxException {
+        CommandSourceStack source = context.getSource();
+        ServerLevel level = source.getLevel();
+        BlockPos pos = BlockPosArgument.getBlockPos(context, "pos");
+        
+        ConduitNetwork network = ConduitNetworkManager.getIfPresent(level)
+            .map(manager -> findNetwork(manager, pos))
+            .orElse(null);
+        if (network == null) {
+            source.sendFailure(Component.literal("No conduit network at or next to " + pos.toShortString()));
+            return 0;
+        }
+        
+        long gameTime = level.getGameTime();
+        ConduitNetworkTelemetry telemetry = network.getTelemetry();
+        String unit = Config.energyUnitDisplay;
+        
+        source.sendSuccess(() -> Component.literal("§6Conduit Network #" + network.getId() + (network.isDormant() ? " §7(dormant)" : " §a(active)")), false);
+        source.sendSuccess(() -> Component.literal("§eConduits: §f" + network.getMemberCount() + "§e, Endpoints: §f" + network.getEndpointCount()), false);
+        source.sendSuccess(() -> Component.literal(String.format("§eMoved: §f%.1f %s/t §7(last %d ticks, %d total)",
+            telemetry.getAverageMovedPerTick(gameTime), unit, ConduitNetworkTelemetry.WINDOW, telemetry.getTotalMoved())), false);
+        source.sendSuccess(() -> Component.literal(String.format("§eRouting: §f%.1f µs/t avg§e, §f%.1f µs §epeak",
+            telemetry.getAverageRouteNanos(gameTime) / 1000.0, telemetry.getPeakRouteNanos(gameTime) / 1000.0)), false);
+        source.sendSuccess(() -> Component.literal("§eRebuilds: §f" + telemetry.getRebuildCount()), false);
+        return network.getMemberCount();
+    }
+    
+    private static int showTopNetworks(CommandContext<CommandSourceStack> context, int count) {
+        CommandSourceStack source = context.getSource();
+        
+        List<RankedNetwork> ranked = new ArrayList<>();
+        for (ServerLevel level : source.getServer().getAllLevels()) {
+            var manager = ConduitNetworkManager.getIfPresent(level);
+            if (manager.isEmpty()) continue;
+            
+            long gameTime = level.getGameTime();
+            for (ConduitNetwork network : manager.get().getNetworks()) {
+                ConduitNetworkTelemetry telemetry = network.getTelemetry();
+                ranked.add(new RankedNetwork(level.dimension().location().toString(), network,
+                    telemetry.getAverageRouteNanos(gameTime), telemetry.getAverageMovedPerTick(gameTime)));
+            }
+        }
+        ranked.sort(Comparator.comparingDouble(RankedNetwork::routeNanos).reversed());
+        
+        source.sendSuccess(() -> Component.literal("§6Top conduit networks by routing time §7(last " + ConduitNetworkTelemetry.WINDOW + " ticks):"), false);
+        String unit = Config.energyUnitDisplay;
+        for (int i = 0; i < Math.min(count, ranked.size()); i++) {
+            RankedNetwork entry = ranked.get(i);
+            int rank = i + 1;
+            source.sendSuccess(() -> Component.literal(String.format("§e%d. §f#%d §7%s§f: %.1f µs/t, %.1f %s/t, %d conduits, %d endpoints, %d rebuilds",
+                rank, entry.network().getId(), entry.dimension(), entry.routeNanos() / 1000.0, entry.moved(), unit,
+                entry.network().getMemberCount(), entry.network().getEndpointCount(), entry.network().getTelemetry().getRebuildCount())), false);
+        }
+        return ranked.size();
+    }
+    
+    // Conduit at pos, or the network of any conduit touching pos (so machines can be inspected too)
+    private static ConduitNetwork findNetwork(ConduitNetworkManager manager, BlockPos pos) {
+        ConduitNetwork network = manager.getNetwork(pos);
+        if (network != null) return network;
+        
+        for (Direction direction : Direction.values()) {
+            network = manager.getNetwork(pos.relative(direction));
+            if (network != null) return network;
+        }
+        return null;
+    }
+    
+    private record RankedNetwork(String dimension, ConduitNetwork network, double routeNanos, double moved) {}
+}
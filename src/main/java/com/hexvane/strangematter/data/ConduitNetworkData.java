@@ -0,0 +1,56 @@
+package com.hexvane.strangematter.data;
+
+import com.hexvane.strangematter.energy.ConduitNetworkManager;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.saveddata.SavedData;
+import net.minecraft.world.level.storage.DimensionDataStorage;
+
+/**
+ * Per-dimension storage for Resonant Conduit network topology.
+ * The live state is owned by the level's {@link ConduitNetworkManager}; this class only hands the
+ * saved tag to the manager once it exists and asks it to encode itself when the level saves.
+ */
+public class ConduitNetworkData extends SavedData {
+    // Tag read from disk that has not been handed to a manager yet
+    private CompoundTag pending;
+    private ConduitNetworkManager manager;
+
+    public static ConduitNetworkData create() {
+        return new ConduitNetworkData();
+    }
+
+    public static ConduitNetworkData load(CompoundTag tag) {
+        ConduitNetworkData data = new ConduitNetworkData();
+        data.pending = tag;
+        return data;
+    }
+
+    @Override
+    public CompoundTag save(CompoundTag tag) {
+        if (manager != null) {
+            return manager.save(tag);
+        }
+        // Never bound (no conduit loaded this session) - keep what was on disk
+        if (pending != null) {
+            tag.merge(pending);
+        }
+        return tag;
+    }
+
+    /**
+     * Attach the live manager, restoring any saved topology into it
+     */
+    public void bind(ConduitNetworkManager manager) {
+        this.manager = manager;
+        if (pending != null) {
+            manager.load(pending);
+            pending = null;
+        }
+    }
+
+    public static ConduitNetworkData get(ServerLevel level) {
+        DimensionDataStorage storage = level.getDataStorage();
+        return storage.computeIfAbsent(ConduitNetworkData::load, ConduitNetworkData::create, "strangematter_conduit_networks");
+    }
+}
@@ -0,0 +1,125 @@
+package com.hexvane.strangematter.energy;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraftforge.common.capabilities.ForgeCapabilities;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.energy.IEnergyStorage;
+
+import javax.annotation.Nullable;
+
+/**
+ * Caches the energy capability of one neighbouring block.
+ * The handler is resolved once and kept until either the neighbour invalidates its capability
+ * (picked up through a LazyOptional listener) or the owner reports a neighbour change via {@link #invalidate()}.
+ * This replaces the per-tick getBlockEntity + getCapability lookups that energy block entities used to do.
+ */
+public class CachedEnergyNeighbor {
+
+    private final BlockPos targetPos;
+    @Nullable
+    private final Direction side;
+
+    private boolean resolved = false;
+    @Nullable
+    private BlockEntity blockEntity;
+    @Nullable
+    private IEnergyStorage storage;
+    @Nullable
+    private LazyOptional<IEnergyStorage> capability;
+    // Handle we already added a listener to; Forge never drops listeners, so each handle gets only one
+    @Nullable
+    private LazyOptional<IEnergyStorage> lastListened;
+
+    /**
+     * @param targetPos position of the block whose energy capability is cached
+     * @param side      side of that block to query, or null for internal access
+     */
+    public CachedEnergyNeighbor(BlockPos targetPos, @Nullable Direction side) {
+        this.targetPos = targetPos.immutable();
+        this.side = side;
+    }
+
+    /**
+     * Build one cache per side around {@code pos}, indexed by {@link Direction#ordinal()}
+     */
+    public static CachedEnergyNeighbor[] forAllSides(BlockPos pos) {
+        CachedEnergyNeighbor[] neighbors = new CachedEnergyNeighbor[6];
+        for (Direction direction : Direction.values()) {
+            neighbors[direction.ordinal()] = new CachedEnergyNeighbor(pos.relative(direction), direction.getOpposite());
+        }
+        return neighbors;
+    }
+
+    /**
+     * Invalidate every cache in the array (call from a neighbour-change hook)
+     */
+    public static void invalidateAll(CachedEnergyNeighbor[] neighbors) {
+        for (CachedEnergyNeighbor neighbor : neighbors) {
+            neighbor.invalidate();
+        }
+    }
+
+    /**
+     * Get the neighbour's energy storage, resolving it if the cache is empty.
+     * Returns null if the neighbour has no energy capability on this side or its chunk is not loaded.
+     */
+    @Nullable
+    public IEnergyStorage get(Level level) {
+        if (!resolved) {
+            resolve(level);
+        }
+        return storage;
+    }
+
+    /**
+     * Get the neighbour block entity backing the cached storage (valid after {@link #get(Level)})
+     */
+    @Nullable
+    public BlockEntity getBlockEntity() {
+        return blockEntity;
+    }
+
+    public BlockPos getTargetPos() {
+        return targetPos;
+    }
+
+    /**
+     * Drop the cached handle; it is resolved again on next access
+     */
+    public void invalidate() {
+        resolved = false;
+        blockEntity = null;
+        storage = null;
+        capability = null;
+    }
+
+    private void resolve(Level level) {
+        // Don't cache anything for unloaded chunks - and don't force them to load
+        if (!level.isLoaded(targetPos)) return;
+
+        resolved = true;
+        blockEntity = level.getBlockEntity(targetPos);
+        if (blockEntity == null) return;
+
+        LazyOptional<IEnergyStorage> optional = blockEntity.getCapability(ForgeCapabilities.ENERGY, side);
+        if (!optional.isPresent()) {
+            blockEntity = null;
+            return;
+        }
+
+        capability = optional;
+        storage = optional.orElse(null);
+        if (optional != lastListened) {
+            lastListened = optional;
+            optional.addListener(invalidated -> {
+                // Ignore listeners from handles we already replaced
+                if (invalidated == capability) {
+                    invalidate();
+                }
+            });
+        }
+    }
+}
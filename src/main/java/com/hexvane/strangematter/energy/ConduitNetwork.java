@@ -0,0 +1,408 @@
+package com.hexvane.strangematter.energy;
+
+import com.hexvane.strangematter.Config;
+import com.hexvane.strangematter.block.ResonantConduitBlockEntity;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArraySet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraftforge.energy.IEnergyStorage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A single connected component of Resonant Conduits.
+ * Members and endpoints are shared by every conduit in the component, so the network is
+ * walked once when it changes instead of once per conduit. Owned by {@link ConduitNetworkManager}.
+ */
+public class ConduitNetwork {
+
+    private final int id;
+
+    // Conduit position (packed) -> hop distance from the network anchor
+    final Long2IntOpenHashMap members = new Long2IntOpenHashMap();
+
+    // Endpoint position (packed) -> energy-capable block entity adjacent to the network
+    final Long2ObjectOpenHashMap<Endpoint> endpoints = new Long2ObjectOpenHashMap<>();
+
+    // Source endpoint position (packed) -> conduit hops from that source to each member in reach.
+    // Walked the first time the source routes and kept until the members or the source's conduits change
+    private final Long2ObjectOpenHashMap<Long2IntOpenHashMap> pathsFromSource = new Long2ObjectOpenHashMap<>();
+
+    // Set when a member was removed in a way that may have split the network
+    boolean connectivityDirty = false;
+
+    // Rotates which source is served first so no endpoint is permanently favoured
+    private int roundRobinOffset = 0;
+
+    // Set after a routing pass moves nothing; cleared by topology changes or endpoint energy-state changes
+    boolean dormant = false;
+
+    // Rolling routing stats for /strangematter energy inspect
+    final ConduitNetworkTelemetry telemetry = new ConduitNetworkTelemetry();
+
+    ConduitNetwork(int id) {
+        this.id = id;
+        this.members.defaultReturnValue(-1);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public int getMemberCount() {
+        return members.size();
+    }
+
+    public int getEndpointCount() {
+        return endpoints.size();
+    }
+
+    public boolean contains(BlockPos pos) {
+        return members.containsKey(pos.asLong());
+    }
+
+    public Collection<Endpoint> getEndpoints() {
+        return endpoints.values();
+    }
+
+    public ConduitNetworkTelemetry getTelemetry() {
+        return telemetry;
+    }
+
+    public boolean isDormant() {
+        return dormant;
+    }
+
+    /**
+     * Resume routing on the next tick
+     */
+    public void wake() {
+        dormant = false;
+    }
+
+    /**
+     * Hop distance of a member conduit from the network anchor, or -1 if not a member
+     */
+    int getDistance(long conduitPos) {
+        return members.get(conduitPos);
+    }
+
+    /**
+     * Forget the cached source paths; call whenever members are added, removed or moved between networks
+     */
+    void invalidatePaths() {
+        pathsFromSource.clear();
+    }
+
+    /**
+     * Attach an endpoint to the given member conduit
+     */
+    void attachEndpoint(long endpointPos, long conduitPos, Direction face) {
+        int distance = members.get(conduitPos) + 1;
+        Endpoint endpoint = endpoints.get(endpointPos);
+        if (endpoint == null) {
+            endpoint = new Endpoint(endpointPos, face, distance);
+            endpoints.put(endpointPos, endpoint);
+        } else {
+            // Re-attaching means the neighbour changed - resolve its capability again
+            endpoint.energy.invalidate();
+            if (distance < endpoint.distance) {
+                endpoint.distance = distance;
+                endpoint.face = face;
+            }
+        }
+        if (endpoint.conduits.add(conduitPos)) {
+            pathsFromSource.remove(endpointPos);
+        }
+    }
+
+    /**
+     * Detach an endpoint from the given member conduit, dropping it once no conduit touches it
+     */
+    void detachEndpoint(long endpointPos, long conduitPos) {
+        Endpoint endpoint = endpoints.get(endpointPos);
+        if (endpoint == null) return;
+
+        if (endpoint.conduits.remove(conduitPos)) {
+            pathsFromSource.remove(endpointPos);
+        }
+        if (endpoint.conduits.isEmpty()) {
+            endpoints.remove(endpointPos);
+        } else {
+            recomputeDistance(endpoint);
+        }
+    }
+
+    /**
+     * Drop every endpoint attachment owned by a conduit (used when the conduit leaves the network)
+     */
+    void detachAllFrom(long conduitPos) {
+        BlockPos pos = BlockPos.of(conduitPos);
+        for (Direction direction : Direction.values()) {
+            detachEndpoint(pos.relative(direction).asLong(), conduitPos);
+        }
+    }
+
+    /**
+     * Refresh every endpoint distance after member distances changed
+     */
+    void recomputeEndpointDistances() {
+        for (Endpoint endpoint : endpoints.values()) {
+            recomputeDistance(endpoint);
+        }
+    }
+
+    private void recomputeDistance(Endpoint endpoint) {
+        int best = Integer.MAX_VALUE;
+        for (long conduit : endpoint.conduits) {
+            int distance = members.get(conduit);
+            if (distance >= 0 && distance + 1 < best) {
+                best = distance + 1;
+                endpoint.face = faceBetween(endpoint.pos, conduit);
+            }
+        }
+        if (best != Integer.MAX_VALUE) {
+            endpoint.distance = best;
+        }
+    }
+
+    static Direction faceBetween(long endpointPos, long conduitPos) {
+        BlockPos endpoint = BlockPos.of(endpointPos);
+        for (Direction direction : Direction.values()) {
+            if (endpoint.relative(direction).asLong() == conduitPos) {
+                return direction;
+            }
+        }
+        return Direction.DOWN;
+    }
+
+    /**
+     * Route energy from source endpoints to sink endpoints once for the whole network.
+     * Supply is shared out fairly: each source splits what it has evenly across the sinks it can reach,
+     * capped per pair by the transfer rate penalised by the conduit path length between them, and the starting
+     * source rotates every tick. Pairs further apart than twice the max network size are not connected.
+     * The plan is then applied with a single receive per sink and a single extract per source.
+     *
+     * @return the amount of energy moved this pass
+     */
+    public long routeEnergy(ServerLevel level) {
+        List<Transfer> sources = new ArrayList<>();
+        List<Transfer> sinks = new ArrayList<>();
+
+        for (Endpoint endpoint : endpoints.values()) {
+            IEnergyStorage storage = endpoint.energy.get(level);
+            if (storage == null) continue;
+            BlockEntity entity = endpoint.energy.getBlockEntity();
+
+            if (storage.canExtract() && storage.getEnergyStored() > 0) {
+                int available = storage.extractEnergy(Integer.MAX_VALUE, true);
+                if (available > 0) {
+                    sources.add(new Transfer(endpoint, entity, storage, available));
+                }
+            }
+            if (storage.canReceive() && storage.getEnergyStored() < storage.getMaxEnergyStored()) {
+                int demand = storage.receiveEnergy(Integer.MAX_VALUE, true);
+                if (demand > 0) {
+                    sinks.add(new Transfer(endpoint, entity, storage, demand));
+                }
+            }
+        }
+
+        if (sources.isEmpty() || sinks.isEmpty()) return 0;
+
+        // Plan: every source shares its supply evenly over reachable sinks, starting from a rotating offset
+        int sourceCount = sources.size();
+        int start = Math.floorMod(roundRobinOffset++, sourceCount);
+        for (int i = 0; i < sourceCount; i++) {
+            planSource(sources.get((start + i) % sourceCount), sinks);
+        }
+
+        // Apply: one receive per sink, then extract exactly what was accepted from the sources
+        long accepted = 0;
+        for (Transfer sink : sinks) {
+            if (sink.planned > 0) {
+                accepted += sink.storage.receiveEnergy(sink.planned, false);
+            }
+        }
+
+        long moved = accepted;
+        for (int i = 0; i < sourceCount && accepted > 0; i++) {
+            Transfer source = sources.get((start + i) % sourceCount);
+            if (source.planned <= 0) continue;
+
+            int toExtract = (int) Math.min(source.planned, accepted);
+            accepted -= source.storage.extractEnergy(toExtract, false);
+        }
+        return moved;
+    }
+
+    private void planSource(Transfer source, List<Transfer> sinks) {
+        List<Transfer> targets = new ArrayList<>();
+        IntArrayList distances = new IntArrayList();
+        for (Transfer sink : sinks) {
+            if (sink.entity == source.entity || !ResonantConduitBlockEntity.isRoleCompatibleTransfer(source.entity, sink.entity)) continue;
+
+            int distance = getPathDistance(source.endpoint, sink.endpoint);
+            if (distance >= 0) {
+                targets.add(sink);
+                distances.add(distance);
+            }
+        }
+        if (targets.isEmpty()) return;
+
+        int[] pairLimit = new int[targets.size()];
+        for (int i = 0; i < targets.size(); i++) {
+            pairLimit[i] = getPairTransferRate(distances.getInt(i));
+        }
+
+        // Even split; whatever a capped or full sink can't take is offered to the rest on the next pass
+        boolean progressed = true;
+        while (progressed && source.remaining() > 0) {
+            progressed = false;
+            int open = 0;
+            for (int i = 0; i < targets.size(); i++) {
+                if (pairLimit[i] > 0 && targets.get(i).remaining() > 0) open++;
+            }
+            if (open == 0) break;
+
+            int share = Math.max(1, source.remaining() / open);
+            for (int i = 0; i < targets.size() && source.remaining() > 0; i++) {
+                Transfer sink = targets.get(i);
+                int amount = Math.min(share, Math.min(pairLimit[i], Math.min(sink.remaining(), source.remaining())));
+                if (amount <= 0) continue;
+
+                pairLimit[i] -= amount;
+                sink.planned += amount;
+                source.planned += amount;
+                progressed = true;
+            }
+        }
+    }
+
+    /**
+     * Length of the shortest conduit path from source to sink, counting the step into the first conduit and
+     * out of the last one, or -1 if the sink is out of reach
+     */
+    private int getPathDistance(Endpoint source, Endpoint sink) {
+        Long2IntOpenHashMap paths = pathsFromSource.get(source.pos);
+        if (paths == null) {
+            paths = walkFrom(source);
+            pathsFromSource.put(source.pos, paths);
+        }
+
+        int best = -1;
+        for (long conduit : sink.conduits) {
+            int hops = paths.get(conduit);
+            if (hops >= 0 && (best < 0 || hops < best)) {
+                best = hops;
+            }
+        }
+        return best < 0 ? -1 : best + 2;
+    }
+
+    /**
+     * Breadth-first walk over the members from every conduit the source touches.
+     * Reach matches the old per-conduit scan, which found endpoints up to max network size hops on either side.
+     */
+    private Long2IntOpenHashMap walkFrom(Endpoint source) {
+        int reach = Config.resonantConduitMaxNetworkSize * 2;
+        Long2IntOpenHashMap visited = new Long2IntOpenHashMap();
+        visited.defaultReturnValue(-1);
+        LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        for (long conduit : source.conduits) {
+            if (members.containsKey(conduit)) {
+                visited.put(conduit, 0);
+                queue.enqueue(conduit);
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            long current = queue.dequeueLong();
+            int distance = visited.get(current);
+            if (distance >= reach) continue;
+
+            BlockPos currentPos = BlockPos.of(current);
+            for (Direction direction : Direction.values()) {
+                long next = currentPos.relative(direction).asLong();
+                if (members.containsKey(next) && !visited.containsKey(next)) {
+                    visited.put(next, distance + 1);
+                    queue.enqueue(next);
+                }
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * Maximum energy one source may push to one sink per tick, reduced by the path distance between them
+     */
+    private static int getPairTransferRate(int totalDistance) {
+        double distanceMultiplier = Math.max(0.1, 1.0 - (totalDistance * Config.resonantConduitDistancePenalty));
+        return Math.max(1, (int)(Config.resonantConduitTransferRate * distanceMultiplier));
+    }
+
+    /**
+     * Per-tick routing state for one endpoint acting as a source or a sink
+     */
+    private static class Transfer {
+        final Endpoint endpoint;
+        final BlockEntity entity;
+        final IEnergyStorage storage;
+        final int capacity;
+        int planned = 0;
+
+        Transfer(Endpoint endpoint, BlockEntity entity, IEnergyStorage storage, int capacity) {
+            this.endpoint = endpoint;
+            this.entity = entity;
+            this.storage = storage;
+            this.capacity = capacity;
+        }
+
+        int remaining() {
+            return capacity - planned;
+        }
+    }
+
+    /**
+     * An energy-capable block entity touching one or more conduits of this network
+     */
+    public static class Endpoint {
+        final long pos;
+        // Face of the endpoint block that touches its closest conduit
+        Direction face;
+        // Hop distance from the network anchor (closest attached conduit + 1); only used to pick the face,
+        // routing measures real paths between each source and sink
+        int distance;
+        final LongSet conduits = new LongArraySet(2);
+        // Cached energy handler, dropped when the endpoint invalidates its capability
+        final CachedEnergyNeighbor energy;
+
+        Endpoint(long pos, Direction face, int distance) {
+            this.pos = pos;
+            this.energy = new CachedEnergyNeighbor(BlockPos.of(pos), null);
+            this.face = face;
+            this.distance = distance;
+        }
+
+        public BlockPos getPos() {
+            return BlockPos.of(pos);
+        }
+
+        public Direction getFace() {
+            return face;
+        }
+
+        public int getDistance() {
+            return distance;
+        }
+    }
+}
@@ -0,0 +1,583 @@
+package com.hexvane.strangematter.energy;
+
+import com.hexvane.strangematter.Config;
+import com.hexvane.strangematter.block.ResonantConduitBlockEntity;
+import com.hexvane.strangematter.data.ConduitNetworkData;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraftforge.common.capabilities.ForgeCapabilities;
+
+import java.util.*;
+
+/**
+ * Per-level owner of every {@link ConduitNetwork}.
+ * Conduits register on load and unregister on removal; merges and splits are applied incrementally
+ * so the work done is proportional to the part of the network that changed, not its total size.
+ * Joins are queued and applied at the start of the next level tick, when neighbouring chunks and
+ * block entities are fully loaded.
+ * <p>
+ * Topology is kept for conduits in unloaded chunks and persisted through {@link ConduitNetworkData},
+ * so a conduit that loads back in finds its network already built. Chunks that load are only
+ * re-checked against the conduits recorded in them, never flood-filled.
+ */
+public class ConduitNetworkManager {
+
+    private static final Map<LevelAccessor, ConduitNetworkManager> MANAGERS = new HashMap<>();
+
+    private final ServerLevel level;
+    private final Long2ObjectOpenHashMap<ConduitNetwork> networkByConduit = new Long2ObjectOpenHashMap<>();
+    private final Set<ConduitNetwork> networks = new LinkedHashSet<>();
+    // Chunk (packed) -> member conduits in it, for per-chunk revalidation
+    private final Long2ObjectOpenHashMap<LongOpenHashSet> membersByChunk = new Long2ObjectOpenHashMap<>();
+    private final ConduitNetworkData savedData;
+
+    // Deferred work, applied once per tick
+    private final LongLinkedOpenHashSet pendingJoins = new LongLinkedOpenHashSet();
+    private final LongLinkedOpenHashSet pendingEndpointRefresh = new LongLinkedOpenHashSet();
+    // Conduits with a neighbour in an unloaded chunk; re-checked periodically
+    private final LongOpenHashSet unresolvedEndpoints = new LongOpenHashSet();
+    // Chunks that loaded since the last tick and have recorded members to verify
+    private final LongLinkedOpenHashSet pendingChunkValidation = new LongLinkedOpenHashSet();
+
+    private int nextNetworkId = 1;
+    private int tickCounter = 0;
+
+    private ConduitNetworkManager(ServerLevel level) {
+        this.level = level;
+        this.savedData = ConduitNetworkData.get(level);
+        this.savedData.bind(this);
+    }
+
+    public static ConduitNetworkManager get(ServerLevel level) {
+        return MANAGERS.computeIfAbsent(level, l -> new ConduitNetworkManager(level));
+    }
+
+    public static Optional<ConduitNetworkManager> getIfPresent(LevelAccessor level) {
+        return Optional.ofNullable(MANAGERS.get(level));
+    }
+
+    /**
+     * Drop the manager for a level that is being unloaded
+     */
+    public static void unload(LevelAccessor level) {
+        MANAGERS.remove(level);
+    }
+
+    /**
+     * Hook a loaded conduit up to its network. Conduits already in the saved topology are attached
+     * straight away; new ones are queued to join (or create) a network on the next tick.
+     */
+    public void addConduit(ResonantConduitBlockEntity conduit) {
+        long packed = conduit.getBlockPos().asLong();
+        ConduitNetwork network = networkByConduit.get(packed);
+        if (network != null) {
+            conduit.setNetwork(network);
+            network.wake();
+            if (unresolvedEndpoints.contains(packed)) {
+                pendingEndpointRefresh.add(packed);
+            }
+            return;
+        }
+        pendingJoins.add(packed);
+    }
+
+    /**
+     * Queue a loaded chunk for revalidation if the saved topology has conduits in it
+     */
+    public void onChunkLoaded(ChunkPos chunkPos) {
+        long chunk = chunkPos.toLong();
+        if (membersByChunk.containsKey(chunk)) {
+            pendingChunkValidation.add(chunk);
+        }
+    }
+
+    /**
+     * Queue a re-scan of the endpoints around a conduit on the next tick
+     */
+    public void refreshEndpoints(BlockPos pos) {
+        pendingEndpointRefresh.add(pos.asLong());
+    }
+
+    /**
+     * Wake every network with a conduit next to {@code pos}. Called by machines when their energy state
+     * or inventory changes in a way that could let a dormant network move energy again.
+     */
+    public void wakeAround(BlockPos pos) {
+        for (Direction direction : Direction.values()) {
+            ConduitNetwork network = networkByConduit.get(pos.relative(direction).asLong());
+            if (network != null) {
+                network.wake();
+            }
+        }
+    }
+
+    public int getActiveNetworkCount() {
+        int active = 0;
+        for (ConduitNetwork network : networks) {
+            if (!network.dormant) active++;
+        }
+        return active;
+    }
+
+    public int getDormantNetworkCount() {
+        return networks.size() - getActiveNetworkCount();
+    }
+
+    /**
+     * Remove a conduit from its network.
+     * Conduits whose chunk is unloading stay in the topology; a real removal that could have split
+     * the network has its connectivity re-checked once on the next tick.
+     */
+    public void removeConduit(BlockPos pos, boolean chunkUnloading) {
+        long packed = pos.asLong();
+        pendingJoins.remove(packed);
+        pendingEndpointRefresh.remove(packed);
+        if (chunkUnloading) return;
+
+        unresolvedEndpoints.remove(packed);
+
+        ConduitNetwork network = networkByConduit.remove(packed);
+        if (network == null) return;
+
+        unindexMember(packed);
+        network.detachAllFrom(packed);
+        network.members.remove(packed);
+        network.invalidatePaths();
+        savedData.setDirty();
+
+        if (network.members.isEmpty()) {
+            networks.remove(network);
+            return;
+        }
+        network.wake();
+
+        int sameNetworkNeighbors = 0;
+        for (Direction direction : Direction.values()) {
+            if (network.members.containsKey(pos.relative(direction).asLong())) {
+                sameNetworkNeighbors++;
+            }
+        }
+
+        // A conduit with a single neighbour is a leaf - removing it can never split the network
+        if (sameNetworkNeighbors > 1) {
+            network.connectivityDirty = true;
+        }
+    }
+
+    public ConduitNetwork getNetwork(BlockPos pos) {
+        return networkByConduit.get(pos.asLong());
+    }
+
+    public Collection<ConduitNetwork> getNetworks() {
+        return Collections.unmodifiableSet(networks);
+    }
+
+    /**
+     * Apply queued joins, endpoint refreshes and connectivity checks, then route every network once
+     */
+    public void tick() {
+        while (!pendingChunkValidation.isEmpty()) {
+            validateChunk(pendingChunkValidation.removeFirstLong());
+        }
+
+        while (!pendingJoins.isEmpty()) {
+            joinConduit(pendingJoins.removeFirstLong());
+        }
+
+        while (!pendingEndpointRefresh.isEmpty()) {
+            scanEndpoints(pendingEndpointRefresh.removeFirstLong());
+        }
+
+        for (ConduitNetwork network : new ArrayList<>(networks)) {
+            if (network.connectivityDirty) {
+                rebuildConnectivity(network);
+            }
+        }
+
+        if (++tickCounter >= Config.resonantConduitNetworkUpdateInterval) {
+            tickCounter = 0;
+
+            // Endpoints from other mods don't notify us, so give dormant networks an occasional re-check
+            for (ConduitNetwork network : networks) {
+                network.wake();
+            }
+
+            if (!unresolvedEndpoints.isEmpty()) {
+                long[] unresolved = unresolvedEndpoints.toLongArray();
+                unresolvedEndpoints.clear();
+                for (long conduit : unresolved) {
+                    scanEndpoints(conduit);
+                }
+            }
+        }
+
+        long gameTime = level.getGameTime();
+        for (ConduitNetwork network : networks) {
+            if (network.dormant) continue;
+
+            long start = System.nanoTime();
+            long moved = network.routeEnergy(level);
+            network.telemetry.record(gameTime, moved, System.nanoTime() - start);
+
+            // Nothing could move - sleep until something around the network changes
+            if (moved == 0) {
+                network.dormant = true;
+            }
+        }
+    }
+
+    private void joinConduit(long packed) {
+        if (networkByConduit.containsKey(packed)) return;
+
+        BlockPos pos = BlockPos.of(packed);
+        if (!level.isLoaded(pos) || !(level.getBlockEntity(pos) instanceof ResonantConduitBlockEntity)) return;
+
+        // Collect the distinct networks touching this conduit, largest first
+        List<ConduitNetwork> touching = new ArrayList<>(6);
+        for (Direction direction : Direction.values()) {
+            ConduitNetwork neighbor = networkByConduit.get(pos.relative(direction).asLong());
+            if (neighbor != null && !touching.contains(neighbor)) {
+                touching.add(neighbor);
+            }
+        }
+        touching.sort((a, b) -> Integer.compare(b.getMemberCount(), a.getMemberCount()));
+
+        ConduitNetwork target;
+        if (touching.isEmpty()) {
+            target = createNetwork();
+            target.members.put(packed, 0);
+        } else {
+            target = touching.get(0);
+            int distance = Integer.MAX_VALUE;
+            for (Direction direction : Direction.values()) {
+                int neighborDistance = target.getDistance(pos.relative(direction).asLong());
+                if (neighborDistance >= 0) {
+                    distance = Math.min(distance, neighborDistance + 1);
+                }
+            }
+            target.members.put(packed, distance);
+        }
+        assign(packed, target);
+        indexMember(packed);
+        target.invalidatePaths();
+        target.wake();
+        savedData.setDirty();
+
+        // Fold any smaller networks into the target, walking only their members
+        for (int i = 1; i < touching.size(); i++) {
+            absorb(target, touching.get(i), packed);
+        }
+
+        scanEndpoints(packed);
+    }
+
+    /**
+     * Move every member and endpoint of {@code other} into {@code target}, re-basing distances from the joining conduit
+     */
+    private void absorb(ConduitNetwork target, ConduitNetwork other, long joinPos) {
+        LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        queue.enqueue(joinPos);
+
+        while (!queue.isEmpty()) {
+            long current = queue.dequeueLong();
+            int distance = target.getDistance(current);
+            BlockPos currentPos = BlockPos.of(current);
+
+            for (Direction direction : Direction.values()) {
+                long next = currentPos.relative(direction).asLong();
+                if (other.members.containsKey(next) && !target.members.containsKey(next)) {
+                    target.members.put(next, distance + 1);
+                    assign(next, target);
+                    queue.enqueue(next);
+                }
+            }
+        }
+
+        // Members not reachable from the join point keep their old distance until connectivity is re-checked
+        for (Long2IntMap.Entry entry : other.members.long2IntEntrySet()) {
+            if (!target.members.containsKey(entry.getLongKey())) {
+                target.members.put(entry.getLongKey(), entry.getIntValue());
+                assign(entry.getLongKey(), target);
+                target.connectivityDirty = true;
+            }
+        }
+
+        for (ConduitNetwork.Endpoint endpoint : other.endpoints.values()) {
+            for (long conduit : endpoint.conduits) {
+                target.attachEndpoint(endpoint.pos, conduit, ConduitNetwork.faceBetween(endpoint.pos, conduit));
+            }
+        }
+
+        target.invalidatePaths();
+        target.connectivityDirty |= other.connectivityDirty;
+        networks.remove(other);
+    }
+
+    /**
+     * Re-check a network after removals, splitting it into its connected components
+     */
+    private void rebuildConnectivity(ConduitNetwork network) {
+        network.connectivityDirty = false;
+        network.wake();
+        network.telemetry.recordRebuild();
+        savedData.setDirty();
+
+        List<Long2IntOpenHashMap> components = new ArrayList<>();
+        LongOpenHashSet remaining = new LongOpenHashSet(network.members.keySet());
+        while (!remaining.isEmpty()) {
+            long start = remaining.iterator().nextLong();
+            components.add(walk(start, remaining));
+        }
+
+        // Largest component keeps the existing network object
+        components.sort((a, b) -> Integer.compare(b.size(), a.size()));
+        network.members.clear();
+        network.members.putAll(components.get(0));
+        network.invalidatePaths();
+
+        for (int i = 1; i < components.size(); i++) {
+            ConduitNetwork part = createNetwork();
+            part.members.putAll(components.get(i));
+
+            for (long conduit : part.members.keySet()) {
+                assign(conduit, part);
+                BlockPos conduitPos = BlockPos.of(conduit);
+                for (Direction direction : Direction.values()) {
+                    long endpointPos = conduitPos.relative(direction).asLong();
+                    ConduitNetwork.Endpoint endpoint = network.endpoints.get(endpointPos);
+                    if (endpoint != null && endpoint.conduits.contains(conduit)) {
+                        part.attachEndpoint(endpointPos, conduit, direction.getOpposite());
+                        network.detachEndpoint(endpointPos, conduit);
+                    }
+                }
+            }
+        }
+
+        network.recomputeEndpointDistances();
+    }
+
+    /**
+     * Breadth-first walk from {@code start} over positions in {@code remaining}, consuming them
+     */
+    private static Long2IntOpenHashMap walk(long start, LongSet remaining) {
+        Long2IntOpenHashMap visited = new Long2IntOpenHashMap();
+        LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        remaining.remove(start);
+        visited.put(start, 0);
+        queue.enqueue(start);
+
+        while (!queue.isEmpty()) {
+            long current = queue.dequeueLong();
+            int distance = visited.get(current);
+            BlockPos currentPos = BlockPos.of(current);
+
+            for (Direction direction : Direction.values()) {
+                long next = currentPos.relative(direction).asLong();
+                if (remaining.remove(next)) {
+                    visited.put(next, distance + 1);
+                    queue.enqueue(next);
+                }
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * Scan the six neighbours of a conduit and attach/detach energy-capable block entities as endpoints
+     */
+    private void scanEndpoints(long packed) {
+        ConduitNetwork network = networkByConduit.get(packed);
+        if (network == null) return;
+
+        BlockPos pos = BlockPos.of(packed);
+        if (!level.isLoaded(pos)) {
+            // Kept in the topology while unloaded - look again once it's back
+            unresolvedEndpoints.add(packed);
+            return;
+        }
+
+        network.wake();
+        savedData.setDirty();
+        for (Direction direction : Direction.values()) {
+            BlockPos adjacentPos = pos.relative(direction);
+            long adjacentPacked = adjacentPos.asLong();
+
+            if (!level.isLoaded(adjacentPos)) {
+                unresolvedEndpoints.add(packed);
+                continue;
+            }
+
+            BlockEntity adjacentEntity = level.getBlockEntity(adjacentPos);
+            boolean isEndpoint = adjacentEntity != null
+                && !(adjacentEntity instanceof ResonantConduitBlockEntity)
+                && adjacentEntity.getCapability(ForgeCapabilities.ENERGY, direction.getOpposite()).isPresent();
+
+            if (isEndpoint) {
+                network.attachEndpoint(adjacentPacked, packed, direction.getOpposite());
+            } else {
+                network.detachEndpoint(adjacentPacked, packed);
+            }
+        }
+    }
+
+    /**
+     * Drop recorded members of a freshly loaded chunk whose conduit is no longer there
+     */
+    private void validateChunk(long chunk) {
+        LongOpenHashSet recorded = membersByChunk.get(chunk);
+        if (recorded == null) return;
+
+        ChunkPos chunkPos = new ChunkPos(chunk);
+        if (!level.hasChunk(chunkPos.x, chunkPos.z)) return;
+
+        for (long conduit : recorded.toLongArray()) {
+            BlockPos pos = BlockPos.of(conduit);
+            if (!(level.getBlockEntity(pos) instanceof ResonantConduitBlockEntity)) {
+                removeConduit(pos, false);
+            }
+        }
+    }
+
+    private void indexMember(long conduit) {
+        membersByChunk.computeIfAbsent(chunkOf(conduit), c -> new LongOpenHashSet()).add(conduit);
+    }
+
+    private void unindexMember(long conduit) {
+        long chunk = chunkOf(conduit);
+        LongOpenHashSet members = membersByChunk.get(chunk);
+        if (members != null && members.remove(conduit) && members.isEmpty()) {
+            membersByChunk.remove(chunk);
+        }
+    }
+
+    private static long chunkOf(long conduit) {
+        return ChunkPos.asLong(BlockPos.getX(conduit) >> 4, BlockPos.getZ(conduit) >> 4);
+    }
+
+    /**
+     * Encode every network: members as packed positions with varint distances, endpoints as packed
+     * positions with varint indices into the member array for the conduits they touch.
+     */
+    public CompoundTag save(CompoundTag tag) {
+        ListTag networkList = new ListTag();
+        for (ConduitNetwork network : networks) {
+            long[] members = network.members.keySet().toLongArray();
+            Long2IntOpenHashMap memberIndex = new Long2IntOpenHashMap(members.length);
+            FriendlyByteBuf distances = new FriendlyByteBuf(Unpooled.buffer());
+            for (int i = 0; i < members.length; i++) {
+                memberIndex.put(members[i], i);
+                distances.writeVarInt(network.members.get(members[i]));
+            }
+
+            long[] endpoints = new long[network.endpoints.size()];
+            FriendlyByteBuf links = new FriendlyByteBuf(Unpooled.buffer());
+            int e = 0;
+            for (ConduitNetwork.Endpoint endpoint : network.endpoints.values()) {
+                endpoints[e++] = endpoint.pos;
+                links.writeVarInt(endpoint.conduits.size());
+                for (long conduit : endpoint.conduits) {
+                    links.writeVarInt(memberIndex.get(conduit));
+                }
+            }
+
+            CompoundTag networkTag = new CompoundTag();
+            networkTag.putLongArray("members", members);
+            networkTag.putByteArray("distances", toBytes(distances));
+            networkTag.putLongArray("endpoints", endpoints);
+            networkTag.putByteArray("links", toBytes(links));
+            networkList.add(networkTag);
+        }
+
+        tag.put("networks", networkList);
+        tag.putLongArray("unresolved", unresolvedEndpoints.toLongArray());
+        return tag;
+    }
+
+    /**
+     * Restore networks written by {@link #save(CompoundTag)} without walking any conduits.
+     * A network whose data doesn't decode is skipped; its conduits simply rejoin when they load.
+     */
+    public void load(CompoundTag tag) {
+        ListTag networkList = tag.getList("networks", Tag.TAG_COMPOUND);
+        for (int n = 0; n < networkList.size(); n++) {
+            CompoundTag networkTag = networkList.getCompound(n);
+            long[] members = networkTag.getLongArray("members");
+            if (members.length == 0) continue;
+
+            int[] distances = new int[members.length];
+            long[] endpoints = networkTag.getLongArray("endpoints");
+            long[][] endpointConduits = new long[endpoints.length][];
+            try {
+                FriendlyByteBuf distanceBuf = new FriendlyByteBuf(Unpooled.wrappedBuffer(networkTag.getByteArray("distances")));
+                for (int i = 0; i < members.length; i++) {
+                    distances[i] = distanceBuf.readVarInt();
+                }
+
+                FriendlyByteBuf linkBuf = new FriendlyByteBuf(Unpooled.wrappedBuffer(networkTag.getByteArray("links")));
+                for (int i = 0; i < endpoints.length; i++) {
+                    endpointConduits[i] = new long[linkBuf.readVarInt()];
+                    for (int j = 0; j < endpointConduits[i].length; j++) {
+                        endpointConduits[i][j] = members[linkBuf.readVarInt()];
+                    }
+                }
+            } catch (IndexOutOfBoundsException | NegativeArraySizeException ex) {
+                continue;
+            }
+
+            ConduitNetwork network = createNetwork();
+            for (int i = 0; i < members.length; i++) {
+                network.members.put(members[i], distances[i]);
+                networkByConduit.put(members[i], network);
+                indexMember(members[i]);
+            }
+            for (int i = 0; i < endpoints.length; i++) {
+                for (long conduit : endpointConduits[i]) {
+                    network.attachEndpoint(endpoints[i], conduit, ConduitNetwork.faceBetween(endpoints[i], conduit));
+                }
+            }
+        }
+
+        for (long conduit : tag.getLongArray("unresolved")) {
+            if (networkByConduit.containsKey(conduit)) {
+                unresolvedEndpoints.add(conduit);
+            }
+        }
+    }
+
+    private static byte[] toBytes(FriendlyByteBuf buf) {
+        byte[] bytes = new byte[buf.readableBytes()];
+        buf.readBytes(bytes);
+        buf.release();
+        return bytes;
+    }
+
+    private ConduitNetwork createNetwork() {
+        ConduitNetwork network = new ConduitNetwork(nextNetworkId++);
+        networks.add(network);
+        return network;
+    }
+
+    private void assign(long conduit, ConduitNetwork network) {
+        networkByConduit.put(conduit, network);
+        BlockPos pos = BlockPos.of(conduit);
+        if (level.isLoaded(pos) && level.getBlockEntity(pos) instanceof ResonantConduitBlockEntity conduitEntity) {
+            conduitEntity.setNetwork(network);
+        }
+    }
+}
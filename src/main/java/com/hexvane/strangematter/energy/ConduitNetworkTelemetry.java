@@ -0,0 +1,99 @@
+package com.hexvane.strangematter.energy;
+
+import java.util.Arrays;
+
+/**
+ * Rolling counters for one {@link ConduitNetwork}, kept over the last {@link #WINDOW} game ticks.
+ * Recording is a couple of array writes per routed tick; ticks where the network was dormant are
+ * zeroed lazily the next time the window is touched, so dormant networks pay nothing.
+ */
+public class ConduitNetworkTelemetry {
+
+    public static final int WINDOW = 100;
+
+    private final long[] moved = new long[WINDOW];
+    private final long[] routeNanos = new long[WINDOW];
+    private long lastTick = Long.MIN_VALUE;
+
+    private long totalMoved = 0;
+    private int rebuildCount = 0;
+
+    /**
+     * Record one routing pass
+     */
+    void record(long gameTime, long energyMoved, long nanos) {
+        advance(gameTime);
+        int slot = slot(gameTime);
+        moved[slot] += energyMoved;
+        routeNanos[slot] += nanos;
+        totalMoved += energyMoved;
+    }
+
+    void recordRebuild() {
+        rebuildCount++;
+    }
+
+    /**
+     * Average energy moved per tick over the window ending at {@code gameTime}
+     */
+    public double getAverageMovedPerTick(long gameTime) {
+        advance(gameTime);
+        return sum(moved) / (double) WINDOW;
+    }
+
+    /**
+     * Average routing time per tick, in nanoseconds, over the window ending at {@code gameTime}
+     */
+    public double getAverageRouteNanos(long gameTime) {
+        advance(gameTime);
+        return sum(routeNanos) / (double) WINDOW;
+    }
+
+    /**
+     * Slowest single routing pass in the window, in nanoseconds
+     */
+    public long getPeakRouteNanos(long gameTime) {
+        advance(gameTime);
+        long peak = 0;
+        for (long nanos : routeNanos) {
+            peak = Math.max(peak, nanos);
+        }
+        return peak;
+    }
+
+    public long getTotalMoved() {
+        return totalMoved;
+    }
+
+    public int getRebuildCount() {
+        return rebuildCount;
+    }
+
+    // Zero the slots of every tick skipped since the last update
+    private void advance(long gameTime) {
+        if (gameTime <= lastTick) return;
+
+        if (lastTick == Long.MIN_VALUE || gameTime - lastTick >= WINDOW) {
+            Arrays.fill(moved, 0);
+            Arrays.fill(routeNanos, 0);
+        } else {
+            for (long tick = lastTick + 1; tick <= gameTime; tick++) {
+                moved[slot(tick)] = 0;
+                routeNanos[slot(tick)] = 0;
+            }
+        }
+        lastTick = gameTime;
+    }
+
+    private static int slot(long gameTime) {
+        return (int) Math.floorMod(gameTime, (long) WINDOW);
+    }
+
+    private static long sum(long[] values) {
+        long total = 0;
+        for (long value : values) {
+            total += value;
+        }
+        return total;
+    }
+}
@@ -8,6 +8,9 @@ import net.minecraftforge.energy.EnergyStorage;
  */
 public class ResonanceEnergyStorage extends EnergyStorage {
     
+    // Notified when the storage moves between empty, partially filled and full
+    private Runnable stateChangeListener;
+    
     public ResonanceEnergyStorage(int capacity) {
         super(capacity);
     }
@@ -24,21 +27,67 @@ public class ResonanceEnergyStorage extends EnergyStorage {
         super(capacity, maxReceive, maxExtract, energy);
     }
     
+    /**
+     * Register a callback fired when the storage becomes empty, becomes full, or leaves either state.
+     * Used to wake dormant conduit networks without notifying on every single transfer.
+     */
+    public void setStateChangeListener(Runnable listener) {
+        this.stateChangeListener = listener;
+    }
+    
+    @Override
+    public int receiveEnergy(int maxReceive, boolean simulate) {
+        int stateBefore = getFillState();
+        int received = super.receiveEnergy(maxReceive, simulate);
+        if (!simulate && received > 0) {
+            notifyIfStateChanged(stateBefore);
+        }
+        return received;
+    }
+    
+    @Override
+    public int extractEnergy(int maxExtract, boolean simulate) {
+        int stateBefore = getFillState();
+        int extracted = super.extractEnergy(maxExtract, simulate);
+        if (!simulate && extracted > 0) {
+            notifyIfStateChanged(stateBefore);
+        }
+        return extracted;
+    }
+    
     /**
      * Set the energy level directly (for creative blocks or special cases)
      */
     public void setEnergy(int energy) {
+        int stateBefore = getFillState();
         this.energy = Math.max(0, Math.min(energy, capacity));
+        notifyIfStateChanged(stateBefore);
     }
     
     /**
      * Set the maximum capacity
      */
     public void setCapacity(int capacity) {
+        int stateBefore = getFillState();
         this.capacity = capacity;
         if (energy > capacity) {
             energy = capacity;
         }
+        notifyIfStateChanged(stateBefore);
+    }
+    
+    /**
+     * 0 = empty, 1 = partially filled, 2 = full
+     */
+    private int getFillState() {
+        if (energy <= 0) return 0;
+        return energy >= capacity ? 2 : 1;
+    }
+    
+    private void notifyIfStateChanged(int stateBefore) {
+        if (stateChangeListener != null && getFillState() != stateBefore) {
+            stateChangeListener.run();
+        }
     }
     
     /**
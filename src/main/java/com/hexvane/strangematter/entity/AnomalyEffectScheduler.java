@@ -0,0 +1,74 @@
+package com.hexvane.strangematter.entity;
+
+import net.minecraft.world.level.LevelAccessor;
+
+import java.util.*;
+
+/**
+ * Per-level budget for heavy anomaly work (entity queries, crop and rod scans).
+ * Anomalies loaded in the same chunk batch start their timers on the same tick, so without this their
+ * expensive passes all land together every few seconds. Each anomaly gets a stable phase offset from its
+ * UUID for periodic checks, and a pass that finds the tick's budget used up is retried on the next tick;
+ * since cooldowns restart from when the work actually ran, the anomalies stay spread out afterwards.
+ */
+public class AnomalyEffectScheduler {
+
+    private static final Map<LevelAccessor, AnomalyEffectScheduler> SCHEDULERS = new HashMap<>();
+
+    private int usedThisTick = 0;
+
+    private AnomalyEffectScheduler() {
+    }
+
+    public static AnomalyEffectScheduler get(LevelAccessor level) {
+        return SCHEDULERS.computeIfAbsent(level, l -> new AnomalyEffectScheduler());
+    }
+
+    public static Optional<AnomalyEffectScheduler> getIfPresent(LevelAccessor level) {
+        return Optional.ofNullable(SCHEDULERS.get(level));
+    }
+
+    /**
+     * Drop the scheduler for a level that is being unloaded
+     */
+    public static void unload(LevelAccessor level) {
+        SCHEDULERS.remove(level);
+    }
+
+    /**
+     * Stable offset in {@code [0, period)} for an anomaly's periodic work
+     */
+    public static int phaseOf(UUID id, int period) {
+        // Mix both halves so UUIDs differing only in the low bits still spread
+        long bits = id.getMostSignificantBits() ^ id.getLeastSignificantBits();
+        bits ^= bits >>> 33;
+        bits *= 0xff51afd7ed558ccdL;
+        bits ^= bits >>> 33;
+        return (int) Math.floorMod(bits, (long) period);
+    }
+
+    /**
+     * Claim a slot in this tick's heavy-work budget
+     */
+    public boolean tryAcquire() {
+        if (usedThisTick >= com.hexvane.strangematter.Config.anomalyHeavyPassBudget) {
+            return false;
+        }
+        usedThisTick++;
+        return true;
+    }
+
+    /**
+     * Claim a slot even if the budget is spent, so deferred work can't be starved forever
+     */
+    public void forceAcquire() {
+        usedThisTick++;
+    }
+
+    /**
+     * Start a new tick with a fresh budget
+     */
+    public void resetBudget() {
+        usedThisTick = 0;
+    }
+}
@@ -0,0 +1,216 @@
+package com.hexvane.strangematter.entity;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Per-level spatial index of loaded anomalies, keyed by section position and by anomaly class.
+ * Kept up to date from entity join/leave/section-change events (see AnomalyIndexEventHandler), so
+ * lookups only touch the sections overlapping the query instead of walking the level's entity storage.
+ * Queries spanning more sections than the index has occupied sections scan the per-type lists
+ * instead, so even level-wide searches stay proportional to the anomaly count.
+ */
+public class AnomalyIndex {
+
+    // Client and integrated server levels are indexed from their own threads
+    private static final Map<LevelAccessor, AnomalyIndex> INDEXES = new ConcurrentHashMap<>();
+
+    // Vanilla uses the same margin: entities are indexed by position but their boxes can poke into neighbouring sections
+    private static final double BOX_MARGIN = 2.0;
+
+    private final Long2ObjectOpenHashMap<List<BaseAnomalyEntity>> bySection = new Long2ObjectOpenHashMap<>();
+    private final Map<Class<?>, List<BaseAnomalyEntity>> byType = new HashMap<>();
+    private final Object2LongOpenHashMap<BaseAnomalyEntity> sectionOf = new Object2LongOpenHashMap<>();
+
+    private AnomalyIndex() {
+        sectionOf.defaultReturnValue(Long.MIN_VALUE);
+    }
+
+    public static AnomalyIndex get(Level level) {
+        return INDEXES.computeIfAbsent(level, l -> new AnomalyIndex());
+    }
+
+    /**
+     * Drop the index for a level that is being unloaded
+     */
+    public static void unload(LevelAccessor level) {
+        INDEXES.remove(level);
+    }
+
+    public void add(BaseAnomalyEntity anomaly) {
+        if (sectionOf.containsKey(anomaly)) return;
+
+        long section = SectionPos.asLong(anomaly.blockPosition());
+        sectionOf.put(anomaly, section);
+        bySection.computeIfAbsent(section, s -> new ArrayList<>(2)).add(anomaly);
+        byType.computeIfAbsent(anomaly.getClass(), t -> new ArrayList<>()).add(anomaly);
+    }
+
+    public void remove(BaseAnomalyEntity anomaly) {
+        long section = sectionOf.removeLong(anomaly);
+        if (section == Long.MIN_VALUE) return;
+
+        removeFromSection(anomaly, section);
+        List<BaseAnomalyEntity> typeList = byType.get(anomaly.getClass());
+        if (typeList != null) {
+            typeList.remove(anomaly);
+            if (typeList.isEmpty()) {
+                byType.remove(anomaly.getClass());
+            }
+        }
+    }
+
+    public void move(BaseAnomalyEntity anomaly, long newSection) {
+        long oldSection = sectionOf.getLong(anomaly);
+        if (oldSection == Long.MIN_VALUE || oldSection == newSection) return;
+
+        removeFromSection(anomaly, oldSection);
+        sectionOf.put(anomaly, newSection);
+        bySection.computeIfAbsent(newSection, s -> new ArrayList<>(2)).add(anomaly);
+    }
+
+    private void removeFromSection(BaseAnomalyEntity anomaly, long section) {
+        List<BaseAnomalyEntity> list = bySection.get(section);
+        if (list != null) {
+            list.remove(anomaly);
+            if (list.isEmpty()) {
+                bySection.remove(section);
+            }
+        }
+    }
+
+    /**
+     * Anomalies of the given type whose bounding box intersects the area (same test as getEntitiesOfClass)
+     */
+    public <T extends BaseAnomalyEntity> List<T> getInBox(Class<T> type, AABB area) {
+        List<T> result = new ArrayList<>();
+        forEachCandidate(type, area, anomaly -> {
+            if (anomaly.getBoundingBox().intersects(area)) {
+                result.add(anomaly);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Anomalies of the given type whose position is within {@code radius} of {@code center}
+     */
+    public <T extends BaseAnomalyEntity> List<T> getInRadius(Class<T> type, Vec3 center, double radius) {
+        List<T> result = new ArrayList<>();
+        double radiusSqr = radius * radius;
+        forEachCandidate(type, boxAround(center, radius), anomaly -> {
+            if (anomaly.position().distanceToSqr(center) <= radiusSqr) {
+                result.add(anomaly);
+            }
+        });
+        return result;
+    }
+
+    public <T extends BaseAnomalyEntity> Optional<T> findNearest(Class<T> type, Vec3 center, double radius) {
+        return findNearest(type, center, radius, anomaly -> true);
+    }
+
+    /**
+     * Nearest anomaly of the given type within {@code radius} of {@code center} that passes the filter
+     */
+    public <T extends BaseAnomalyEntity> Optional<T> findNearest(Class<T> type, Vec3 center, double radius, Predicate<? super T> filter) {
+        double radiusSqr = radius * radius;
+        return nearestMatching(type, center, boxAround(center, radius),
+            anomaly -> anomaly.position().distanceToSqr(center) <= radiusSqr && filter.test(anomaly));
+    }
+
+    /**
+     * Nearest anomaly of the given type (by position) whose bounding box intersects the area and passes the filter
+     */
+    public <T extends BaseAnomalyEntity> Optional<T> findNearest(Class<T> type, Vec3 center, AABB area, Predicate<? super T> filter) {
+        return nearestMatching(type, center, area,
+            anomaly -> anomaly.getBoundingBox().intersects(area) && filter.test(anomaly));
+    }
+
+    private <T extends BaseAnomalyEntity> Optional<T> nearestMatching(Class<T> type, Vec3 center, AABB area, Predicate<? super T> test) {
+        List<T> nearest = new ArrayList<>(1);
+        double[] nearestDistance = {Double.MAX_VALUE};
+        forEachCandidate(type, area, anomaly -> {
+            double distance = anomaly.position().distanceToSqr(center);
+            if (distance < nearestDistance[0] && test.test(anomaly)) {
+                nearest.clear();
+                nearest.add(anomaly);
+                nearestDistance[0] = distance;
+            }
+        });
+        return nearest.stream().findFirst();
+    }
+
+    /**
+     * Up to {@code count} anomalies of the given type within {@code radius} of {@code center}, nearest first
+     */
+    public <T extends BaseAnomalyEntity> List<T> findNearest(Class<T> type, Vec3 center, double radius, int count, Predicate<? super T> filter) {
+        List<T> result = getInRadius(type, center, radius);
+        result.removeIf(filter.negate());
+        result.sort(Comparator.comparingDouble(anomaly -> anomaly.position().distanceToSqr(center)));
+        return result.size() > count ? new ArrayList<>(result.subList(0, count)) : result;
+    }
+
+    public int size() {
+        return sectionOf.size();
+    }
+
+    // Visit every live anomaly of the type that is indexed in a section near the area
+    private <T extends BaseAnomalyEntity> void forEachCandidate(Class<T> type, AABB area, Consumer<T> action) {
+        int minX = SectionPos.posToSectionCoord(area.minX - BOX_MARGIN);
+        int minY = SectionPos.posToSectionCoord(area.minY - BOX_MARGIN);
+        int minZ = SectionPos.posToSectionCoord(area.minZ - BOX_MARGIN);
+        int maxX = SectionPos.posToSectionCoord(area.maxX + BOX_MARGIN);
+        int maxY = SectionPos.posToSectionCoord(area.maxY + BOX_MARGIN);
+        int maxZ = SectionPos.posToSectionCoord(area.maxZ + BOX_MARGIN);
+        long sectionCount = (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+
+        if (sectionCount > bySection.size()) {
+            // Large query: cheaper to walk the per-type lists and check section bounds
+            for (Map.Entry<Class<?>, List<BaseAnomalyEntity>> entry : byType.entrySet()) {
+                if (!type.isAssignableFrom(entry.getKey())) continue;
+
+                for (BaseAnomalyEntity anomaly : entry.getValue()) {
+                    long section = sectionOf.getLong(anomaly);
+                    int x = SectionPos.x(section);
+                    int y = SectionPos.y(section);
+                    int z = SectionPos.z(section);
+                    if (x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ && !anomaly.isRemoved()) {
+                        action.accept(type.cast(anomaly));
+                    }
+                }
+            }
+            return;
+        }
+
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int y = minY; y <= maxY; y++) {
+                    List<BaseAnomalyEntity> list = bySection.get(SectionPos.asLong(x, y, z));
+                    if (list == null) continue;
+
+                    for (BaseAnomalyEntity anomaly : list) {
+                        if (type.isInstance(anomaly) && !anomaly.isRemoved()) {
+                            action.accept(type.cast(anomaly));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static AABB boxAround(Vec3 center, double radius) {
+        return new AABB(center.x - radius, center.y - radius, center.z - radius,
+            center.x + radius, center.y + radius, center.z + radius);
+    }
+}
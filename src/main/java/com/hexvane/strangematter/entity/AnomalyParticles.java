@@ -0,0 +1,53 @@
+package com.hexvane.strangematter.entity;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+
+import java.util.UUID;
+
+/**
+ * Server-side emission of gameplay particle bursts (zaps, teleports, crop and mob effects).
+ * Each burst goes out as one batched particle packet per nearby player instead of one packet per particle,
+ * and every player has a per-tick particle budget so many anomalies firing at once can't flood a connection.
+ * Ambient particles don't belong here: anomalies emit those client-side in {@link BaseAnomalyEntity#spawnParticles()}.
+ */
+public final class AnomalyParticles {
+
+    // Same range vanilla uses for non-forced particles
+    private static final double SEND_RANGE_SQR = 32.0 * 32.0;
+
+    private static final Object2IntOpenHashMap<UUID> USED_THIS_TICK = new Object2IntOpenHashMap<>();
+    private static int budgetTick = -1;
+
+    private AnomalyParticles() {
+    }
+
+    /**
+     * Send {@code count} particles spread around a point (gaussian, like the particle command's delta)
+     * to every player in range, trimmed to what's left of each player's budget for this tick
+     */
+    public static void burst(ServerLevel level, ParticleOptions type, double x, double y, double z, int count,
+                             double spreadX, double spreadY, double spreadZ, double speed) {
+        if (count <= 0) return;
+
+        int tick = level.getServer().getTickCount();
+        if (tick != budgetTick) {
+            budgetTick = tick;
+            USED_THIS_TICK.clear();
+        }
+
+        int budget = com.hexvane.strangematter.Config.anomalyParticleBudget;
+        for (ServerPlayer player : level.players()) {
+            if (player.distanceToSqr(x, y, z) > SEND_RANGE_SQR) continue;
+
+            int used = USED_THIS_TICK.getInt(player.getUUID());
+            int allowed = Math.min(count, budget - used);
+            if (allowed <= 0) continue;
+
+            level.sendParticles(player, type, false, x, y, z, allowed, spreadX, spreadY, spreadZ, speed);
+            USED_THIS_TICK.put(player.getUUID(), used + allowed);
+        }
+    }
+}
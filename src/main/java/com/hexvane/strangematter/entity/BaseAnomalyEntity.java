@@ -22,19 +22,41 @@ import java.util.List;
 public abstract class BaseAnomalyEntity extends Entity {
     
     // Entity data for syncing between client and server
-    private static final EntityDataAccessor<Float> ROTATION = SynchedEntityData.defineId(BaseAnomalyEntity.class, EntityDataSerializers.FLOAT);
-    private static final EntityDataAccessor<Float> PULSE_INTENSITY = SynchedEntityData.defineId(BaseAnomalyEntity.class, EntityDataSerializers.FLOAT);
     private static final EntityDataAccessor<Boolean> IS_CONTAINED = SynchedEntityData.defineId(BaseAnomalyEntity.class, EntityDataSerializers.BOOLEAN);
     private static final EntityDataAccessor<Float> SCALE = SynchedEntityData.defineId(BaseAnomalyEntity.class, EntityDataSerializers.FLOAT);
     
     // Constants for anomaly behavior
     protected static final float ROTATION_SPEED = 0.5f;
     protected static final int PARTICLE_SPAWN_RATE = 20; // particles per second
+    // Ambient particles further than this from the player would be culled by the particle engine anyway
+    protected static final double AMBIENT_PARTICLE_RANGE = 32.0;
+    
+    // Rotation and pulse are derived from the level clock and the anomaly's UUID on both sides instead of
+    // being synced every tick. The clock wraps at a common multiple of all animation cycles to keep float precision.
+    private static final int ANIMATION_CLOCK_PERIOD = 3600;
+    
+    // Entity data syncs caused by anomalies, for /anomaly sync_stats
+    private static long entityDataSyncCount = 0;
     
     // Animation timers
     protected int tickCount = 0;
     protected float lastPulseTime = 0;
     
+    // Tick LOD: server logic runs every tick near players, every few ticks in the middle band and not at all
+    // beyond the suspend distance. Skipped ticks are replayed as a single catch-up on the next pass.
+    private static final int LOD_CHECK_INTERVAL = 20;
+    private static final int MAX_CATCH_UP_TICKS = 6000;
+    private int lodTickInterval = 1; // 0 while suspended
+    private int pendingTicks = 0;
+    private int ticksThisPass = 1;
+    
+    // Heavy work deferred this many ticks in a row runs regardless of the level's budget
+    private static final int MAX_HEAVY_PASS_DEFERRALS = 20;
+    // Heavy scans that found nothing to act on wait this long before looking again
+    protected static final int HEAVY_PASS_IDLE_RECHECK_TICKS = 10;
+    private final HeavyPass firstContactPass = new HeavyPass();
+    private boolean firstContactDue = false;
+    
     // Sound system
     protected static final float MAX_SOUND_DISTANCE = 10.0f;
     protected boolean isSoundActive = false;
@@ -51,8 +73,6 @@ public abstract class BaseAnomalyEntity extends Entity {
     
     @Override
     protected void defineSynchedData() {
-        this.entityData.define(ROTATION, 0.0f);
-        this.entityData.define(PULSE_INTENSITY, 0.0f);
         this.entityData.define(IS_CONTAINED, false);
         this.entityData.define(SCALE, 1.0f);
     }
@@ -63,39 +83,145 @@ public abstract class BaseAnomalyEntity extends Entity {
         tickCount++;
         
         if (!this.level().isClientSide) {
-            // Server-side logic
-            updateRotation();
-            updatePulseAnimation();
-            applyAnomalyEffects();
-            checkForFirstContact();
-            spawnParticles();
+            // Server-side logic, throttled by distance to the nearest player
+            if (tickCount == 1 || isPhaseTick(LOD_CHECK_INTERVAL)) {
+                updateTickLod();
+            }
+            pendingTicks = Math.min(pendingTicks + 1, MAX_CATCH_UP_TICKS);
+            if (lodTickInterval > 0 && pendingTicks >= lodTickInterval) {
+                ticksThisPass = pendingTicks;
+                pendingTicks = 0;
+                if (ticksThisPass > 1) {
+                    // The pass itself advances everything by one tick
+                    catchUpTicks(ticksThisPass - 1);
+                }
+                applyAnomalyEffects();
+                checkForFirstContact();
+            }
+            if (this.entityData.isDirty()) {
+                entityDataSyncCount++;
+            }
         } else {
             // Client-side logic
             updateClientEffects();
+            if (this.level().getNearestPlayer(this, AMBIENT_PARTICLE_RANGE) != null) {
+                spawnParticles();
+            }
             updateSoundEffects();
         }
     }
     
-    protected void updateRotation() {
-        float currentRotation = this.entityData.get(ROTATION);
-        float newRotation = currentRotation + ROTATION_SPEED;
-        if (newRotation >= 360.0f) {
-            newRotation -= 360.0f;
+    /**
+     * Pick the tick rate from the distance to the nearest (non-spectator) player
+     */
+    private void updateTickLod() {
+        int fullDistance = getLodFullDistance();
+        int suspendDistance = Math.max(getLodSuspendDistance(), fullDistance);
+        Player nearest = this.level().getNearestPlayer(this, suspendDistance);
+        if (nearest == null) {
+            if (lodTickInterval != 0) {
+                lodTickInterval = 0;
+                onSuspended();
+            }
+        } else if (nearest.distanceToSqr(this) <= (double) fullDistance * fullDistance) {
+            lodTickInterval = 1;
+        } else {
+            lodTickInterval = com.hexvane.strangematter.Config.anomalyLodReducedInterval;
         }
-        this.entityData.set(ROTATION, newRotation);
     }
     
-    protected void updatePulseAnimation() {
-        // Create a pulsing effect every few seconds
-        if (tickCount % 60 == 0) { // Every 3 seconds (60 ticks)
-            this.entityData.set(PULSE_INTENSITY, 1.0f);
+    /**
+     * Called when the tick LOD suspends this anomaly's server logic. Release anything that is normally
+     * cleaned up from {@link #applyAnomalyEffects()}, since that won't run again until a player comes near.
+     */
+    protected void onSuspended() {
+    }
+    
+    /**
+     * Players within this distance get full-rate anomaly ticks
+     */
+    protected int getLodFullDistance() {
+        return 48;
+    }
+    
+    /**
+     * Beyond this distance from every player the anomaly's server logic is suspended
+     */
+    protected int getLodSuspendDistance() {
+        return 128;
+    }
+    
+    /**
+     * Advance tick-based cooldowns and timers over ticks skipped by the tick LOD.
+     * Called before a pass that covers more than one tick, so the pass plus the catch-up
+     * counts down exactly as many ticks as have elapsed.
+     */
+    protected void catchUpTicks(int skippedTicks) {
+    }
+    
+    /**
+     * Whether this anomaly's phased {@code tickCount % period == 0} tick fell inside the ticks covered by this pass.
+     * Use instead of a plain modulo check in server logic so periodic work isn't lost at reduced rates
+     * and anomalies loaded together don't all do it on the same tick.
+     */
+    protected boolean isPeriodDue(int period) {
+        int phasedTick = tickCount + AnomalyEffectScheduler.phaseOf(this.getUUID(), period);
+        return phasedTick / period != (phasedTick - ticksThisPass) / period;
+    }
+    
+    private boolean isPhaseTick(int period) {
+        return (tickCount + AnomalyEffectScheduler.phaseOf(this.getUUID(), period)) % period == 0;
+    }
+    
+    /**
+     * Claim a slot in the level's per-tick budget for heavy work such as entity queries or block scans.
+     * Check this last, right before doing the work: if it returns false, skip the work this tick and
+     * leave the cooldown expired so it is retried on the next tick.
+     * Each kind of pass counts its own deferrals, so a pass that keeps losing out is forced through on time
+     * even while the anomaly's other passes get slots.
+     */
+    protected boolean tryStartHeavyPass(HeavyPass pass) {
+        AnomalyEffectScheduler scheduler = AnomalyEffectScheduler.get(this.level());
+        if (scheduler.tryAcquire()) {
+            pass.deferrals = 0;
+            return true;
         }
-        
-        // Gradually decrease pulse intensity
-        float currentPulse = this.entityData.get(PULSE_INTENSITY);
-        if (currentPulse > 0) {
-            this.entityData.set(PULSE_INTENSITY, Math.max(0, currentPulse - 0.05f));
+        if (++pass.deferrals >= MAX_HEAVY_PASS_DEFERRALS) {
+            scheduler.forceAcquire();
+            pass.deferrals = 0;
+            return true;
         }
+        return false;
+    }
+    
+    /**
+     * Deferral count for one kind of heavy pass (see {@link #tryStartHeavyPass(HeavyPass)})
+     */
+    protected static final class HeavyPass {
+        private int deferrals = 0;
+    }
+    
+    /**
+     * Number of ticks the current server pass stands for (1 at full rate)
+     */
+    protected int getTicksThisPass() {
+        return ticksThisPass;
+    }
+    
+    /**
+     * Animation clock in ticks, identical on server and client: the level's game time offset by this anomaly's phase
+     */
+    protected float getAnimationTime(float partialTick) {
+        long phased = this.level().getGameTime() + AnomalyEffectScheduler.phaseOf(this.getUUID(), ANIMATION_CLOCK_PERIOD);
+        return Math.floorMod(phased, (long) ANIMATION_CLOCK_PERIOD) + partialTick;
+    }
+    
+    /**
+     * Pulse intensity at the given animation time. Override for a different pulse shape.
+     */
+    protected float computePulseIntensity(float animationTime) {
+        // A pulse every 3 seconds (60 ticks) that fades out over one second
+        return Math.max(0, 0.95f - 0.05f * (animationTime % 60));
     }
     
     /**
@@ -104,7 +230,9 @@ public abstract class BaseAnomalyEntity extends Entity {
     protected abstract void applyAnomalyEffects();
     
     /**
-     * Override this method to implement specific particle effects
+     * Override this method to emit ambient particles. Runs on the client only, every tick while the player
+     * is nearby; use {@link #isPeriodDue} for periodic emitters. Gameplay bursts are sent from the server
+     * through {@link AnomalyParticles} instead.
      */
     protected abstract void spawnParticles();
     
@@ -121,8 +249,13 @@ public abstract class BaseAnomalyEntity extends Entity {
             return; // Don't check if anomaly is not active or contained
         }
         
-        // Only check every 20 ticks (1 second) to avoid performance issues
-        if (tickCount % 20 != 0) return;
+        // Only check every 20 ticks (1 second) to avoid performance issues; a check denied by the
+        // budget stays due and is retried on the next pass
+        if (isPeriodDue(20)) {
+            firstContactDue = true;
+        }
+        if (!firstContactDue || !tryStartHeavyPass(firstContactPass)) return;
+        firstContactDue = false;
         
         // Find all players within effect range of this anomaly
         float effectRadius = getEffectRadius();
@@ -274,15 +407,26 @@ public abstract class BaseAnomalyEntity extends Entity {
     
     // Getters for entity data
     public float getRotation() {
-        return this.entityData.get(ROTATION);
+        return getRotation(0);
+    }
+    
+    public float getRotation(float partialTick) {
+        return (getAnimationTime(partialTick) * ROTATION_SPEED) % 360.0f;
     }
     
     public float getPulseIntensity() {
-        return this.entityData.get(PULSE_INTENSITY);
+        return getPulseIntensity(0);
     }
     
-    protected void setPulseIntensity(float intensity) {
-        this.entityData.set(PULSE_INTENSITY, intensity);
+    public float getPulseIntensity(float partialTick) {
+        return computePulseIntensity(getAnimationTime(partialTick));
+    }
+    
+    /**
+     * Number of server ticks in which an anomaly had entity data to send to tracking players
+     */
+    public static long getEntityDataSyncCount() {
+        return entityDataSyncCount;
     }
     
     public boolean isContained() {
@@ -303,12 +447,6 @@ public abstract class BaseAnomalyEntity extends Entity {
     
     @Override
     protected void readAdditionalSaveData(CompoundTag compound) {
-        if (compound.contains("Rotation")) {
-            this.entityData.set(ROTATION, compound.getFloat("Rotation"));
-        }
-        if (compound.contains("PulseIntensity")) {
-            this.entityData.set(PULSE_INTENSITY, compound.getFloat("PulseIntensity"));
-        }
         if (compound.contains("IsContained")) {
             this.entityData.set(IS_CONTAINED, compound.getBoolean("IsContained"));
         }
@@ -319,8 +457,6 @@ public abstract class BaseAnomalyEntity extends Entity {
     
     @Override
     protected void addAdditionalSaveData(CompoundTag compound) {
-        compound.putFloat("Rotation", this.entityData.get(ROTATION));
-        compound.putFloat("PulseIntensity", this.entityData.get(PULSE_INTENSITY));
         compound.putBoolean("IsContained", this.entityData.get(IS_CONTAINED));
         compound.putFloat("Scale", this.entityData.get(SCALE));
     }
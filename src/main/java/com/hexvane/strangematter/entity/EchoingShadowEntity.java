@@ -50,6 +50,7 @@ public class EchoingShadowEntity extends BaseAnomalyEntity {
     private final Set<java.util.UUID> spawnedMobs = new HashSet<>();
     
     private int mobSpawnTimer = 0;
+    private final HeavyPass mobSpawnPass = new HeavyPass();
     
     public EchoingShadowEntity(EntityType<?> entityType, Level level) {
         super(entityType, level);
@@ -69,11 +70,11 @@ public class EchoingShadowEntity extends BaseAnomalyEntity {
         
         // Boost mob spawning in the shadow radius
         if (com.hexvane.strangematter.Config.enableShadowMobSpawnBoost) {
-            if (mobSpawnTimer <= 0) {
+            if (mobSpawnTimer > 0) {
+                mobSpawnTimer--;
+            } else if (tryStartHeavyPass(mobSpawnPass)) {
                 boostMobSpawning();
                 mobSpawnTimer = MOB_SPAWN_BOOST_TICKS;
-            } else {
-                mobSpawnTimer--;
             }
         }
     }
@@ -218,10 +219,6 @@ public class EchoingShadowEntity extends BaseAnomalyEntity {
     
     @Override
     protected void spawnParticles() {
-        if (this.level().isClientSide) {
-            return;
-        }
-        
         // Spawn shadow particles around the anomaly (reduced from 3 to 1)
         for (int i = 0; i < 1; i++) {
             double offsetX = (this.level().getRandom().nextDouble() - 0.5) * 2.0;
@@ -348,6 +345,21 @@ public class EchoingShadowEntity extends BaseAnomalyEntity {
         }
     }
     
+    @Override
+    protected int getLodFullDistance() {
+        return com.hexvane.strangematter.Config.shadowLodFullDistance;
+    }
+    
+    @Override
+    protected int getLodSuspendDistance() {
+        return com.hexvane.strangematter.Config.shadowLodSuspendDistance;
+    }
+    
+    @Override
+    protected void catchUpTicks(int skippedTicks) {
+        mobSpawnTimer = Math.max(0, mobSpawnTimer - skippedTicks);
+    }
+    
     @Override
     protected ResearchType getResearchType() {
         return ResearchType.SHADOW;
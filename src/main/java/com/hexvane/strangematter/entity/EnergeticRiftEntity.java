@@ -18,15 +18,17 @@ import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.ai.village.poi.PoiManager;
+import net.minecraft.world.entity.ai.village.poi.PoiRecord;
+import net.minecraft.world.entity.ai.village.poi.PoiTypes;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.Blocks;
-import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Optional;
 
 /**
  * Energetic Rift anomaly entity that zaps entities with electric damage
@@ -36,6 +38,8 @@ public class EnergeticRiftEntity extends BaseAnomalyEntity {
     
     // Entity data for syncing between client and server
     private static final EntityDataAccessor<Boolean> IS_ACTIVE = SynchedEntityData.defineId(EnergeticRiftEntity.class, EntityDataSerializers.BOOLEAN);
+    // Nearest lightning rod in range, for the renderer's targeting sparks
+    private static final EntityDataAccessor<Optional<BlockPos>> TARGET_ROD = SynchedEntityData.defineId(EnergeticRiftEntity.class, EntityDataSerializers.OPTIONAL_BLOCK_POS);
 
     /**
      * When a lightning rod is nearby, Energetic Rifts should not zap entities.
@@ -43,6 +47,14 @@ public class EnergeticRiftEntity extends BaseAnomalyEntity {
      */
     private static final int LIGHTNING_ROD_RECHECK_COOLDOWN_TICKS = 5;
     
+    /**
+     * Rod lookups come from the level's POI manager and are cached per rift. The cache is dropped whenever a
+     * lightning rod POI is added or removed anywhere (see PoiManagerMixin), and also refreshed on this interval
+     * to pick up rods in chunks that loaded since the last lookup.
+     */
+    private static final int LIGHTNING_ROD_CACHE_MAX_AGE_TICKS = 200;
+    private static int lightningRodPoiVersion = 0;
+    
     // Config-driven getters for energetic rift parameters
     private float getZapRadius() {
         return (float) com.hexvane.strangematter.Config.energeticZapRadius;
@@ -73,6 +85,14 @@ public class EnergeticRiftEntity extends BaseAnomalyEntity {
     // Tracking for cooldowns
     private int zapCooldown = 0;
     private int lightningCooldown = 0;
+    private final HeavyPass zapPass = new HeavyPass();
+    private final HeavyPass lightningPass = new HeavyPass();
+    
+    // Cached lightning rod lookup (server-side)
+    private List<BlockPos> cachedLightningRods = List.of();
+    private int cachedLightningRodVersion = -1;
+    private long cachedLightningRodExpiry = 0;
+    private BlockPos cachedLightningRodCenter = null;
     
     // Tracking for targeting sparks (client-side rendering)
     private final List<TargetingSpark> targetingSparks = new ArrayList<>();
@@ -85,20 +105,24 @@ public class EnergeticRiftEntity extends BaseAnomalyEntity {
     protected void defineSynchedData() {
         super.defineSynchedData();
         this.entityData.define(IS_ACTIVE, true);
+        this.entityData.define(TARGET_ROD, Optional.empty());
     }
     
     
     @Override
-    protected void updatePulseAnimation() {
+    protected float computePulseIntensity(float animationTime) {
         // Override pulse with breathing animation
         // Create smooth breathing effect using sine wave
-        float time = (this.tickCount % 120) / 120.0f; // 6 second cycle (120 ticks)
+        float time = (animationTime % 120) / 120.0f; // 6 second cycle (120 ticks)
         float breathingIntensity = (float) (0.5 + 0.5 * Math.sin(time * 2 * Math.PI));
-        this.setPulseIntensity(breathingIntensity);
+        return breathingIntensity;
     }
     
     @Override
     protected void applyAnomalyEffects() {
+        // The renderer shows sparks to the nearest rod whether or not the rift is active
+        this.entityData.set(TARGET_ROD, findNearestLightningRod());
+        
         if (!this.isActive() || this.isContained() || !com.hexvane.strangematter.Config.enableEnergeticEffects) {
             return; // Don't apply effects if not active, contained, or effects disabled
         }
@@ -108,7 +132,7 @@ public class EnergeticRiftEntity extends BaseAnomalyEntity {
         if (lightningCooldown > 0) lightningCooldown--;
         
         // Zap entities in range
-        if (zapCooldown <= 0 && com.hexvane.strangematter.Config.enableEnergeticZap) {
+        if (zapCooldown <= 0 && com.hexvane.strangematter.Config.enableEnergeticZap && tryStartHeavyPass(zapPass)) {
             // If a lightning rod is nearby, the rift is effectively grounded and should not zap entities.
             // This suppression is independent of enableEnergeticLightning (rod presence alone protects entities).
             if (hasLightningRodNearby()) {
@@ -119,7 +143,7 @@ public class EnergeticRiftEntity extends BaseAnomalyEntity {
         }
         
         // Strike lightning rods in range
-        if (lightningCooldown <= 0 && com.hexvane.strangematter.Config.enableEnergeticLightning) {
+        if (lightningCooldown <= 0 && com.hexvane.strangematter.Config.enableEnergeticLightning && tryStartHeavyPass(lightningPass)) {
             strikeLightningRods();
         }
         
@@ -146,6 +170,8 @@ public class EnergeticRiftEntity extends BaseAnomalyEntity {
         // Reset cooldown if we found a target
         if (foundTarget) {
             zapCooldown = getZapCooldownMax();
+        } else {
+            zapCooldown = HEAVY_PASS_IDLE_RECHECK_TICKS;
         }
     }
     
@@ -175,67 +201,82 @@ public class EnergeticRiftEntity extends BaseAnomalyEntity {
     }
     
     private void strikeLightningRods() {
-        List<BlockPos> lightningRods = new java.util.ArrayList<>();
-        
-        // Find all lightning rods in range
-        float lightningRadius = getLightningRodRadius();
-        BlockPos center = this.blockPosition();
-        for (int x = (int) -lightningRadius; x <= lightningRadius; x++) {
-            for (int y = -3; y <= 3; y++) {
-                for (int z = (int) -lightningRadius; z <= lightningRadius; z++) {
-                    BlockPos pos = center.offset(x, y, z);
-                    BlockState state = this.level().getBlockState(pos);
-                    
-                    if (state.is(Blocks.LIGHTNING_ROD)) {
-                        double distance = Math.sqrt(x * x + z * z);
-                        if (distance <= lightningRadius) {
-                            lightningRods.add(pos);
-                        }
-                    }
-                }
-            }
-        }
+        List<BlockPos> lightningRods = getLightningRodsInRange();
         
         // Strike a random lightning rod
         if (!lightningRods.isEmpty()) {
             BlockPos targetRod = lightningRods.get(this.level().getRandom().nextInt(lightningRods.size()));
             strikeLightningRod(targetRod);
             lightningCooldown = getLightningCooldownMax();
+        } else {
+            lightningCooldown = HEAVY_PASS_IDLE_RECHECK_TICKS;
         }
     }
 
     /**
      * Checks if any lightning rod is within the energetic lightning radius.
-     * Uses the same search volume as {@link #strikeLightningRods()}, but exits early.
      */
     private boolean hasLightningRodNearby() {
-        float lightningRadius = getLightningRodRadius();
-        if (lightningRadius <= 0) {
-            return false;
+        return !getLightningRodsInRange().isEmpty();
+    }
+    
+    private Optional<BlockPos> findNearestLightningRod() {
+        BlockPos center = this.blockPosition();
+        return getLightningRodsInRange().stream()
+            .min(java.util.Comparator.comparingDouble(pos -> horizontalDistanceSqr(center, pos)));
+    }
+    
+    /**
+     * Lightning rods within the lightning radius (horizontal circle, 3 blocks up or down), from the
+     * level's lightning rod POIs rather than a block scan
+     */
+    private List<BlockPos> getLightningRodsInRange() {
+        if (!(this.level() instanceof ServerLevel serverLevel)) {
+            return List.of();
         }
-
-        int r = (int) lightningRadius;
-        double radiusSq = lightningRadius * lightningRadius;
-
+        
         BlockPos center = this.blockPosition();
-        for (int x = -r; x <= r; x++) {
-            for (int y = -3; y <= 3; y++) {
-                for (int z = -r; z <= r; z++) {
-                    // Match existing behavior: radius check is horizontal (x/z), ignore y for the circle test
-                    double horizSq = (double) x * (double) x + (double) z * (double) z;
-                    if (horizSq > radiusSq) {
-                        continue;
-                    }
-
-                    BlockPos pos = center.offset(x, y, z);
-                    if (this.level().getBlockState(pos).is(Blocks.LIGHTNING_ROD)) {
-                        return true;
-                    }
-                }
-            }
+        long gameTime = serverLevel.getGameTime();
+        if (cachedLightningRodVersion == lightningRodPoiVersion && gameTime < cachedLightningRodExpiry
+            && center.equals(cachedLightningRodCenter)) {
+            return cachedLightningRods;
         }
-
-        return false;
+        
+        float lightningRadius = getLightningRodRadius();
+        if (lightningRadius <= 0) {
+            cachedLightningRods = List.of();
+        } else {
+            double radiusSq = lightningRadius * lightningRadius;
+            cachedLightningRods = serverLevel.getPoiManager()
+                .getInSquare(type -> type.is(PoiTypes.LIGHTNING_ROD), center, (int) Math.ceil(lightningRadius), PoiManager.Occupancy.ANY)
+                .map(PoiRecord::getPos)
+                .filter(pos -> Math.abs(pos.getY() - center.getY()) <= 3 && horizontalDistanceSqr(center, pos) <= radiusSq)
+                .toList();
+        }
+        cachedLightningRodVersion = lightningRodPoiVersion;
+        cachedLightningRodExpiry = gameTime + LIGHTNING_ROD_CACHE_MAX_AGE_TICKS;
+        cachedLightningRodCenter = center;
+        return cachedLightningRods;
+    }
+    
+    private static double horizontalDistanceSqr(BlockPos center, BlockPos pos) {
+        double dx = pos.getX() - center.getX();
+        double dz = pos.getZ() - center.getZ();
+        return dx * dx + dz * dz;
+    }
+    
+    /**
+     * Called when a lightning rod POI is added or removed in any level
+     */
+    public static void invalidateLightningRodCache() {
+        lightningRodPoiVersion++;
+    }
+    
+    /**
+     * The lightning rod this rift is arcing to, if any (synced to clients)
+     */
+    public Optional<BlockPos> getTargetLightningRod() {
+        return this.entityData.get(TARGET_ROD);
     }
     
     private void strikeLightningRod(BlockPos rodPos) {
@@ -257,20 +298,18 @@ public class EnergeticRiftEntity extends BaseAnomalyEntity {
     
     @Override
     protected void spawnParticles() {
-        if (this.level().isClientSide) return;
-        
         // Spawn swirling rift particles
-        if (tickCount % (20 / PARTICLE_SPAWN_RATE) == 0) {
+        if (isPeriodDue(20 / PARTICLE_SPAWN_RATE)) {
             spawnSwirlingParticles();
         }
         
         // Spawn electric sparks
-        if (tickCount % 5 == 0) {
+        if (isPeriodDue(5)) {
             spawnElectricSparks();
         }
         
         // Spawn aura particles around the core
-        if (tickCount % 10 == 0) {
+        if (isPeriodDue(10)) {
             spawnAuraParticles();
         }
     }
@@ -331,18 +370,9 @@ public class EnergeticRiftEntity extends BaseAnomalyEntity {
     }
     
     private void spawnElectricParticles(double x, double y, double z, int count) {
-        net.minecraft.util.RandomSource random = this.level().getRandom();
-        for (int i = 0; i < count; i++) {
-            double offsetX = (random.nextDouble() - 0.5) * 2.0;
-            double offsetY = random.nextDouble() * 2.0;
-            double offsetZ = (random.nextDouble() - 0.5) * 2.0;
-            
-            this.level().addParticle(
-                ParticleTypes.ELECTRIC_SPARK,
-                x + offsetX, y + offsetY, z + offsetZ,
-                (random.nextDouble() - 0.5) * 0.5, (random.nextDouble() - 0.5) * 0.5, (random.nextDouble() - 0.5) * 0.5
-            );
-        }
+        if (!(this.level() instanceof net.minecraft.server.level.ServerLevel serverLevel)) return;
+        
+        AnomalyParticles.burst(serverLevel, ParticleTypes.ELECTRIC_SPARK, x, y + 1.0, z, count, 0.5, 0.5, 0.5, 0.15);
     }
     
     @Override
@@ -355,6 +385,22 @@ public class EnergeticRiftEntity extends BaseAnomalyEntity {
         return StrangeMatterSounds.ENERGETIC_RIFT_LOOP.get().getLocation();
     }
     
+    @Override
+    protected int getLodFullDistance() {
+        return com.hexvane.strangematter.Config.energeticLodFullDistance;
+    }
+    
+    @Override
+    protected int getLodSuspendDistance() {
+        return com.hexvane.strangematter.Config.energeticLodSuspendDistance;
+    }
+    
+    @Override
+    protected void catchUpTicks(int skippedTicks) {
+        zapCooldown = Math.max(0, zapCooldown - skippedTicks);
+        lightningCooldown = Math.max(0, lightningCooldown - skippedTicks);
+    }
+    
     @Override
     protected ResearchType getResearchType() {
         return ResearchType.ENERGY;
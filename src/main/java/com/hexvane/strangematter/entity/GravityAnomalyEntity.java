@@ -22,7 +22,7 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import com.hexvane.strangematter.StrangeMatterMod;
-import com.hexvane.strangematter.GravityData;
+import com.hexvane.strangematter.PlayerFieldState;
 import com.hexvane.strangematter.research.ResearchType;
 import net.minecraft.world.level.block.Block;
 import net.minecraftforge.registries.RegistryObject;
@@ -32,8 +32,6 @@ import java.util.Set;
 import java.util.HashSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import com.hexvane.strangematter.network.NetworkHandler;
-import com.hexvane.strangematter.network.GravitySyncPacket;
 
 public class GravityAnomalyEntity extends BaseAnomalyEntity {
     private static final Logger LOGGER = LoggerFactory.getLogger(GravityAnomalyEntity.class);
@@ -77,11 +75,13 @@ public class GravityAnomalyEntity extends BaseAnomalyEntity {
     @Override
     protected void applyAnomalyEffects() {
         if (!this.isActive() || this.isContained() || !com.hexvane.strangematter.Config.enableGravityEffects) {
+            releaseAffectedPlayers();
             return; // Don't apply levitation if not active, contained, or effects disabled
         }
         
         // Check if levitation effect is enabled
         if (!com.hexvane.strangematter.Config.enableGravityLevitation) {
+            releaseAffectedPlayers();
             return;
         }
         
@@ -93,18 +93,8 @@ public class GravityAnomalyEntity extends BaseAnomalyEntity {
         affectedPlayers.removeIf(player -> {
             double distance = this.distanceTo(player);
             if (distance > levitationRadius) {
-                // Player left the area, remove gravity data
-                GravityData.removePlayerGravityForce(player.getUUID());
-                player.getPersistentData().remove("strangematter.gravity_force");
-                
-                // Send packet to clear gravity force on client
-                if (!level().isClientSide) {
-                    NetworkHandler.INSTANCE.send(
-                        net.minecraftforge.network.PacketDistributor.PLAYER.with(() -> (net.minecraft.server.level.ServerPlayer) player), 
-                        new GravitySyncPacket(0.0) // Send 0 to clear the effect
-                    );
-                    LOGGER.info("[GRAVITY ANOMALY] Server: Player {} left range, sent clear packet", player.getName().getString());
-                }
+                // Player left the area, drop this anomaly's contribution
+                PlayerFieldState.get(player).ifPresent(state -> state.clearGravity(this.getUUID()));
                 return true;
             }
             return false;
@@ -123,6 +113,30 @@ public class GravityAnomalyEntity extends BaseAnomalyEntity {
         }
     }
     
+    @Override
+    protected void onSuspended() {
+        // Players who were teleported away would otherwise keep levitating until the anomaly wakes up
+        releaseAffectedPlayers();
+    }
+    
+    @Override
+    public void remove(Entity.RemovalReason reason) {
+        releaseAffectedPlayers();
+        super.remove(reason);
+    }
+    
+    /**
+     * Drop this anomaly's gravity contribution from every player it is affecting
+     */
+    private void releaseAffectedPlayers() {
+        if (affectedPlayers.isEmpty()) return;
+        
+        for (Player player : affectedPlayers) {
+            PlayerFieldState.get(player).ifPresent(state -> state.clearGravity(this.getUUID()));
+        }
+        affectedPlayers.clear();
+    }
+    
     private void applyLowGravityEffect(Entity entity, double distance) {
         // Calculate force multiplier based on distance (stronger closer to center)
         float levitationRadius = getLevitationRadius();
@@ -174,21 +188,8 @@ public class GravityAnomalyEntity extends BaseAnomalyEntity {
             affectedPlayers.add(player);
         }
         
-        // Store the force multiplier in static data that both client and server can access
-        GravityData.setPlayerGravityForce(player.getUUID(), forceMultiplier);
-        
-        // Also store in persistent data for fallback
-        player.getPersistentData().putDouble("strangematter.gravity_force", forceMultiplier);
-        
-        // Send packet to client for synchronization
-        if (!this.level().isClientSide) {
-            NetworkHandler.INSTANCE.send(
-                net.minecraftforge.network.PacketDistributor.PLAYER.with(() -> (net.minecraft.server.level.ServerPlayer) player), 
-                new GravitySyncPacket(forceMultiplier)
-            );
-        } else {
-            LOGGER.info("[GRAVITY ANOMALY] Client: Player {} in field, force: {}", player.getName().getString(), forceMultiplier);
-        }
+        // Each anomaly is its own gravity source; the player's field state combines overlapping sources and syncs the client
+        PlayerFieldState.get(player).ifPresent(state -> state.setGravity(this.getUUID(), forceMultiplier));
     }
     
     private void applyMobLowGravity(LivingEntity mob, Vec3 currentVelocity, double forceMultiplier) {
@@ -237,10 +238,8 @@ public class GravityAnomalyEntity extends BaseAnomalyEntity {
     
     @Override
     protected void spawnParticles() {
-        if (this.level().isClientSide) return;
-        
         // Spawn levitation particles
-        if (tickCount % (20 / PARTICLE_SPAWN_RATE) == 0) {
+        if (isPeriodDue(20 / PARTICLE_SPAWN_RATE)) {
             double radius = getLevitationRadius() * 0.8;
             double angle = this.level().random.nextDouble() * 2 * Math.PI;
             double x = this.getX() + Math.cos(angle) * radius * this.level().random.nextDouble();
@@ -256,7 +255,7 @@ public class GravityAnomalyEntity extends BaseAnomalyEntity {
         }
         
         // Spawn aura particles around the core
-        if (tickCount % 10 == 0) {
+        if (isPeriodDue(10)) {
             double auraRadius = AURA_RADIUS;
             for (int i = 0; i < 3; i++) {
                 double angle = (tickCount * 0.1) + (i * Math.PI * 2 / 3);
@@ -284,6 +283,16 @@ public class GravityAnomalyEntity extends BaseAnomalyEntity {
         return com.hexvane.strangematter.sound.StrangeMatterSounds.GRAVITY_ANOMALY_LOOP.get().getLocation();
     }
     
+    @Override
+    protected int getLodFullDistance() {
+        return com.hexvane.strangematter.Config.gravityLodFullDistance;
+    }
+    
+    @Override
+    protected int getLodSuspendDistance() {
+        return com.hexvane.strangematter.Config.gravityLodSuspendDistance;
+    }
+    
     @Override
     protected ResearchType getResearchType() {
         return ResearchType.GRAVITY;
@@ -0,0 +1,243 @@
+package com.hexvane.strangematter.entity;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rolling sample of the terrain under and around one hoverboard, keyed by block column.
+ * Columns stay cached while the board moves within them (moving one block keeps 20 of the 25 columns)
+ * and are dropped when they leave the 5x5 window, when the board changes block height, or when a block
+ * inside the sampled part of the column changes (see LevelMixin and ServerLevelMixin).
+ * How each block state supports the board is memoized per state, except for states with dynamic shapes.
+ */
+public class HoverTerrainCache {
+
+    private static final int SCAN_DEPTH = 10; // Blocks scanned downward for ground or a fluid surface
+    private static final int RADIUS = 2; // Check 2 blocks in each direction
+    private static final int HEIGHT_CAP = 1; // Cap at 1 block higher than current height
+    private static final int NO_GROUND = Integer.MIN_VALUE;
+
+    // Caches of boards in each level, so block changes only reach the boards nearby; client and integrated
+    // server levels are updated from their own threads
+    private static final Map<LevelAccessor, Set<HoverTerrainCache>> ACTIVE = new ConcurrentHashMap<>();
+
+    // Block state classification, shared by both sides
+    private static final Map<BlockState, Integer> STATE_FLAGS = new ConcurrentHashMap<>();
+    private static final int SUPPORTS = 1;
+    private static final int SOLID_RENDER = 2;
+    private static final int FLUID = 4;
+    private static final int FLUID_SOURCE = 8;
+
+    private final Long2ObjectOpenHashMap<Column> columns = new Long2ObjectOpenHashMap<>();
+    private Level registeredLevel = null;
+    private long centerColumn = Long.MIN_VALUE;
+
+    /**
+     * Block position of the fluid surface or supporting block below {@code pos}, or null if there is none
+     * within the scan depth
+     */
+    public BlockPos findGround(Level level, BlockPos pos) {
+        moveTo(level, pos);
+        Column column = column(pos.getX(), pos.getZ(), pos.getY());
+        if (!column.groundKnown) {
+            column.groundY = scanGround(level, pos);
+            column.groundKnown = true;
+        }
+        return column.groundY == NO_GROUND ? null : new BlockPos(pos.getX(), column.groundY, pos.getZ());
+    }
+
+    /**
+     * How far the board has to rise to clear full blocks around it, 0 to {@link #HEIGHT_CAP}
+     */
+    public double findMaxHeightAdjustment(Level level, BlockPos pos) {
+        moveTo(level, pos);
+        double maxHeightAdjustment = 0.0;
+        for (int x = -RADIUS; x <= RADIUS; x++) {
+            for (int z = -RADIUS; z <= RADIUS; z++) {
+                // Skip the center position (where we are)
+                if (x == 0 && z == 0) continue;
+
+                Column column = column(pos.getX() + x, pos.getZ() + z, pos.getY());
+                if (column.solidMask < 0) {
+                    column.solidMask = scanSolidMask(level, pos.getX() + x, pos.getY(), pos.getZ() + z);
+                }
+                for (int y = 0; y <= HEIGHT_CAP; y++) {
+                    if ((column.solidMask & (1 << y)) != 0) {
+                        // +1 to clear the block
+                        maxHeightAdjustment = Math.max(maxHeightAdjustment, y + 1.0);
+                    }
+                }
+            }
+        }
+
+        // Cap the height adjustment to prevent excessive changes
+        return Math.min(maxHeightAdjustment, HEIGHT_CAP);
+    }
+
+    /**
+     * Stop listening for block changes, e.g. when the board is removed
+     */
+    public void release() {
+        if (registeredLevel != null) {
+            Set<HoverTerrainCache> caches = ACTIVE.get(registeredLevel);
+            if (caches != null) {
+                caches.remove(this);
+            }
+            registeredLevel = null;
+        }
+        columns.clear();
+        centerColumn = Long.MIN_VALUE;
+    }
+
+    /**
+     * Drop the board registry for a level that is being unloaded
+     */
+    public static void unload(LevelAccessor level) {
+        ACTIVE.remove(level);
+    }
+
+    /**
+     * A block changed in the level; drop any sampled column it falls in
+     */
+    public static void onBlockChanged(LevelAccessor level, BlockPos pos) {
+        Set<HoverTerrainCache> caches = ACTIVE.get(level);
+        if (caches == null || caches.isEmpty()) return;
+
+        long key = ChunkPos.asLong(pos.getX(), pos.getZ());
+        for (HoverTerrainCache cache : caches) {
+            Column column = cache.columns.get(key);
+            // The ground scan reads from baseY down, and the fluid check and height mask one block above it
+            if (column != null && pos.getY() <= column.baseY + HEIGHT_CAP && pos.getY() >= column.baseY - SCAN_DEPTH) {
+                cache.columns.remove(key);
+            }
+        }
+    }
+
+    private void moveTo(Level level, BlockPos pos) {
+        if (registeredLevel != level) {
+            release();
+            registeredLevel = level;
+            ACTIVE.computeIfAbsent(level, l -> Collections.newSetFromMap(new ConcurrentHashMap<>())).add(this);
+        }
+
+        long center = ChunkPos.asLong(pos.getX(), pos.getZ());
+        if (center == centerColumn) return;
+        centerColumn = center;
+
+        // Roll the window: forget columns that are no longer around the board
+        ObjectIterator<Long2ObjectOpenHashMap.Entry<Column>> iterator = columns.long2ObjectEntrySet().fastIterator();
+        while (iterator.hasNext()) {
+            long key = iterator.next().getLongKey();
+            if (Math.abs(ChunkPos.getX(key) - pos.getX()) > RADIUS || Math.abs(ChunkPos.getZ(key) - pos.getZ()) > RADIUS) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private Column column(int x, int z, int baseY) {
+        long key = ChunkPos.asLong(x, z);
+        Column column = columns.get(key);
+        if (column == null || column.baseY != baseY) {
+            column = new Column(baseY);
+            columns.put(key, column);
+        }
+        return column;
+    }
+
+    private static int scanGround(Level level, BlockPos pos) {
+        BlockPos.MutableBlockPos checkPos = pos.mutable();
+
+        // Scan downward for solid ground or fluid surface
+        for (int i = 0; i < SCAN_DEPTH; i++) {
+            checkPos.setY(pos.getY() - i);
+            BlockState blockState = level.getBlockState(checkPos);
+            int flags = flagsOf(level, checkPos, blockState);
+
+            // Check if this is a fluid surface (water or lava)
+            if ((flags & FLUID) != 0) {
+                // Check if this is the top of the fluid: no fluid above it
+                if ((flags & FLUID_SOURCE) != 0 || level.getFluidState(checkPos.above()).isEmpty()) {
+                    return checkPos.getY();
+                }
+            }
+
+            // Check if this block can support the hoverboard
+            if ((flags & SUPPORTS) != 0) {
+                return checkPos.getY();
+            }
+        }
+
+        return NO_GROUND;
+    }
+
+    private static byte scanSolidMask(Level level, int x, int baseY, int z) {
+        BlockPos.MutableBlockPos checkPos = new BlockPos.MutableBlockPos();
+        byte mask = 0;
+        // Check from ground level up to the height cap
+        for (int y = 0; y <= HEIGHT_CAP; y++) {
+            checkPos.set(x, baseY + y, z);
+            if ((flagsOf(level, checkPos, level.getBlockState(checkPos)) & SOLID_RENDER) != 0) {
+                mask |= (byte) (1 << y);
+            }
+        }
+        return mask;
+    }
+
+    private static int flagsOf(Level level, BlockPos pos, BlockState blockState) {
+        if (blockState.hasDynamicShape()) {
+            return classify(level, pos, blockState);
+        }
+        Integer flags = STATE_FLAGS.get(blockState);
+        if (flags == null) {
+            flags = classify(level, pos, blockState);
+            STATE_FLAGS.put(blockState, flags);
+        }
+        return flags;
+    }
+
+    private static int classify(Level level, BlockPos pos, BlockState blockState) {
+        int flags = 0;
+        FluidState fluidState = blockState.getFluidState();
+        if (!fluidState.isEmpty()) {
+            flags |= FLUID;
+            if (fluidState.isSource()) {
+                flags |= FLUID_SOURCE;
+            }
+        }
+        if (blockState.isAir()) {
+            return flags;
+        }
+
+        if (blockState.isSolidRender(level, pos)) {
+            flags |= SOLID_RENDER | SUPPORTS;
+        } else {
+            // Partial blocks like slabs, snow layers and stairs still support the board
+            // if their collision reaches at least half a block high
+            var shape = blockState.getCollisionShape(level, pos);
+            if (!shape.isEmpty() && shape.bounds().maxY >= 0.5) {
+                flags |= SUPPORTS;
+            }
+        }
+        return flags;
+    }
+
+    private static final class Column {
+        private final int baseY; // Board block height the column was sampled from
+        private int groundY = NO_GROUND;
+        private boolean groundKnown = false;
+        private byte solidMask = -1; // Bit y set for a full block at baseY + y, -1 until sampled
+
+        private Column(int baseY) {
+            this.baseY = baseY;
+        }
+    }
+}
@@ -11,10 +11,8 @@ import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.core.BlockPos;
-import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.Vec3;
 import net.minecraft.world.entity.MoverType;
-import net.minecraft.world.level.material.FluidState;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
@@ -41,7 +39,6 @@ public class HoverboardEntity extends Entity {
     // Hover constants
     private static final float TARGET_HOVER_HEIGHT = 0.5f; // Half block above ground
     private static final float HOVER_ADJUSTMENT_SPEED = 0.2f;
-    private static final float MAX_HOVER_SCAN_DISTANCE = 10.0f;
     private static final float CLIMB_BOOST = 0.25f; // Extra boost when detecting obstacle ahead
     
     // Jump constants
@@ -51,6 +48,9 @@ public class HoverboardEntity extends Entity {
     private boolean isJumping = false; // Track if currently jumping
     private int jumpTicks = 0; // Track how many ticks since jump started
     
+    // Ground and obstacle samples reused while the board stays over the same columns
+    private final HoverTerrainCache terrain = new HoverTerrainCache();
+    
     // Sound tracking
     private int loopSoundCooldown = 0; // Cooldown to prevent sound spam
     private static final int LOOP_SOUND_INTERVAL = 40; // Play loop sound every 2 seconds (40 ticks)
@@ -582,99 +582,21 @@ public class HoverboardEntity extends Entity {
      * Find solid ground or fluid surface below the hoverboard
      */
     private BlockPos findGroundBelow() {
-        BlockPos currentPos = this.blockPosition();
-        
-        // Scan downward for solid ground or fluid surface
-        for (int i = 0; i < MAX_HOVER_SCAN_DISTANCE; i++) {
-            BlockPos checkPos = currentPos.below(i);
-            BlockState blockState = this.level().getBlockState(checkPos);
-            FluidState fluidState = this.level().getFluidState(checkPos);
-            
-            // Check if this is a fluid surface (water or lava)
-            if (!fluidState.isEmpty()) {
-                // Check if this is the top of the fluid
-                if (fluidState.isSource() || isTopOfFluid(checkPos, fluidState)) {
-                    return checkPos;
-                }
-            }
-            
-            // Check if this block can support the hoverboard
-            if (!blockState.isAir() && canBlockSupportHoverboard(blockState, checkPos)) {
-                return checkPos;
-            }
-        }
-        
-        return null;
-    }
-    
-    /**
-     * Check if a block can support the hoverboard, including partial blocks like slabs and snow
-     */
-    private boolean canBlockSupportHoverboard(BlockState blockState, BlockPos pos) {
-        // Check if the block has a collision shape that can support the hoverboard
-        if (blockState.isSolidRender(this.level(), pos)) {
-            return true;
-        }
-        
-        // Check for partial blocks that can still support the hoverboard
-        // This includes slabs, snow layers, stairs, etc.
-        var shape = blockState.getCollisionShape(this.level(), pos);
-        if (!shape.isEmpty()) {
-            // Check if the collision shape has any solid parts at the top
-            // We consider it supportive if there's collision at Y=1.0 (top of block)
-            var topBox = shape.bounds().maxY;
-            return topBox >= 0.5; // At least half a block high
-        }
-        
-        return false;
-    }
-
-    /**
-     * Check if this position is the top surface of a fluid
-     */
-    private boolean isTopOfFluid(BlockPos pos, FluidState fluidState) {
-        // Check if the block above is air or not fluid
-        BlockPos above = pos.above();
-        FluidState aboveFluid = this.level().getFluidState(above);
-        
-        // It's the top if there's no fluid above
-        return aboveFluid.isEmpty();
+        return terrain.findGround(this.level(), this.blockPosition());
     }
 
     /**
      * Find the maximum height adjustment needed in a radius around the hoverboard
      */
     private double findMaxHeightInRadius() {
-        BlockPos currentPos = this.blockPosition();
-        double maxHeightAdjustment = 0.0;
-        int radius = 2; // Check 2 blocks in each direction
-        int maxHeightCap = 1; // Cap at 1 block higher than current height
-        
-        // Scan a radius around the hoverboard
-        for (int x = -radius; x <= radius; x++) {
-            for (int z = -radius; z <= radius; z++) {
-                // Skip the center position (where we are)
-                if (x == 0 && z == 0) continue;
-                
-                BlockPos checkPos = currentPos.offset(x, 0, z);
-                
-                // Check from ground level up to the height cap
-                for (int y = 0; y <= maxHeightCap; y++) {
-                    BlockPos heightCheckPos = checkPos.above(y);
-                    BlockState blockState = this.level().getBlockState(heightCheckPos);
-                    
-                    // If there's a solid block at this height, we need to account for it
-                    if (!blockState.isAir() && blockState.isSolidRender(this.level(), heightCheckPos)) {
-                        // Calculate how much we need to raise to clear this block
-                        double requiredHeight = y + 1.0; // +1 to clear the block
-                        maxHeightAdjustment = Math.max(maxHeightAdjustment, requiredHeight);
-                    }
-                }
-            }
-        }
-        
-        // Cap the height adjustment to prevent excessive changes
-        return Math.min(maxHeightAdjustment, maxHeightCap);
+        return terrain.findMaxHeightAdjustment(this.level(), this.blockPosition());
+    }
+
+    @Override
+    public void onRemovedFromWorld() {
+        // Stop receiving block changes for the cached terrain
+        terrain.release();
+        super.onRemovedFromWorld();
     }
     
     @Override
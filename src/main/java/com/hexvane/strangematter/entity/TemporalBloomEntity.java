@@ -5,7 +5,11 @@ import com.hexvane.strangematter.sound.StrangeMatterSounds;
 import com.hexvane.strangematter.StrangeMatterMod;
 import net.minecraft.world.level.block.Block;
 import net.minecraftforge.registries.RegistryObject;
+import com.hexvane.strangematter.mixin.CropBlockAccessor;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.syncher.EntityDataAccessor;
@@ -23,6 +27,8 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.CropBlock;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraft.world.level.block.state.properties.IntegerProperty;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
@@ -63,10 +69,23 @@ public class TemporalBloomEntity extends BaseAnomalyEntity {
     
     private static final int PARTICLE_BURST_COOLDOWN = 40; // 2 seconds
     
+    /**
+     * Crop positions in range are cached between passes. The cache is rebuilt (skipping chunk sections whose
+     * palette has no crops) after this many passes or when the bloom moves, topped up when crops are planted
+     * nearby, and loses entries that are no longer crops when they are visited.
+     */
+    private static final int CROP_RESCAN_PASSES = 10;
+    
     // Tracking for cooldowns
     private int cropEffectCooldown = 0;
     private int mobTransformCooldown = 0;
-    private int particleBurstCooldown = 0;
+    private final HeavyPass cropPass = new HeavyPass();
+    private final HeavyPass mobTransformPass = new HeavyPass();
+    
+    // Cached crop positions (server-side)
+    private final LongOpenHashSet cropPositions = new LongOpenHashSet();
+    private BlockPos cropScanCenter = null;
+    private int cropPassesSinceScan = 0;
     
     public TemporalBloomEntity(EntityType<?> entityType, Level level) {
         super(entityType, level);
@@ -79,11 +98,11 @@ public class TemporalBloomEntity extends BaseAnomalyEntity {
     }
     
     @Override
-    protected void updatePulseAnimation() {
+    protected float computePulseIntensity(float animationTime) {
         // Create a gentle pulsing effect with temporal energy waves
-        float time = (this.tickCount % 80) / 80.0f; // 4 second cycle (80 ticks)
+        float time = (animationTime % 80) / 80.0f; // 4 second cycle (80 ticks)
         float pulseIntensity = (float) (0.3 + 0.7 * Math.sin(time * 2 * Math.PI));
-        this.setPulseIntensity(pulseIntensity);
+        return pulseIntensity;
     }
     
     @Override
@@ -95,69 +114,114 @@ public class TemporalBloomEntity extends BaseAnomalyEntity {
         // Update cooldowns
         if (cropEffectCooldown > 0) cropEffectCooldown--;
         if (mobTransformCooldown > 0) mobTransformCooldown--;
-        if (particleBurstCooldown > 0) particleBurstCooldown--;
         
         // Apply crop growth effects
-        if (cropEffectCooldown <= 0 && com.hexvane.strangematter.Config.enableTemporalCropGrowth) {
+        if (cropEffectCooldown <= 0 && com.hexvane.strangematter.Config.enableTemporalCropGrowth && tryStartHeavyPass(cropPass)) {
             affectNearbyCrops();
         }
         
         // Transform mobs between baby and adult forms
-        if (mobTransformCooldown <= 0 && com.hexvane.strangematter.Config.enableTemporalMobTransform) {
+        if (mobTransformCooldown <= 0 && com.hexvane.strangematter.Config.enableTemporalMobTransform && tryStartHeavyPass(mobTransformPass)) {
             transformNearbyMobs();
         }
-        
-        // Create temporal particle bursts
-        if (particleBurstCooldown <= 0) {
-            createTemporalBurst();
-        }
     }
     
     private void affectNearbyCrops() {
         BlockPos center = this.blockPosition();
+        if (!center.equals(cropScanCenter) || cropPassesSinceScan >= CROP_RESCAN_PASSES) {
+            rescanCrops(center);
+        }
+        cropPassesSinceScan++;
+        
+        BlockPos.MutableBlockPos cropPos = new BlockPos.MutableBlockPos();
+        LongIterator iterator = cropPositions.iterator();
+        while (iterator.hasNext()) {
+            cropPos.set(iterator.nextLong());
+            if (!this.level().isLoaded(cropPos)) continue;
+            
+            BlockState state = this.level().getBlockState(cropPos);
+            if (state.getBlock() instanceof CropBlock cropBlock) {
+                affectCrop(cropPos.immutable(), state, cropBlock);
+            } else {
+                iterator.remove();
+            }
+        }
+        
+        cropEffectCooldown = getCropCooldownMax();
+    }
+    
+    /**
+     * Rebuild the crop cache from the loaded chunk sections around the bloom
+     */
+    private void rescanCrops(BlockPos center) {
+        cropPositions.clear();
+        cropScanCenter = center;
+        cropPassesSinceScan = 0;
         
-        // Find crops in a circular area around the anomaly
+        Level level = this.level();
         float effectRadius = getTemporalEffectRadius();
-        for (int x = (int) -effectRadius; x <= effectRadius; x++) {
-            for (int z = (int) -effectRadius; z <= effectRadius; z++) {
-                double distance = Math.sqrt(x * x + z * z);
-                if (distance <= effectRadius) {
-                    BlockPos pos = center.offset(x, 0, z);
+        int r = (int) effectRadius;
+        int minY = center.getY() - 2;
+        int maxY = center.getY() + 2;
+        
+        for (int chunkX = SectionPos.blockToSectionCoord(center.getX() - r); chunkX <= SectionPos.blockToSectionCoord(center.getX() + r); chunkX++) {
+            for (int chunkZ = SectionPos.blockToSectionCoord(center.getZ() - r); chunkZ <= SectionPos.blockToSectionCoord(center.getZ() + r); chunkZ++) {
+                LevelChunk chunk = level.getChunkSource().getChunkNow(chunkX, chunkZ);
+                if (chunk == null) continue;
+                
+                for (int sectionY = SectionPos.blockToSectionCoord(minY); sectionY <= SectionPos.blockToSectionCoord(maxY); sectionY++) {
+                    int sectionIndex = level.getSectionIndexFromSectionY(sectionY);
+                    if (sectionIndex < 0 || sectionIndex >= chunk.getSectionsCount()) continue;
+                    
+                    // The section palette tells us up front whether there can be any crop in it
+                    LevelChunkSection section = chunk.getSection(sectionIndex);
+                    if (section.hasOnlyAir() || !section.maybeHas(state -> state.getBlock() instanceof CropBlock)) continue;
                     
-                    // Check multiple Y levels for crops
-                    for (int y = -2; y <= 2; y++) {
-                        BlockPos cropPos = pos.offset(0, y, 0);
-                        BlockState state = this.level().getBlockState(cropPos);
-                        
-                        if (state.getBlock() instanceof CropBlock cropBlock) {
-                            affectCrop(cropPos, state, cropBlock);
+                    int fromX = Math.max(center.getX() - r, SectionPos.sectionToBlockCoord(chunkX));
+                    int toX = Math.min(center.getX() + r, SectionPos.sectionToBlockCoord(chunkX, 15));
+                    int fromZ = Math.max(center.getZ() - r, SectionPos.sectionToBlockCoord(chunkZ));
+                    int toZ = Math.min(center.getZ() + r, SectionPos.sectionToBlockCoord(chunkZ, 15));
+                    int fromY = Math.max(minY, SectionPos.sectionToBlockCoord(sectionY));
+                    int toY = Math.min(maxY, SectionPos.sectionToBlockCoord(sectionY, 15));
+                    
+                    for (int x = fromX; x <= toX; x++) {
+                        for (int z = fromZ; z <= toZ; z++) {
+                            if (!isInCropRange(center, x, center.getY(), z)) continue;
+                            
+                            for (int y = fromY; y <= toY; y++) {
+                                if (section.getBlockState(x & 15, y & 15, z & 15).getBlock() instanceof CropBlock) {
+                                    cropPositions.add(BlockPos.asLong(x, y, z));
+                                }
+                            }
                         }
                     }
                 }
             }
         }
-        
-        cropEffectCooldown = getCropCooldownMax();
     }
     
-    private void affectCrop(BlockPos pos, BlockState state, CropBlock cropBlock) {
-        // Get the age property for this crop - use reflection to access the protected method
-        IntegerProperty ageProperty = null;
-        try {
-            java.lang.reflect.Method getAgePropertyMethod = CropBlock.class.getDeclaredMethod("getAgeProperty");
-            getAgePropertyMethod.setAccessible(true);
-            ageProperty = (IntegerProperty) getAgePropertyMethod.invoke(cropBlock);
-        } catch (Exception e) {
-            // If reflection fails, try to find the age property in the block state
-            for (net.minecraft.world.level.block.state.properties.Property<?> property : state.getProperties()) {
-                if (property instanceof IntegerProperty && property.getName().equals("age")) {
-                    ageProperty = (IntegerProperty) property;
-                    break;
-                }
-            }
+    // Circle on x/z, two blocks up or down
+    private boolean isInCropRange(BlockPos center, int x, int y, int z) {
+        float effectRadius = getTemporalEffectRadius();
+        int dx = x - center.getX();
+        int dz = z - center.getZ();
+        return Math.abs(dx) <= (int) effectRadius && Math.abs(dz) <= (int) effectRadius
+            && dx * dx + dz * dz <= effectRadius * effectRadius
+            && Math.abs(y - center.getY()) <= 2;
+    }
+    
+    /**
+     * A crop was planted near this bloom; add it to the cache so it's affected before the next rescan
+     */
+    public void onCropPlaced(BlockPos pos) {
+        if (cropScanCenter != null && isInCropRange(cropScanCenter, pos.getX(), pos.getY(), pos.getZ())) {
+            cropPositions.add(pos.asLong());
         }
-        
-        if (ageProperty == null) {
+    }
+    
+    private void affectCrop(BlockPos pos, BlockState state, CropBlock cropBlock) {
+        IntegerProperty ageProperty = ((CropBlockAccessor) cropBlock).strangematter$getAgeProperty();
+        if (ageProperty == null || !state.hasProperty(ageProperty)) {
             return; // Can't find age property, skip this crop
         }
         
@@ -211,6 +275,8 @@ public class TemporalBloomEntity extends BaseAnomalyEntity {
         // Reset cooldown if we found a target
         if (foundTarget) {
             mobTransformCooldown = getMobCooldownMax();
+        } else {
+            mobTransformCooldown = HEAVY_PASS_IDLE_RECHECK_TICKS;
         }
     }
     
@@ -245,22 +311,10 @@ public class TemporalBloomEntity extends BaseAnomalyEntity {
     private void createTemporalDistortion(LivingEntity mob) {
         // Create a brief temporal distortion effect
         // This could be expanded to include more complex effects
-        Vec3 mobPos = mob.position();
+        if (!(this.level() instanceof net.minecraft.server.level.ServerLevel serverLevel)) return;
         
-        // Spawn particles in a spiral pattern around the mob
-        for (int i = 0; i < 12; i++) {
-            double angle = (i * Math.PI * 2) / 12.0;
-            double radius = 1.5;
-            double x = mobPos.x + Math.cos(angle) * radius;
-            double z = mobPos.z + Math.sin(angle) * radius;
-            double y = mobPos.y + 1.0;
-            
-            this.level().addParticle(
-                ParticleTypes.END_ROD,
-                x, y, z,
-                (Math.random() - 0.5) * 0.1, 0.1, (Math.random() - 0.5) * 0.1
-            );
-        }
+        Vec3 mobPos = mob.position();
+        AnomalyParticles.burst(serverLevel, ParticleTypes.END_ROD, mobPos.x, mobPos.y + 1.0, mobPos.z, 12, 0.75, 0.1, 0.75, 0.05);
     }
     
     private void createTemporalBurst() {
@@ -286,26 +340,28 @@ public class TemporalBloomEntity extends BaseAnomalyEntity {
                 (this.level().getRandom().nextDouble() - 0.5) * 0.2
             );
         }
-        
-        particleBurstCooldown = PARTICLE_BURST_COOLDOWN;
     }
     
     @Override
     protected void spawnParticles() {
-        if (this.level().isClientSide) return;
+        // Create temporal particle bursts
+        if (isPeriodDue(PARTICLE_BURST_COOLDOWN) && this.isActive() && !this.isContained()
+                && com.hexvane.strangematter.Config.enableTemporalEffects) {
+            createTemporalBurst();
+        }
         
         // Spawn floating temporal crystals
-        if (tickCount % (20 / PARTICLE_SPAWN_RATE) == 0) {
+        if (isPeriodDue(20 / PARTICLE_SPAWN_RATE)) {
             spawnFloatingCrystals();
         }
         
         // Spawn energy ripples
-        if (tickCount % 15 == 0) {
+        if (isPeriodDue(15)) {
             spawnEnergyRipples();
         }
         
         // Spawn aura particles around the core
-        if (tickCount % 8 == 0) {
+        if (isPeriodDue(8)) {
             spawnAuraParticles();
         }
     }
@@ -365,67 +421,23 @@ public class TemporalBloomEntity extends BaseAnomalyEntity {
     
     private void spawnTemporalParticles(double x, double y, double z, int count) {
         if (this.level() instanceof net.minecraft.server.level.ServerLevel serverLevel) {
-            // Use server-side particle spawning that will be sent to clients
-            for (int i = 0; i < count; i++) {
-                double offsetX = (this.level().getRandom().nextDouble() - 0.5) * 1.0;
-                double offsetY = this.level().getRandom().nextDouble() * 1.0;
-                double offsetZ = (this.level().getRandom().nextDouble() - 0.5) * 1.0;
-                
-                // Use fewer white particles for less overwhelming effect
-                if (i % 2 == 0) { // Only spawn every other particle
-                    serverLevel.sendParticles(
-                        ParticleTypes.ELECTRIC_SPARK,
-                        x + offsetX, y + offsetY, z + offsetZ,
-                        1,
-                        (this.level().getRandom().nextDouble() - 0.5) * 0.2,
-                        (this.level().getRandom().nextDouble() - 0.5) * 0.2,
-                        (this.level().getRandom().nextDouble() - 0.5) * 0.2,
-                        0.0
-                    );
-                }
-            }
+            // Use fewer white particles for less overwhelming effect
+            AnomalyParticles.burst(serverLevel, ParticleTypes.ELECTRIC_SPARK, x, y + 0.5, z, (count + 1) / 2, 0.3, 0.3, 0.3, 0.0);
         }
     }
     
     private void spawnBlockEffectParticles(BlockPos pos) {
         if (this.level() instanceof net.minecraft.server.level.ServerLevel serverLevel) {
             // Add some portal particles for extra visibility
-            for (int i = 0; i < 4; i++) {
-                double x = pos.getX() + 0.5 + (this.level().getRandom().nextDouble() - 0.5) * 1.0;
-                double z = pos.getZ() + 0.5 + (this.level().getRandom().nextDouble() - 0.5) * 1.0;
-                double y = pos.getY() + 0.5 + this.level().getRandom().nextDouble() * 0.5;
-                
-                serverLevel.sendParticles(
-                    ParticleTypes.PORTAL,
-                    x, y, z,
-                    1,
-                    (this.level().getRandom().nextDouble() - 0.5) * 0.1,
-                    0.1,
-                    (this.level().getRandom().nextDouble() - 0.5) * 0.1,
-                    0.0
-                );
-            }
+            AnomalyParticles.burst(serverLevel, ParticleTypes.PORTAL, pos.getX() + 0.5, pos.getY() + 0.75, pos.getZ() + 0.5, 4, 0.3, 0.15, 0.3, 0.0);
         }
     }
     
     private void spawnEntityEffectParticles(LivingEntity entity) {
         if (this.level() instanceof net.minecraft.server.level.ServerLevel serverLevel) {
             // Add portal particles for extra visibility
-            for (int i = 0; i < 6; i++) {
-                double x = entity.getX() + (this.level().getRandom().nextDouble() - 0.5) * entity.getBbWidth();
-                double z = entity.getZ() + (this.level().getRandom().nextDouble() - 0.5) * entity.getBbWidth();
-                double y = entity.getY() + entity.getBbHeight() * 0.5 + (this.level().getRandom().nextDouble() - 0.5) * entity.getBbHeight();
-                
-                serverLevel.sendParticles(
-                    ParticleTypes.PORTAL,
-                    x, y, z,
-                    1,
-                    (this.level().getRandom().nextDouble() - 0.5) * 0.1,
-                    0.1,
-                    (this.level().getRandom().nextDouble() - 0.5) * 0.1,
-                    0.0
-                );
-            }
+            AnomalyParticles.burst(serverLevel, ParticleTypes.PORTAL, entity.getX(), entity.getY() + entity.getBbHeight() * 0.5, entity.getZ(), 6,
+                entity.getBbWidth() * 0.3, entity.getBbHeight() * 0.3, entity.getBbWidth() * 0.3, 0.0);
         }
     }
     
@@ -439,6 +451,22 @@ public class TemporalBloomEntity extends BaseAnomalyEntity {
         return StrangeMatterSounds.TEMPORAL_BLOOM_LOOP.get().getLocation();
     }
     
+    @Override
+    protected int getLodFullDistance() {
+        return com.hexvane.strangematter.Config.temporalLodFullDistance;
+    }
+    
+    @Override
+    protected int getLodSuspendDistance() {
+        return com.hexvane.strangematter.Config.temporalLodSuspendDistance;
+    }
+    
+    @Override
+    protected void catchUpTicks(int skippedTicks) {
+        cropEffectCooldown = Math.max(0, cropEffectCooldown - skippedTicks);
+        mobTransformCooldown = Math.max(0, mobTransformCooldown - skippedTicks);
+    }
+    
     @Override
     protected ResearchType getResearchType() {
         return ResearchType.TIME;
@@ -83,8 +83,8 @@ public class ThoughtwellEntity extends BaseAnomalyEntity {
     // Tracking for cooldowns
     private int nauseaCooldown = 0;
     private int confusionCooldown = 0;
-    private int particleBurstCooldown = 0;
-    private int runicParticleCooldown = 0;
+    private final HeavyPass nauseaPass = new HeavyPass();
+    private final HeavyPass confusionPass = new HeavyPass();
     
     public ThoughtwellEntity(EntityType<?> entityType, Level level) {
         super(entityType, level);
@@ -100,11 +100,11 @@ public class ThoughtwellEntity extends BaseAnomalyEntity {
     
     
     @Override
-    protected void updatePulseAnimation() {
+    protected float computePulseIntensity(float animationTime) {
         // Create a gentle pulsing effect with cognitive energy waves
-        float time = (this.tickCount % 100) / 100.0f; // 5 second cycle (100 ticks)
+        float time = (animationTime % 100) / 100.0f; // 5 second cycle (100 ticks)
         float pulseIntensity = (float) (0.4 + 0.6 * Math.sin(time * 2 * Math.PI));
-        this.setPulseIntensity(pulseIntensity);
+        return pulseIntensity;
     }
     
     @Override
@@ -116,31 +116,19 @@ public class ThoughtwellEntity extends BaseAnomalyEntity {
         // Update cooldowns
         if (nauseaCooldown > 0) nauseaCooldown--;
         if (confusionCooldown > 0) confusionCooldown--;
-        if (particleBurstCooldown > 0) particleBurstCooldown--;
-        if (runicParticleCooldown > 0) runicParticleCooldown--;
         
         // Update disguise durations
         updateDisguiseDurations();
         
         // Apply nausea effect to nearby players
-        if (nauseaCooldown <= 0 && com.hexvane.strangematter.Config.enableThoughtwellNausea) {
+        if (nauseaCooldown <= 0 && com.hexvane.strangematter.Config.enableThoughtwellNausea && tryStartHeavyPass(nauseaPass)) {
             affectNearbyPlayers();
         }
         
         // Confuse nearby mobs
-        if (confusionCooldown <= 0 && com.hexvane.strangematter.Config.enableThoughtwellMobDisguise) {
+        if (confusionCooldown <= 0 && com.hexvane.strangematter.Config.enableThoughtwellMobDisguise && tryStartHeavyPass(confusionPass)) {
             confuseNearbyMobs();
         }
-        
-        // Create cyan particle bursts
-        if (particleBurstCooldown <= 0) {
-            createCyanBurst();
-        }
-        
-        // Create runic particle effects
-        if (runicParticleCooldown <= 0) {
-            createRunicParticles();
-        }
     }
     
     private void affectNearbyPlayers() {
@@ -178,6 +166,8 @@ public class ThoughtwellEntity extends BaseAnomalyEntity {
         // Reset cooldown if we found a player
         if (foundPlayer) {
             nauseaCooldown = NAUSEA_COOLDOWN;
+        } else {
+            nauseaCooldown = HEAVY_PASS_IDLE_RECHECK_TICKS;
         }
     }
     
@@ -204,6 +194,8 @@ public class ThoughtwellEntity extends BaseAnomalyEntity {
         // Reset cooldown if we found a mob
         if (foundMob) {
             confusionCooldown = CONFUSION_COOLDOWN;
+        } else {
+            confusionCooldown = HEAVY_PASS_IDLE_RECHECK_TICKS;
         }
     }
     
@@ -247,8 +239,6 @@ public class ThoughtwellEntity extends BaseAnomalyEntity {
                 (this.level().getRandom().nextDouble() - 0.5) * 0.2
             );
         }
-        
-        particleBurstCooldown = PARTICLE_BURST_COOLDOWN;
     }
     
     private void createRunicParticles() {
@@ -271,28 +261,34 @@ public class ThoughtwellEntity extends BaseAnomalyEntity {
                 Math.cos(angle + Math.PI/2) * 0.05, 0.1, Math.sin(angle + Math.PI/2) * 0.05
             );
         }
-        
-        runicParticleCooldown = RUNIC_PARTICLE_COOLDOWN;
     }
     
     @Override
     protected void spawnParticles() {
-        if (this.level().isClientSide) return;
-        
-        if (!(this.level() instanceof net.minecraft.server.level.ServerLevel serverLevel)) return;
+        if (this.isActive() && !this.isContained() && com.hexvane.strangematter.Config.enableThoughtwellEffects) {
+            // Create cyan particle bursts
+            if (isPeriodDue(PARTICLE_BURST_COOLDOWN)) {
+                createCyanBurst();
+            }
+            
+            // Create runic particle effects
+            if (isPeriodDue(RUNIC_PARTICLE_COOLDOWN)) {
+                createRunicParticles();
+            }
+        }
         
         // Spawn enchant particles in a ring around the thoughtwell
-        if (tickCount % 20 == 0) {
-            spawnEnchantRingParticles(serverLevel);
+        if (isPeriodDue(20)) {
+            spawnEnchantRingParticles();
         }
         
         // Spawn random enchant particles in a sphere around the thoughtwell (like echoing shadow)
         if (this.level().getRandom().nextFloat() < 0.1f) { // Less frequent than echoing shadow
-            spawnRandomEnchantSphereParticles(serverLevel);
+            spawnRandomEnchantSphereParticles();
         }
     }
     
-    private void spawnEnchantRingParticles(net.minecraft.server.level.ServerLevel serverLevel) {
+    private void spawnEnchantRingParticles() {
         // Spawn enchant particles in a ring around the thoughtwell (only on the edge)
         int ringCount = 12; // More particles for a fuller ring
         
@@ -306,17 +302,15 @@ public class ThoughtwellEntity extends BaseAnomalyEntity {
             double y = this.getY() + height;
             
             // Spawn enchant particles in a ring (using enchant particle type)
-            serverLevel.sendParticles(
+            this.level().addParticle(
                 ParticleTypes.ENCHANT,
                 x, y, z,
-                1,
-                Math.cos(angle + Math.PI/2) * 0.01, 0.02, Math.sin(angle + Math.PI/2) * 0.01,
-                0.0
+                Math.cos(angle + Math.PI/2) * 0.01, 0.02, Math.sin(angle + Math.PI/2) * 0.01
             );
         }
     }
     
-    private void spawnRandomEnchantSphereParticles(net.minecraft.server.level.ServerLevel serverLevel) {
+    private void spawnRandomEnchantSphereParticles() {
         // Spawn random enchant particles in a sphere around the thoughtwell (like echoing shadow)
         for (int i = 0; i < 2; i++) { // Fewer particles than echoing shadow
             double offsetX = (this.level().getRandom().nextDouble() - 0.5) * 6.0; // Larger sphere
@@ -324,14 +318,12 @@ public class ThoughtwellEntity extends BaseAnomalyEntity {
             double offsetZ = (this.level().getRandom().nextDouble() - 0.5) * 6.0; // Larger sphere
             
             // Spawn enchant particles randomly in a sphere around the thoughtwell
-            serverLevel.sendParticles(
+            this.level().addParticle(
                 ParticleTypes.ENCHANT,
                 this.getX() + offsetX,
                 this.getY() + offsetY,
                 this.getZ() + offsetZ,
-                1,
-                0.0, 0.0, 0.0,
-                0.0
+                0.0, 0.0, 0.0
             );
         }
     }
@@ -346,6 +338,22 @@ public class ThoughtwellEntity extends BaseAnomalyEntity {
         return StrangeMatterSounds.THOUGHTWELL_LOOP.get().getLocation();
     }
     
+    @Override
+    protected int getLodFullDistance() {
+        return com.hexvane.strangematter.Config.thoughtwellLodFullDistance;
+    }
+    
+    @Override
+    protected int getLodSuspendDistance() {
+        return com.hexvane.strangematter.Config.thoughtwellLodSuspendDistance;
+    }
+    
+    @Override
+    protected void catchUpTicks(int skippedTicks) {
+        nauseaCooldown = Math.max(0, nauseaCooldown - skippedTicks);
+        confusionCooldown = Math.max(0, confusionCooldown - skippedTicks);
+    }
+    
     @Override
     protected ResearchType getResearchType() {
         return ResearchType.COGNITION;
@@ -389,7 +397,7 @@ public class ThoughtwellEntity extends BaseAnomalyEntity {
         java.util.Iterator<java.util.Map.Entry<java.util.UUID, Integer>> iterator = DISGUISE_DURATION_MAP.entrySet().iterator();
         while (iterator.hasNext()) {
             java.util.Map.Entry<java.util.UUID, Integer> entry = iterator.next();
-            int duration = entry.getValue() - 1;
+            int duration = entry.getValue() - getTicksThisPass();
             if (duration <= 0) {
                 // Remove expired disguise
                 java.util.UUID uuid = entry.getKey();
@@ -435,21 +443,8 @@ public class ThoughtwellEntity extends BaseAnomalyEntity {
         // Add some visual particles to indicate the cognitive effect
         if (this.level() instanceof net.minecraft.server.level.ServerLevel serverLevel) {
             // Spawn some cognitive distortion particles around the mob
-            for (int i = 0; i < 8; i++) {
-                double offsetX = (this.level().getRandom().nextDouble() - 0.5) * 3.0;
-                double offsetY = this.level().getRandom().nextDouble() * 2.0;
-                double offsetZ = (this.level().getRandom().nextDouble() - 0.5) * 3.0;
-                
-                serverLevel.sendParticles(
-                    net.minecraft.core.particles.ParticleTypes.ENCHANT,
-                    mob.getX() + offsetX,
-                    mob.getY() + offsetY,
-                    mob.getZ() + offsetZ,
-                    1,
-                    0.0, 0.0, 0.0,
-                    0.0
-                );
-            }
+            AnomalyParticles.burst(serverLevel, net.minecraft.core.particles.ParticleTypes.ENCHANT,
+                mob.getX(), mob.getY() + 1.0, mob.getZ(), 8, 0.9, 0.6, 0.9, 0.0);
         }
     }
     
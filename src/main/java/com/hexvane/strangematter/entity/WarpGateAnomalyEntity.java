@@ -451,22 +451,10 @@ public class WarpGateAnomalyEntity extends BaseAnomalyEntity {
     }
     
     private void spawnTeleportParticles(Vec3 pos) {
-        if (this.level().isClientSide) return;
+        if (!(this.level() instanceof ServerLevel serverLevel)) return;
         
         // Spawn ender particles at teleport location
-        for (int i = 0; i < 20; i++) {
-            double x = pos.x + (this.level().random.nextDouble() - 0.5) * 2.0;
-            double y = pos.y + this.level().random.nextDouble() * 2.0;
-            double z = pos.z + (this.level().random.nextDouble() - 0.5) * 2.0;
-            
-            this.level().addParticle(
-                ParticleTypes.PORTAL,
-                x, y, z,
-                (this.level().random.nextDouble() - 0.5) * 0.1,
-                this.level().random.nextDouble() * 0.1,
-                (this.level().random.nextDouble() - 0.5) * 0.1
-            );
-        }
+        AnomalyParticles.burst(serverLevel, ParticleTypes.PORTAL, pos.x, pos.y + 1.0, pos.z, 20, 0.5, 0.5, 0.5, 0.1);
     }
     
     private void performDirectTeleportation(Entity entity, ServerLevel serverLevel, Vec3 teleportPos) {
@@ -527,10 +515,8 @@ public class WarpGateAnomalyEntity extends BaseAnomalyEntity {
     
     @Override
     protected void spawnParticles() {
-        if (this.level().isClientSide) return;
-        
         // Spawn swirling portal particles
-        if (tickCount % 2 == 0) {
+        if (isPeriodDue(2)) {
             double radius = AURA_RADIUS;
             double angle = (tickCount * 0.1) % (2 * Math.PI);
             double x = this.getX() + Math.cos(angle) * radius;
@@ -547,7 +533,7 @@ public class WarpGateAnomalyEntity extends BaseAnomalyEntity {
         }
         
         // Spawn center vortex particles
-        if (tickCount % 5 == 0) {
+        if (isPeriodDue(5)) {
             for (int i = 0; i < 3; i++) {
                 double angle = (tickCount * 0.05 + i * Math.PI * 2 / 3) % (2 * Math.PI);
                 double radius = 1.0 + Math.sin(tickCount * 0.1) * 0.5;
@@ -564,7 +550,7 @@ public class WarpGateAnomalyEntity extends BaseAnomalyEntity {
         }
         
         // Spawn space tear effect particles
-        if (tickCount % 10 == 0) {
+        if (isPeriodDue(10)) {
             double x = this.getX() + (this.level().random.nextDouble() - 0.5) * 2.0;
             double y = this.getY() + this.level().random.nextDouble() * 2.0;
             double z = this.getZ() + (this.level().random.nextDouble() - 0.5) * 2.0;
@@ -590,6 +576,16 @@ public class WarpGateAnomalyEntity extends BaseAnomalyEntity {
         return com.hexvane.strangematter.sound.StrangeMatterSounds.WARP_GATE_LOOP.get().getLocation();
     }
     
+    @Override
+    protected int getLodFullDistance() {
+        return com.hexvane.strangematter.Config.warpLodFullDistance;
+    }
+    
+    @Override
+    protected int getLodSuspendDistance() {
+        return com.hexvane.strangematter.Config.warpLodSuspendDistance;
+    }
+    
     @Override
     protected ResearchType getResearchType() {
         return ResearchType.SPACE;
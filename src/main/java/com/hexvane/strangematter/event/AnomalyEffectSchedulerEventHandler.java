@@ -0,0 +1,30 @@
+package com.hexvane.strangematter.event;
+
+import com.hexvane.strangematter.StrangeMatterMod;
+import com.hexvane.strangematter.entity.AnomalyEffectScheduler;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+/**
+ * Refreshes each server level's anomaly heavy-work budget before its entities tick.
+ */
+@Mod.EventBusSubscriber(modid = StrangeMatterMod.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public class AnomalyEffectSchedulerEventHandler {
+
+    @SubscribeEvent
+    public static void onLevelTick(TickEvent.LevelTickEvent event) {
+        if (event.phase != TickEvent.Phase.START || !(event.level instanceof ServerLevel)) return;
+
+        AnomalyEffectScheduler.getIfPresent(event.level).ifPresent(AnomalyEffectScheduler::resetBudget);
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel().isClientSide()) return;
+
+        AnomalyEffectScheduler.unload(event.getLevel());
+    }
+}
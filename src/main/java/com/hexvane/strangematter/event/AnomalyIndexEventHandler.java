@@ -0,0 +1,46 @@
+package com.hexvane.strangematter.event;
+
+import com.hexvane.strangematter.StrangeMatterMod;
+import com.hexvane.strangematter.entity.AnomalyIndex;
+import com.hexvane.strangematter.entity.BaseAnomalyEntity;
+import net.minecraftforge.event.entity.EntityEvent;
+import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+/**
+ * Keeps each level's {@link AnomalyIndex} in step with the anomalies loaded in it.
+ */
+@Mod.EventBusSubscriber(modid = StrangeMatterMod.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public class AnomalyIndexEventHandler {
+
+    // Lowest priority so a join cancelled by another mod never reaches the index
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onEntityJoin(EntityJoinLevelEvent event) {
+        if (event.getEntity() instanceof BaseAnomalyEntity anomaly) {
+            AnomalyIndex.get(event.getLevel()).add(anomaly);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeave(EntityLeaveLevelEvent event) {
+        if (event.getEntity() instanceof BaseAnomalyEntity anomaly) {
+            AnomalyIndex.get(event.getLevel()).remove(anomaly);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEnteringSection(EntityEvent.EnteringSection event) {
+        if (event.getEntity() instanceof BaseAnomalyEntity anomaly) {
+            AnomalyIndex.get(anomaly.level()).move(anomaly, event.getPackedNewPos());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        AnomalyIndex.unload(event.getLevel());
+    }
+}
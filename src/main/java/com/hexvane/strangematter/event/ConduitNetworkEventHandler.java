@@ -0,0 +1,40 @@
+package com.hexvane.strangematter.event;
+
+import com.hexvane.strangematter.StrangeMatterMod;
+import com.hexvane.strangematter.energy.ConduitNetworkManager;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.level.ChunkEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+/**
+ * Drives the per-level {@link ConduitNetworkManager}: applies queued topology changes at the start of
+ * each server level tick, revalidates conduits in chunks that load, and drops the manager when its level unloads.
+ */
+@Mod.EventBusSubscriber(modid = StrangeMatterMod.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public class ConduitNetworkEventHandler {
+
+    @SubscribeEvent
+    public static void onLevelTick(TickEvent.LevelTickEvent event) {
+        if (event.phase != TickEvent.Phase.START || !(event.level instanceof ServerLevel)) return;
+
+        ConduitNetworkManager.getIfPresent(event.level).ifPresent(ConduitNetworkManager::tick);
+    }
+
+    @SubscribeEvent
+    public static void onChunkLoad(ChunkEvent.Load event) {
+        if (!(event.getLevel() instanceof ServerLevel serverLevel) || !(event.getChunk() instanceof LevelChunk chunk)) return;
+
+        ConduitNetworkManager.get(serverLevel).onChunkLoaded(chunk.getPos());
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel().isClientSide()) return;
+
+        ConduitNetworkManager.unload(event.getLevel());
+    }
+}
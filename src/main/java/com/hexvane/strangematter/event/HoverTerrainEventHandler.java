@@ -0,0 +1,19 @@
+package com.hexvane.strangematter.event;
+
+import com.hexvane.strangematter.StrangeMatterMod;
+import com.hexvane.strangematter.entity.HoverTerrainCache;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+/**
+ * Drops each level's hoverboard terrain registry when the level unloads, on either side.
+ */
+@Mod.EventBusSubscriber(modid = StrangeMatterMod.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public class HoverTerrainEventHandler {
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        HoverTerrainCache.unload(event.getLevel());
+    }
+}
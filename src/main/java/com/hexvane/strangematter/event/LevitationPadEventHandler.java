@@ -0,0 +1,21 @@
+package com.hexvane.strangematter.event;
+
+import com.hexvane.strangematter.StrangeMatterMod;
+import com.hexvane.strangematter.block.LevitationPadColumns;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+/**
+ * Drops each level's levitation pad column lookup when the level unloads.
+ */
+@Mod.EventBusSubscriber(modid = StrangeMatterMod.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public class LevitationPadEventHandler {
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel().isClientSide()) return;
+
+        LevitationPadColumns.unload(event.getLevel());
+    }
+}
@@ -0,0 +1,49 @@
+package com.hexvane.strangematter.event;
+
+import com.hexvane.strangematter.StrangeMatterMod;
+import com.hexvane.strangematter.block.PinnedEntityManager;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+/**
+ * Keeps each server level's {@link PinnedEntityManager} attached to loaded entities and corrects
+ * pinned entities after the level's entities have moved.
+ */
+@Mod.EventBusSubscriber(modid = StrangeMatterMod.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public class PinnedEntityEventHandler {
+
+    @SubscribeEvent
+    public static void onLevelTick(TickEvent.LevelTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || !(event.level instanceof ServerLevel)) return;
+
+        PinnedEntityManager.getIfPresent(event.level).ifPresent(PinnedEntityManager::tick);
+    }
+
+    // Lowest priority so a join cancelled by another mod is never attached
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onEntityJoin(EntityJoinLevelEvent event) {
+        if (event.getLevel().isClientSide()) return;
+
+        PinnedEntityManager.getIfPresent(event.getLevel()).ifPresent(pins -> pins.onEntityJoin(event.getEntity()));
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeave(EntityLeaveLevelEvent event) {
+        if (event.getLevel().isClientSide()) return;
+
+        PinnedEntityManager.getIfPresent(event.getLevel()).ifPresent(pins -> pins.onEntityLeave(event.getEntity()));
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel().isClientSide()) return;
+
+        PinnedEntityManager.unload(event.getLevel());
+    }
+}
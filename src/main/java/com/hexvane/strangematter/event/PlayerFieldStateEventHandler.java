@@ -0,0 +1,50 @@
+package com.hexvane.strangematter.event;
+
+import com.hexvane.strangematter.PlayerFieldState;
+import com.hexvane.strangematter.StrangeMatterMod;
+import com.hexvane.strangematter.network.PlayerFieldSyncPacket;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraftforge.event.AttachCapabilitiesEvent;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+/**
+ * Attaches {@link PlayerFieldState} to players and sends combined field changes to the client
+ * once per change, at the end of the player's server tick.
+ */
+@Mod.EventBusSubscriber(modid = StrangeMatterMod.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public class PlayerFieldStateEventHandler {
+
+    private static final ResourceLocation FIELD_STATE_ID = ResourceLocation.fromNamespaceAndPath(StrangeMatterMod.MODID, "field_state");
+
+    @SubscribeEvent
+    public static void onAttachCapabilities(AttachCapabilitiesEvent<Entity> event) {
+        if (!(event.getObject() instanceof Player)) return;
+
+        PlayerFieldState.Provider provider = new PlayerFieldState.Provider();
+        event.addCapability(FIELD_STATE_ID, provider);
+        event.addListener(provider::invalidate);
+    }
+
+    @SubscribeEvent
+    public static void onPlayerTick(TickEvent.PlayerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || !(event.player instanceof ServerPlayer serverPlayer)) return;
+
+        PlayerFieldState.get(serverPlayer).ifPresent(state -> {
+            if (state.consumeSyncPending()) {
+                PlayerFieldSyncPacket.send(serverPlayer, state);
+            }
+        });
+    }
+
+    @SubscribeEvent
+    public static void onPlayerChangedDimension(PlayerEvent.PlayerChangedDimensionEvent event) {
+        // Sources in the old dimension can't reach the player any more
+        PlayerFieldState.get(event.getEntity()).ifPresent(PlayerFieldState::clearAll);
+    }
+}
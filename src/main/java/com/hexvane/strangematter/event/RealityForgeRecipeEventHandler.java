@@ -0,0 +1,20 @@
+package com.hexvane.strangematter.event;
+
+import com.hexvane.strangematter.StrangeMatterMod;
+import com.hexvane.strangematter.recipe.RealityForgeRecipeRegistry;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+/**
+ * Rebuilds the Reality Forge recipe index after a datapack reload. Tags are bound after recipes
+ * are loaded, so this covers both new recipes and tag ingredients that now expand differently.
+ */
+@Mod.EventBusSubscriber(modid = StrangeMatterMod.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public class RealityForgeRecipeEventHandler {
+
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        RealityForgeRecipeRegistry.invalidateIndexes();
+    }
+}
@@ -0,0 +1,33 @@
+package com.hexvane.strangematter.event;
+
+import com.hexvane.strangematter.StrangeMatterMod;
+import com.hexvane.strangematter.entity.AnomalyIndex;
+import com.hexvane.strangematter.entity.TemporalBloomEntity;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.CropBlock;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.event.level.BlockEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+/**
+ * Tells nearby Temporal Blooms about newly planted crops so their crop caches don't wait for a rescan.
+ */
+@Mod.EventBusSubscriber(modid = StrangeMatterMod.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public class TemporalBloomEventHandler {
+
+    // Lowest priority so a placement cancelled by another mod is never recorded
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onBlockPlaced(BlockEvent.EntityPlaceEvent event) {
+        if (!(event.getLevel() instanceof ServerLevel level) || !(event.getPlacedBlock().getBlock() instanceof CropBlock)) return;
+
+        BlockPos pos = event.getPos();
+        // Blooms test the exact range themselves; the extra margin covers the +/-2 vertical reach
+        double searchRadius = com.hexvane.strangematter.Config.temporalEffectRadius + 3.0;
+        for (TemporalBloomEntity bloom : AnomalyIndex.get(level).getInRadius(TemporalBloomEntity.class, Vec3.atCenterOf(pos), searchRadius)) {
+            bloom.onCropPlaced(pos);
+        }
+    }
+}
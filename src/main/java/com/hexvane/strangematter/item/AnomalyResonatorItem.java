@@ -1,9 +1,8 @@
 package com.hexvane.strangematter.item;
 
 import com.hexvane.strangematter.StrangeMatterMod;
-import com.hexvane.strangematter.entity.GravityAnomalyEntity;
+import com.hexvane.strangematter.entity.AnomalyIndex;
 import com.hexvane.strangematter.entity.BaseAnomalyEntity;
-import com.hexvane.strangematter.entity.WarpGateAnomalyEntity;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
@@ -25,7 +24,9 @@ import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.util.Mth;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 public class AnomalyResonatorItem extends CompassItem {
@@ -101,40 +102,17 @@ public class AnomalyResonatorItem extends CompassItem {
         }
         
         Vec3 playerPos = player.position();
-        List<UUID> syncedAnomalies = getSyncedAnomalies(stack);
+        Set<UUID> synced = new HashSet<>(getSyncedAnomalies(stack));
         
-        // Search in a large radius around the player
+        // Search in a large area around the player
         AABB searchArea = new AABB(
             playerPos.x - 1000, playerPos.y - 100, playerPos.z - 1000,
             playerPos.x + 1000, playerPos.y + 100, playerPos.z + 1000
         );
         
-        // Search for all types of anomalies
-        List<BaseAnomalyEntity> anomalies = new java.util.ArrayList<>();
-        anomalies.addAll(serverLevel.getEntitiesOfClass(GravityAnomalyEntity.class, searchArea));
-        anomalies.addAll(serverLevel.getEntitiesOfClass(WarpGateAnomalyEntity.class, searchArea));
-        anomalies.addAll(serverLevel.getEntitiesOfClass(com.hexvane.strangematter.entity.EnergeticRiftEntity.class, searchArea));
-        anomalies.addAll(serverLevel.getEntitiesOfClass(com.hexvane.strangematter.entity.TemporalBloomEntity.class, searchArea));
-        anomalies.addAll(serverLevel.getEntitiesOfClass(com.hexvane.strangematter.entity.ThoughtwellEntity.class, searchArea));
-        anomalies.addAll(serverLevel.getEntitiesOfClass(com.hexvane.strangematter.entity.EchoingShadowEntity.class, searchArea));
-        
-        BaseAnomalyEntity nearest = null;
-        double nearestDistance = Double.MAX_VALUE;
-        
-        for (BaseAnomalyEntity anomaly : anomalies) {
-            // Skip if already synced
-            if (syncedAnomalies.contains(anomaly.getUUID())) {
-                continue;
-            }
-            
-            double distance = playerPos.distanceTo(anomaly.position());
-            if (distance < nearestDistance) {
-                nearest = anomaly;
-                nearestDistance = distance;
-            }
-        }
-        
-        return nearest;
+        return AnomalyIndex.get(serverLevel)
+            .findNearest(BaseAnomalyEntity.class, playerPos, searchArea, anomaly -> !synced.contains(anomaly.getUUID()))
+            .orElse(null);
     }
     
     private void syncWithAnomaly(ItemStack stack, BaseAnomalyEntity anomaly) {
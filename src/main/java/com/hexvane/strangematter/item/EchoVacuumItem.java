@@ -10,6 +10,7 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.core.BlockPos;
+import com.hexvane.strangematter.entity.AnomalyIndex;
 import com.hexvane.strangematter.entity.BaseAnomalyEntity;
 import com.hexvane.strangematter.entity.GravityAnomalyEntity;
 import com.hexvane.strangematter.entity.EnergeticRiftEntity;
@@ -185,12 +186,12 @@ public class EchoVacuumItem extends Item {
         AABB beamBox = new AABB(startPos, endPos).inflate(BEAM_WIDTH);
         
         // Find anomalies in beam path
-        List<Entity> entities = level.getEntities(player, beamBox);
+        List<BaseAnomalyEntity> anomalies = AnomalyIndex.get(level).getInBox(BaseAnomalyEntity.class, beamBox);
         BaseAnomalyEntity targetAnomaly = null;
         double closestDistance = Double.MAX_VALUE;
         
-        for (Entity entity : entities) {
-            if (entity instanceof BaseAnomalyEntity anomaly && !anomaly.isContained()) {
+        for (BaseAnomalyEntity anomaly : anomalies) {
+            if (!anomaly.isContained()) {
                 // Check if anomaly is already being targeted by someone else
                 Player currentTargeter = targetedAnomalies.get(anomaly);
                 if (currentTargeter != null && currentTargeter != player) {
@@ -198,8 +199,8 @@ public class EchoVacuumItem extends Item {
                 }
                 
                 // Check if anomaly is actually in the beam path (not just in AABB)
-                double distance = entity.distanceTo(player);
-                Vec3 entityPos = entity.position();
+                double distance = anomaly.distanceTo(player);
+                Vec3 entityPos = anomaly.position();
                 Vec3 toEntity = entityPos.subtract(startPos);
                 double dotProduct = toEntity.normalize().dot(lookDirection);
                 
@@ -124,15 +124,4 @@ public abstract class BaseMachineMenu extends AbstractContainerMenu {
     public int getMachineSlotCount() {
         return this.machineSlotCount;
     }
-    
-    @Override
-    public void broadcastChanges() {
-        super.broadcastChanges();
-        if (this.machineInventory != null && this.machineInventory instanceof com.hexvane.strangematter.api.block.entity.IPacketHandlerTile packetHandler) {
-            // Use the base packet system for all machines
-            if (packetHandler instanceof com.hexvane.strangematter.block.BaseMachineBlockEntity machineEntity) {
-                machineEntity.sendStatePacket();
-            }
-        }
-    }
 }
@@ -4,15 +4,14 @@ import com.hexvane.strangematter.StrangeMatterMod;
 import com.hexvane.strangematter.block.RealityForgeBlockEntity;
 import com.hexvane.strangematter.menu.slots.OutputSlot;
 import com.hexvane.strangematter.menu.slots.ShardSlot;
+import com.hexvane.strangematter.recipe.ShardType;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.*;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import java.util.Map;
 import java.util.List;
-import java.util.HashMap;
 import java.util.ArrayList;
 import net.minecraft.world.inventory.ContainerData;
 
@@ -233,14 +232,14 @@ public class RealityForgeMenu extends BaseMachineMenu {
         return 0;
     }
     
-    public Map<String, Integer> getStoredShards() {
+    public int getStoredShardCount(ShardType type) {
         if (blockEntity != null) {
-            return blockEntity.getStoredShards();
+            return blockEntity.getStoredShardCount(type);
         }
-        return new HashMap<>();
+        return 0;
     }
     
-    public List<String> getShardOrder() {
+    public List<ShardType> getShardOrder() {
         if (blockEntity != null) {
             return blockEntity.getShardOrder();
         }
@@ -0,0 +1,17 @@
+package com.hexvane.strangematter.mixin;
+
+import net.minecraft.world.level.block.CropBlock;
+import net.minecraft.world.level.block.state.properties.IntegerProperty;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Invoker;
+
+/**
+ * Accessor for the protected {@code CropBlock#getAgeProperty}, so callers get the (possibly overridden)
+ * age property with a plain virtual call instead of reflection.
+ */
+@Mixin(CropBlock.class)
+public interface CropBlockAccessor {
+    
+    @Invoker("getAgeProperty")
+    IntegerProperty strangematter$getAgeProperty();
+}
@@ -0,0 +1,24 @@
+package com.hexvane.strangematter.mixin;
+
+import com.hexvane.strangematter.entity.HoverTerrainCache;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Mixin to forward client block state changes to the hoverboards sampling the terrain around them.
+ * ServerLevel overrides onBlockStateChange without calling up, so this only runs for client levels;
+ * server levels are covered by ServerLevelMixin.
+ */
+@Mixin(Level.class)
+public abstract class LevelMixin {
+    
+    @Inject(method = "onBlockStateChange", at = @At("HEAD"))
+    private void strangematter$onBlockStateChange(BlockPos pos, BlockState oldState, BlockState newState, CallbackInfo ci) {
+        HoverTerrainCache.onBlockChanged((Level) (Object) this, pos);
+    }
+}
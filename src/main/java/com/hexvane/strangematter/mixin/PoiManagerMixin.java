@@ -0,0 +1,40 @@
+package com.hexvane.strangematter.mixin;
+
+import com.hexvane.strangematter.entity.EnergeticRiftEntity;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
+import net.minecraft.world.entity.ai.village.poi.PoiManager;
+import net.minecraft.world.entity.ai.village.poi.PoiType;
+import net.minecraft.world.entity.ai.village.poi.PoiTypes;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import java.util.Optional;
+
+/**
+ * Mixin to tell Energetic Rifts when a lightning rod point of interest is added or removed,
+ * so their cached rod lookups are refreshed instead of polling the POI manager.
+ */
+@Mixin(PoiManager.class)
+public abstract class PoiManagerMixin {
+    
+    @Shadow
+    public abstract Optional<Holder<PoiType>> getType(BlockPos pos);
+    
+    @Inject(method = "add", at = @At("HEAD"))
+    private void strangematter$onAdd(BlockPos pos, Holder<PoiType> type, CallbackInfo ci) {
+        if (type.is(PoiTypes.LIGHTNING_ROD)) {
+            EnergeticRiftEntity.invalidateLightningRodCache();
+        }
+    }
+    
+    @Inject(method = "remove", at = @At("HEAD"))
+    private void strangematter$onRemove(BlockPos pos, CallbackInfo ci) {
+        if (getType(pos).filter(type -> type.is(PoiTypes.LIGHTNING_ROD)).isPresent()) {
+            EnergeticRiftEntity.invalidateLightningRodCache();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.hexvane.strangematter.mixin;
+
+import com.hexvane.strangematter.block.LevitationPadColumns;
+import com.hexvane.strangematter.entity.HoverTerrainCache;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.state.BlockState;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Mixin to forward server block state changes to the levitation pads whose beam column they fall in,
+ * so pads can cache their column height instead of walking it every few ticks, and to hoverboards
+ * sampling the terrain around them (client levels are covered by LevelMixin).
+ */
+@Mixin(ServerLevel.class)
+public abstract class ServerLevelMixin {
+    
+    @Inject(method = "onBlockStateChange", at = @At("HEAD"))
+    private void strangematter$onBlockStateChange(BlockPos pos, BlockState oldState, BlockState newState, CallbackInfo ci) {
+        LevitationPadColumns.getIfPresent((ServerLevel) (Object) this).ifPresent(columns -> columns.onBlockChanged(pos));
+        HoverTerrainCache.onBlockChanged((ServerLevel) (Object) this, pos);
+    }
+}
@@ -3,14 +3,18 @@ package com.hexvane.strangematter.network;
 import com.hexvane.strangematter.api.block.entity.IPacketHandlerTile;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.FriendlyByteBuf;
-import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.fml.DistExecutor;
 import net.minecraftforge.network.NetworkEvent;
+import net.minecraftforge.network.PacketDistributor;
 
 import java.util.function.Supplier;
 
 /**
- * Packet for synchronizing machine state between server and client.
+ * Packet for synchronizing machine state from server to client.
+ * The payload is whatever the tile wrote in its state format (see BaseMachineBlockEntity: a field
+ * mask followed by the changed fields as varints), so an energy-only update is a handful of bytes.
  */
 public class MachineStatePacket {
     private final BlockPos pos;
@@ -23,39 +27,52 @@ public class MachineStatePacket {
 
     public static void encode(MachineStatePacket packet, FriendlyByteBuf buffer) {
         buffer.writeBlockPos(packet.pos);
-        buffer.writeBytes(packet.data);
+        // Don't move the reader index - the same packet may be encoded once per connection
+        buffer.writeBytes(packet.data, packet.data.readerIndex(), packet.data.readableBytes());
     }
 
     public static MachineStatePacket decode(FriendlyByteBuf buffer) {
         BlockPos pos = buffer.readBlockPos();
-        FriendlyByteBuf data = new FriendlyByteBuf(buffer.readBytes(buffer.readableBytes()));
+        // Copy out rather than readBytes(int), which allocates a pooled buffer nothing would release
+        byte[] bytes = new byte[buffer.readableBytes()];
+        buffer.readBytes(bytes);
+        FriendlyByteBuf data = new FriendlyByteBuf(io.netty.buffer.Unpooled.wrappedBuffer(bytes));
         return new MachineStatePacket(pos, data);
     }
 
     public static void handle(MachineStatePacket packet, Supplier<NetworkEvent.Context> contextSupplier) {
         NetworkEvent.Context context = contextSupplier.get();
         context.enqueueWork(() -> {
-            // Handle on client side
-            Level world = context.getSender() != null ? context.getSender().level() : null;
-            if (world != null) {
-                BlockEntity blockEntity = world.getBlockEntity(packet.pos);
-                if (blockEntity instanceof IPacketHandlerTile handlerTile) {
-                    handlerTile.handleStatePacket(packet.data);
-                }
-            }
+            if (!context.getDirection().getReceptionSide().isClient()) return;
+
+            DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () ->
+                com.hexvane.strangematter.client.network.ClientPacketHandlers.handleMachineState(packet.pos, packet.data)
+            );
         });
         context.setPacketHandled(true);
     }
 
+    /**
+     * Send the tile's full state to every player tracking its chunk
+     */
     public static void sendToClient(IPacketHandlerTile tile) {
-        if (tile == null || !(tile instanceof BlockEntity blockEntity)) {
+        if (!(tile instanceof BlockEntity blockEntity)) {
             return;
         }
+        FriendlyByteBuf buffer = new FriendlyByteBuf(io.netty.buffer.Unpooled.buffer());
+        sendToTracking(blockEntity, tile.getStatePacket(buffer));
+    }
+
+    /**
+     * Send already-encoded state data to every player tracking the block entity's chunk
+     */
+    public static void sendToTracking(BlockEntity blockEntity, FriendlyByteBuf data) {
         if (blockEntity.getLevel() == null || blockEntity.getLevel().isClientSide) {
             return;
         }
-        FriendlyByteBuf buffer = new FriendlyByteBuf(io.netty.buffer.Unpooled.buffer());
-        MachineStatePacket packet = new MachineStatePacket(blockEntity.getBlockPos(), tile.getStatePacket(buffer));
-        // TODO: Register and send packet through Forge network system
+        NetworkHandler.INSTANCE.send(
+            PacketDistributor.TRACKING_CHUNK.with(() -> blockEntity.getLevel().getChunkAt(blockEntity.getBlockPos())),
+            new MachineStatePacket(blockEntity.getBlockPos(), data)
+        );
     }
 }
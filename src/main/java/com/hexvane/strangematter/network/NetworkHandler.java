@@ -6,7 +6,8 @@ import net.minecraftforge.network.NetworkRegistry;
 import net.minecraftforge.network.simple.SimpleChannel;
 
 public class NetworkHandler {
-    private static final String PROTOCOL_VERSION = "1";
+    // Bump whenever packets are added, removed, reordered or change format
+    private static final String PROTOCOL_VERSION = "2";
     public static final SimpleChannel INSTANCE = NetworkRegistry.newSimpleChannel(
         ResourceLocation.fromNamespaceAndPath(StrangeMatterMod.MODID, "main"),
         () -> PROTOCOL_VERSION,
@@ -57,15 +58,10 @@ public class NetworkHandler {
             RequestResearchMachineStatePacket::decode,
             RequestResearchMachineStatePacket::handle);
             
-        INSTANCE.registerMessage(packetId++, GravitySyncPacket.class,
-            GravitySyncPacket::encode,
-            GravitySyncPacket::new,
-            GravitySyncPacket::handle);
-            
-        INSTANCE.registerMessage(packetId++, TimeDilationSyncPacket.class,
-            TimeDilationSyncPacket::encode,
-            TimeDilationSyncPacket::new,
-            TimeDilationSyncPacket::handle);
+        INSTANCE.registerMessage(packetId++, PlayerFieldSyncPacket.class,
+            PlayerFieldSyncPacket::encode,
+            PlayerFieldSyncPacket::new,
+            PlayerFieldSyncPacket::handle);
         
         INSTANCE.registerMessage(packetId++, WarpGunShootPacket.class,
             WarpGunShootPacket::encode,
@@ -96,5 +92,10 @@ public class NetworkHandler {
             HoverboardJumpPacket::encode,
             HoverboardJumpPacket::new,
             HoverboardJumpPacket::handle);
+            
+        INSTANCE.registerMessage(packetId++, MachineStatePacket.class,
+            MachineStatePacket::encode,
+            MachineStatePacket::decode,
+            MachineStatePacket::handle);
     }
 }
@@ -1,24 +1,35 @@
 package com.hexvane.strangematter.network;
 
+import com.hexvane.strangematter.PlayerFieldState;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.fml.DistExecutor;
 import net.minecraftforge.network.NetworkEvent;
+import net.minecraftforge.network.PacketDistributor;
 
 import java.util.function.Supplier;
 
-public class TimeDilationSyncPacket {
+/**
+ * Sends a player's combined field effects (gravity force and time dilation slowdown) to their client.
+ * Only sent when one of the combined values changes.
+ */
+public class PlayerFieldSyncPacket {
+    private final double gravityForce;
     private final double slowdownFactor;
     
-    public TimeDilationSyncPacket(double slowdownFactor) {
+    public PlayerFieldSyncPacket(double gravityForce, double slowdownFactor) {
+        this.gravityForce = gravityForce;
         this.slowdownFactor = slowdownFactor;
     }
     
-    public TimeDilationSyncPacket(FriendlyByteBuf buffer) {
+    public PlayerFieldSyncPacket(FriendlyByteBuf buffer) {
+        this.gravityForce = buffer.readDouble();
         this.slowdownFactor = buffer.readDouble();
     }
     
     public void encode(FriendlyByteBuf buffer) {
+        buffer.writeDouble(this.gravityForce);
         buffer.writeDouble(this.slowdownFactor);
     }
     
@@ -27,16 +38,17 @@ public class TimeDilationSyncPacket {
         
         context.enqueueWork(() -> {
             if (context.getDirection().getReceptionSide().isClient()) {
+                double force = this.gravityForce;
                 double factor = this.slowdownFactor;
                 DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () ->
-                    com.hexvane.strangematter.client.network.ClientPacketHandlers.handleTimeDilationSync(factor));
+                    com.hexvane.strangematter.client.network.ClientPacketHandlers.handlePlayerFieldSync(force, factor));
             }
         });
         context.setPacketHandled(true);
     }
     
-    public double getSlowdownFactor() {
-        return slowdownFactor;
+    public static void send(ServerPlayer player, PlayerFieldState state) {
+        NetworkHandler.INSTANCE.send(PacketDistributor.PLAYER.with(() -> player),
+            new PlayerFieldSyncPacket(state.getGravityForce(), state.getSlowdownFactor()));
     }
 }
-
@@ -2,6 +2,7 @@ package com.hexvane.strangematter.recipe;
 
 import com.google.gson.JsonObject;
 import com.hexvane.strangematter.block.RealityForgeBlockEntity;
+import com.mojang.logging.LogUtils;
 import net.minecraft.core.NonNullList;
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.network.FriendlyByteBuf;
@@ -13,18 +14,23 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.*;
 import net.minecraft.world.level.Level;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import org.slf4j.Logger;
 
 public class RealityForgeRecipe implements Recipe<Container> {
     
+    private static final Logger LOGGER = LogUtils.getLogger();
+    
     private final ResourceLocation id;
     private final ItemStack result;
     private final NonNullList<Ingredient> ingredients;
-    private final Map<String, Integer> shardRequirements;
+    // Required count per ShardType ordinal
+    private final int[] shardRequirements;
     private final String requiredResearch;
     
-    public RealityForgeRecipe(ResourceLocation id, ItemStack result, NonNullList<Ingredient> ingredients, Map<String, Integer> shardRequirements, String requiredResearch) {
+    public RealityForgeRecipe(ResourceLocation id, ItemStack result, NonNullList<Ingredient> ingredients, int[] shardRequirements, String requiredResearch) {
         this.id = id;
         this.result = result;
         this.ingredients = ingredients;
@@ -43,15 +49,7 @@ public class RealityForgeRecipe implements Recipe<Container> {
         
         // Check shard requirements
         if (container instanceof RealityForgeBlockEntity realityForge) {
-            Map<String, Integer> storedShards = realityForge.getStoredShards();
-            for (Map.Entry<String, Integer> requirement : shardRequirements.entrySet()) {
-                String shardType = requirement.getKey();
-                int required = requirement.getValue();
-                int available = storedShards.getOrDefault(shardType, 0);
-                if (available < required) {
-                    return false;
-                }
-            }
+            return realityForge.hasShards(shardRequirements);
         }
         
         return true;
@@ -101,8 +99,28 @@ public class RealityForgeRecipe implements Recipe<Container> {
         return com.hexvane.strangematter.StrangeMatterMod.REALITY_FORGE_RECIPE_TYPE.get();
     }
     
+    /**
+     * Required count per {@link ShardType} ordinal. Do not modify.
+     */
+    public int[] getShardCounts() {
+        return shardRequirements;
+    }
+    
+    public int getShardCount(ShardType type) {
+        return shardRequirements[type.ordinal()];
+    }
+    
+    /**
+     * Shard requirements by shard name, for display
+     */
     public Map<String, Integer> getShardRequirements() {
-        return new HashMap<>(shardRequirements);
+        Map<String, Integer> requirements = new LinkedHashMap<>();
+        for (ShardType type : ShardType.VALUES) {
+            if (shardRequirements[type.ordinal()] > 0) {
+                requirements.put(type.getName(), shardRequirements[type.ordinal()]);
+            }
+        }
+        return Collections.unmodifiableMap(requirements);
     }
     
     public NonNullList<Ingredient> getIngredients() {
@@ -143,11 +161,18 @@ public class RealityForgeRecipe implements Recipe<Container> {
                 }
             }
             
-            Map<String, Integer> shardRequirements = new HashMap<>();
+            int[] shardRequirements = new int[ShardType.COUNT];
             if (json.has("shards")) {
                 JsonObject shards = GsonHelper.getAsJsonObject(json, "shards");
                 for (String key2 : shards.keySet()) {
-                    shardRequirements.put(key2, GsonHelper.getAsInt(shards, key2));
+                    ShardType type = ShardType.byName(key2);
+                    if (type == null) {
+                        // No forge could ever hold this shard, so the recipe could never be crafted - leave it out
+                        // instead of failing the load, which would break datapacks that used to load
+                        LOGGER.warn("Skipping Reality Forge recipe {}: unknown shard type '{}'", recipeId, key2);
+                        return null;
+                    }
+                    shardRequirements[type.ordinal()] += GsonHelper.getAsInt(shards, key2);
                 }
             }
             
@@ -169,13 +194,7 @@ public class RealityForgeRecipe implements Recipe<Container> {
                 ingredients.set(i, Ingredient.fromNetwork(buffer));
             }
             
-            Map<String, Integer> shardRequirements = new HashMap<>();
-            int shardCount = buffer.readInt();
-            for (int i = 0; i < shardCount; i++) {
-                String shardType = buffer.readUtf();
-                int amount = buffer.readInt();
-                shardRequirements.put(shardType, amount);
-            }
+            int[] shardRequirements = buffer.readVarIntArray(ShardType.COUNT);
             
             // Read research requirement
             String requiredResearch = null;
@@ -194,11 +213,7 @@ public class RealityForgeRecipe implements Recipe<Container> {
                 ingredient.toNetwork(buffer);
             }
             
-            buffer.writeInt(recipe.shardRequirements.size());
-            for (Map.Entry<String, Integer> entry : recipe.shardRequirements.entrySet()) {
-                buffer.writeUtf(entry.getKey());
-                buffer.writeInt(entry.getValue());
-            }
+            buffer.writeVarIntArray(recipe.shardRequirements);
             
             // Write research requirement
             if (recipe.requiredResearch != null) {
@@ -0,0 +1,90 @@
+package com.hexvane.strangematter.recipe;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.Container;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.RecipeManager;
+
+import java.util.*;
+
+/**
+ * Lookup table for Reality Forge recipes, built once per recipe reload.
+ * Forge recipes are shaped 3x3 grids where empty ingredients only accept empty slots, so a recipe can only
+ * match a grid with exactly the same occupied slots. Recipes are bucketed by that occupancy mask and then by
+ * the items their first occupied slot accepts (tags expanded), leaving a handful of candidates for the full
+ * {@link RealityForgeRecipe#matches} check.
+ */
+public class RealityForgeRecipeIndex {
+
+    private static final int GRID_SIZE = 9;
+
+    private final Int2ObjectOpenHashMap<Map<Item, List<RealityForgeRecipe>>> byMask = new Int2ObjectOpenHashMap<>();
+    private final Map<ResourceLocation, RealityForgeRecipe> byId = new HashMap<>();
+
+    RealityForgeRecipeIndex(RecipeManager recipeManager) {
+        var recipeType = com.hexvane.strangematter.StrangeMatterMod.REALITY_FORGE_RECIPE_TYPE.get();
+        for (RealityForgeRecipe recipe : recipeManager.getAllRecipesFor(recipeType)) {
+            add(recipe);
+        }
+    }
+
+    private void add(RealityForgeRecipe recipe) {
+        byId.put(recipe.getId(), recipe);
+
+        var ingredients = recipe.getIngredients();
+        int mask = 0;
+        int firstSlot = -1;
+        for (int i = 0; i < GRID_SIZE; i++) {
+            if (!ingredients.get(i).isEmpty()) {
+                mask |= 1 << i;
+                if (firstSlot < 0) firstSlot = i;
+            }
+        }
+
+        Map<Item, List<RealityForgeRecipe>> byItem = byMask.computeIfAbsent(mask, m -> new HashMap<>());
+        if (firstSlot < 0) {
+            // Shards-only recipe with an empty grid
+            byItem.computeIfAbsent(null, i -> new ArrayList<>()).add(recipe);
+            return;
+        }
+
+        Ingredient key = ingredients.get(firstSlot);
+        for (ItemStack stack : key.getItems()) {
+            List<RealityForgeRecipe> bucket = byItem.computeIfAbsent(stack.getItem(), i -> new ArrayList<>());
+            if (!bucket.contains(recipe)) {
+                bucket.add(recipe);
+            }
+        }
+    }
+
+    /**
+     * Recipes whose grid shape and first ingredient fit the container; these still need a full match
+     */
+    public List<RealityForgeRecipe> getCandidates(Container container) {
+        int mask = 0;
+        Item firstItem = null;
+        for (int i = 0; i < GRID_SIZE; i++) {
+            ItemStack stack = container.getItem(i);
+            if (!stack.isEmpty()) {
+                mask |= 1 << i;
+                if (firstItem == null) firstItem = stack.getItem();
+            }
+        }
+
+        Map<Item, List<RealityForgeRecipe>> byItem = byMask.get(mask);
+        if (byItem == null) {
+            return List.of();
+        }
+        return byItem.getOrDefault(firstItem, List.of());
+    }
+
+    /**
+     * Whether the recipe instance belongs to the recipe set this index was built from
+     */
+    public boolean contains(RealityForgeRecipe recipe) {
+        return byId.get(recipe.getId()) == recipe;
+    }
+}
@@ -3,33 +3,45 @@ package com.hexvane.strangematter.recipe;
 import com.hexvane.strangematter.StrangeMatterMod;
 import com.hexvane.strangematter.block.RealityForgeBlockEntity;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.level.Level;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 public class RealityForgeRecipeRegistry {
     
     private static final List<RealityForgeRecipe> recipes = new ArrayList<>();
+    private static final Map<RecipeManager, RealityForgeRecipeIndex> indexes = new WeakHashMap<>();
     
     public static void register(RealityForgeRecipe recipe) {
         recipes.add(recipe);
     }
     
     public static RealityForgeRecipe findMatchingRecipe(RealityForgeBlockEntity blockEntity) {
+        return findMatchingRecipe(blockEntity, null);
+    }
+    
+    /**
+     * Find the recipe matching the forge's grid and shards, trying {@code lastMatch} (the forge's previous
+     * result) before the index. Callers should hold on to the returned recipe and pass it back next time.
+     */
+    public static RealityForgeRecipe findMatchingRecipe(RealityForgeBlockEntity blockEntity, RealityForgeRecipe lastMatch) {
         Level level = blockEntity.getLevel();
         if (level == null) {
-            System.out.println("DEBUG: findMatchingRecipe - level is null");
             return null;
         }
         
-        // Use Minecraft's recipe manager to find matching recipes
-        var recipeManager = level.getRecipeManager();
-        var recipeType = com.hexvane.strangematter.StrangeMatterMod.REALITY_FORGE_RECIPE_TYPE.get();
+        RealityForgeRecipeIndex index = getIndex(level.getRecipeManager());
         
-        var allRecipes = recipeManager.getAllRecipesFor(recipeType);
+        // Fast path: same recipe as last time (ignored if it's from before a reload)
+        if (lastMatch != null && index.contains(lastMatch) && lastMatch.matches(blockEntity, level)) {
+            return lastMatch;
+        }
         
-        for (var recipe : allRecipes) {
+        for (RealityForgeRecipe recipe : index.getCandidates(blockEntity)) {
             if (recipe.matches(blockEntity, level)) {
                 return recipe;
             }
@@ -37,6 +49,22 @@ public class RealityForgeRecipeRegistry {
         return null;
     }
     
+    private static RealityForgeRecipeIndex getIndex(RecipeManager recipeManager) {
+        // Client and integrated server have separate recipe managers, each gets its own index
+        synchronized (indexes) {
+            return indexes.computeIfAbsent(recipeManager, RealityForgeRecipeIndex::new);
+        }
+    }
+    
+    /**
+     * Drop all recipe indexes; they are rebuilt on next lookup. Call whenever recipes or tags reload.
+     */
+    public static void invalidateIndexes() {
+        synchronized (indexes) {
+            indexes.clear();
+        }
+    }
+    
     public static List<RealityForgeRecipe> getAllRecipes() {
         return new ArrayList<>(recipes);
     }
@@ -0,0 +1,96 @@
+package com.hexvane.strangematter.recipe;
+
+import com.hexvane.strangematter.StrangeMatterMod;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.registries.RegistryObject;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shard types accepted by the Reality Forge. Stored shards and recipe requirements are kept as
+ * {@code int[COUNT]} arrays indexed by ordinal, so add new types at the end to keep saved forges valid.
+ */
+public enum ShardType {
+    ENERGETIC("energetic", StrangeMatterMod.ENERGETIC_SHARD),
+    GRAVITIC("gravitic", StrangeMatterMod.GRAVITIC_SHARD, "gravity"),
+    CHRONO("chrono", StrangeMatterMod.CHRONO_SHARD, "temporal"),
+    SPATIAL("spatial", StrangeMatterMod.SPATIAL_SHARD),
+    SHADE("shade", StrangeMatterMod.SHADE_SHARD, "shadow"),
+    INSIGHT("insight", StrangeMatterMod.INSIGHT_SHARD, "cognition", "cognitive");
+
+    public static final ShardType[] VALUES = values();
+    public static final int COUNT = VALUES.length;
+
+    private static final Map<String, ShardType> BY_NAME = new HashMap<>();
+
+    static {
+        for (ShardType type : VALUES) {
+            BY_NAME.put(type.name, type);
+            for (String alias : type.aliases) {
+                BY_NAME.put(alias, type);
+            }
+        }
+    }
+
+    private final String name;
+    private final RegistryObject<Item> item;
+    private final String[] aliases;
+
+    ShardType(String name, RegistryObject<Item> item, String... aliases) {
+        this.name = name;
+        this.item = item;
+        this.aliases = aliases;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Item getItem() {
+        return item.get();
+    }
+
+    public ItemStack createStack(int count) {
+        return new ItemStack(item.get(), count);
+    }
+
+    /**
+     * Look up a shard type by its recipe name or one of its aliases, or null if unknown
+     */
+    public static ShardType byName(String name) {
+        return BY_NAME.get(name);
+    }
+
+    /**
+     * The shard type of an item stack, or null if it isn't a shard
+     */
+    public static ShardType fromStack(ItemStack stack) {
+        if (stack.isEmpty()) return null;
+
+        Item stackItem = stack.getItem();
+        for (ShardType type : VALUES) {
+            if (type.item.get() == stackItem) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    public static ShardType byOrdinal(int ordinal) {
+        return ordinal >= 0 && ordinal < COUNT ? VALUES[ordinal] : null;
+    }
+
+    /**
+     * Whether {@code available} holds at least {@code required} of every shard type
+     */
+    public static boolean covers(int[] available, int[] required) {
+        for (int i = 0; i < COUNT; i++) {
+            if (available[i] < required[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
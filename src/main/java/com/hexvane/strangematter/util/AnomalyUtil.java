@@ -1,18 +1,18 @@
 package com.hexvane.strangematter.util;
 
+import com.hexvane.strangematter.entity.AnomalyIndex;
 import com.hexvane.strangematter.entity.BaseAnomalyEntity;
 import com.hexvane.strangematter.entity.EnergeticRiftEntity;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
  * Utility class for working with anomalies.
  * Provides helper functions for detecting and interacting with nearby anomalies.
+ * Lookups go through the level's {@link AnomalyIndex}.
  */
 public class AnomalyUtil {
     
@@ -24,24 +24,7 @@ public class AnomalyUtil {
      * @return Optional containing the nearest Energetic Rift, or empty if none found
      */
     public static Optional<EnergeticRiftEntity> findNearestEnergeticRift(Level level, BlockPos pos, double radius) {
-        Vec3 centerPos = Vec3.atCenterOf(pos);
-        double diameter = radius * 2;
-        AABB searchArea = AABB.ofSize(centerPos, diameter, diameter, diameter);
-        
-        List<EnergeticRiftEntity> rifts = level.getEntitiesOfClass(EnergeticRiftEntity.class, searchArea);
-        
-        EnergeticRiftEntity nearest = null;
-        double nearestDistance = radius + 1; // Start with a distance greater than radius
-        
-        for (EnergeticRiftEntity rift : rifts) {
-            double distance = centerPos.distanceTo(rift.position());
-            if (distance <= radius && distance < nearestDistance) {
-                nearest = rift;
-                nearestDistance = distance;
-            }
-        }
-        
-        return Optional.ofNullable(nearest);
+        return AnomalyIndex.get(level).findNearest(EnergeticRiftEntity.class, Vec3.atCenterOf(pos), radius);
     }
     
     /**
@@ -52,24 +35,7 @@ public class AnomalyUtil {
      * @return Optional containing the nearest anomaly, or empty if none found
      */
     public static Optional<BaseAnomalyEntity> findNearestAnomaly(Level level, BlockPos pos, double radius) {
-        Vec3 centerPos = Vec3.atCenterOf(pos);
-        double diameter = radius * 2;
-        AABB searchArea = AABB.ofSize(centerPos, diameter, diameter, diameter);
-        
-        List<BaseAnomalyEntity> anomalies = level.getEntitiesOfClass(BaseAnomalyEntity.class, searchArea);
-        
-        BaseAnomalyEntity nearest = null;
-        double nearestDistance = radius + 1;
-        
-        for (BaseAnomalyEntity anomaly : anomalies) {
-            double distance = centerPos.distanceTo(anomaly.position());
-            if (distance <= radius && distance < nearestDistance) {
-                nearest = anomaly;
-                nearestDistance = distance;
-            }
-        }
-        
-        return Optional.ofNullable(nearest);
+        return AnomalyIndex.get(level).findNearest(BaseAnomalyEntity.class, Vec3.atCenterOf(pos), radius);
     }
     
     /**
@@ -80,21 +46,7 @@ public class AnomalyUtil {
      * @return The number of Energetic Rifts within range
      */
     public static int countEnergeticRiftsInRange(Level level, BlockPos pos, double radius) {
-        Vec3 centerPos = Vec3.atCenterOf(pos);
-        double diameter = radius * 2;
-        AABB searchArea = AABB.ofSize(centerPos, diameter, diameter, diameter);
-        
-        List<EnergeticRiftEntity> rifts = level.getEntitiesOfClass(EnergeticRiftEntity.class, searchArea);
-        
-        int count = 0;
-        for (EnergeticRiftEntity rift : rifts) {
-            double distance = centerPos.distanceTo(rift.position());
-            if (distance <= radius) {
-                count++;
-            }
-        }
-        
-        return count;
+        return AnomalyIndex.get(level).getInRadius(EnergeticRiftEntity.class, Vec3.atCenterOf(pos), radius).size();
     }
     
     /**